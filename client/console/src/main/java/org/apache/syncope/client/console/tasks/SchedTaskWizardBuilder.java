@@ -32,6 +32,7 @@ import org.apache.syncope.client.console.wicket.ajax.form.IndicatorAjaxFormCompo
 import org.apache.syncope.client.console.wicket.markup.html.form.AjaxCheckBoxPanel;
 import org.apache.syncope.client.console.wicket.markup.html.form.AjaxDropDownChoicePanel;
 import org.apache.syncope.client.console.wicket.markup.html.form.AjaxPalettePanel;
+import org.apache.syncope.client.console.wicket.markup.html.form.AjaxSpinnerFieldPanel;
 import org.apache.syncope.client.console.wicket.markup.html.form.AjaxTextFieldPanel;
 import org.apache.syncope.client.console.wizards.AjaxWizardBuilder;
 import org.apache.syncope.common.lib.to.AbstractProvisioningTaskTO;
@@ -298,6 +299,10 @@ public class SchedTaskWizardBuilder<T extends SchedTaskTO> extends AjaxWizardBui
             AjaxCheckBoxPanel syncStatus = new AjaxCheckBoxPanel(
                     "syncStatus", "syncStatus", new PropertyModel<>(taskTO, "syncStatus"), false);
             provisioningTaskSpecifics.add(syncStatus);
+
+            AjaxSpinnerFieldPanel<Integer> parallelism = new AjaxSpinnerFieldPanel.Builder<Integer>().min(1).build(
+                    "parallelism", "parallelism", Integer.class, new PropertyModel<>(taskTO, "parallelism"));
+            provisioningTaskSpecifics.add(parallelism);
         }
     }
 
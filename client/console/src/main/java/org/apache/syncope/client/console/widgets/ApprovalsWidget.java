@@ -18,10 +18,8 @@
  */
 package org.apache.syncope.client.console.widgets;
 
-import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.client.console.BookmarkablePageLinkBuilder;
@@ -36,6 +34,7 @@ import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.ajax.markup.html.AjaxLink;
 import org.apache.wicket.authroles.authorization.strategies.role.metadata.MetaDataRoleAuthorizationStrategy;
 import org.apache.wicket.markup.ComponentTag;
+import org.apache.wicket.extensions.markup.html.repeater.util.SortParam;
 import org.apache.wicket.markup.html.WebMarkupContainer;
 import org.apache.wicket.markup.html.WebPage;
 import org.apache.wicket.markup.html.basic.Label;
@@ -76,10 +75,12 @@ public class ApprovalsWidget extends AlertWidget<WorkflowFormTO> {
         latestAlerts.getObject().clear();
         latestAlerts.getObject().addAll(lastApprovals);
 
-        linkAlertsNumber.setDefaultModelObject(latestAlerts.getObject().size());
+        int size = getLatestAlertsSize();
+
+        linkAlertsNumber.setDefaultModelObject(size);
         target.add(linkAlertsNumber);
 
-        headerAlertsNumber.setDefaultModelObject(latestAlerts.getObject().size());
+        headerAlertsNumber.setDefaultModelObject(size);
         target.add(headerAlertsNumber);
 
         latestFive.removeAll();
@@ -101,8 +102,7 @@ public class ApprovalsWidget extends AlertWidget<WorkflowFormTO> {
                 if (SyncopeConsoleSession.get().owns(StandardEntitlement.WORKFLOW_FORM_LIST)
                         && SyncopeConsoleSession.get().owns(StandardEntitlement.WORKFLOW_FORM_READ)) {
 
-                    updatedApprovals = restClient.getForms();
-                    Collections.sort(updatedApprovals, new WorkflowFormComparator());
+                    updatedApprovals = restClient.getForms(1, 5, new SortParam<>("createTime", false));
                 } else {
                     updatedApprovals = Collections.<WorkflowFormTO>emptyList();
                 }
@@ -112,6 +112,14 @@ public class ApprovalsWidget extends AlertWidget<WorkflowFormTO> {
         };
     }
 
+    @Override
+    protected int getLatestAlertsSize() {
+        return SyncopeConsoleSession.get().owns(StandardEntitlement.WORKFLOW_FORM_LIST)
+                && SyncopeConsoleSession.get().owns(StandardEntitlement.WORKFLOW_FORM_READ)
+                ? restClient.countForms()
+                : 0;
+    }
+
     @Override
     protected Panel getAlertLink(final String panelid, final WorkflowFormTO event) {
         return new ApprovalsWidget.InnerPanel(panelid, event);
@@ -175,21 +183,4 @@ public class ApprovalsWidget extends AlertWidget<WorkflowFormTO> {
         }
 
     }
-
-    private static class WorkflowFormComparator implements Comparator<WorkflowFormTO>, Serializable {
-
-        private static final long serialVersionUID = 4650217602780789075L;
-
-        @Override
-        public int compare(final WorkflowFormTO o1, final WorkflowFormTO o2) {
-            if (o1 == null) {
-                return o2 == null ? 0 : 1;
-            } else if (o2 == null) {
-                return -1;
-            } else {
-                // inverse
-                return o2.getCreateTime().compareTo(o1.getCreateTime());
-            }
-        }
-    }
 }
@@ -86,6 +86,11 @@ public class ResourceDetailsPanel extends WizardStep {
                 new PropertyModel<>(resourceTO, "randomPwdIfNotProvided"),
                 false));
 
+        container.add(new AjaxCheckBoxPanel("trustLocalState",
+                new ResourceModel("trustLocalState", "trustLocalState").getObject(),
+                new PropertyModel<>(resourceTO, "trustLocalState"),
+                false));
+
         container.add(new AjaxPalettePanel.Builder<String>().
                 setAllowMoveAll(true).setAllowOrder(true).
                 build("propagationActionsClassNames",
@@ -20,12 +20,21 @@ package org.apache.syncope.client.lib;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -43,11 +52,14 @@ import org.apache.syncope.common.lib.search.AnyObjectFiqlSearchConditionBuilder;
 import org.apache.syncope.common.lib.search.OrderByClauseBuilder;
 import org.apache.syncope.common.lib.search.GroupFiqlSearchConditionBuilder;
 import org.apache.syncope.common.lib.search.UserFiqlSearchConditionBuilder;
+import org.apache.syncope.common.lib.to.BatchItemResult;
+import org.apache.syncope.common.lib.to.UserBatchItem;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.AccessTokenService;
 import org.apache.syncope.common.rest.api.service.UserSelfService;
+import org.apache.syncope.common.rest.api.service.UserService;
 
 /**
  * Entry point for client access to all REST services exposed by Syncope core; obtain instances via
@@ -270,6 +282,63 @@ public class SyncopeClient {
         }
     }
 
+    /**
+     * Sends the given user operations as a single batch request; operations are serialized while sending, and
+     * results are handed over to the given consumer as soon as streamed back, in completion order.
+     *
+     * @param items user operations
+     * @param parallelism maximum number of operations to run at the same time on the server, which can cap it
+     * @param consumer consumer for the result of each operation
+     * @see UserService#batch(int, java.io.InputStream)
+     */
+    public void batch(
+            final Iterable<UserBatchItem> items,
+            final int parallelism,
+            final Consumer<BatchItemResult> consumer) {
+
+        ObjectMapper mapper = new ObjectMapper();
+
+        Iterator<UserBatchItem> iterator = items.iterator();
+        InputStream payload = new SequenceInputStream(new Enumeration<InputStream>() {
+
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    return new ByteArrayInputStream(
+                            (mapper.writeValueAsString(iterator.next()) + "\n").getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Could not serialize batch item", e);
+                }
+            }
+        });
+
+        Response response = getService(UserService.class).batch(parallelism, payload);
+        if (response.getStatusInfo().getStatusCode() != Response.Status.OK.getStatusCode()) {
+            Exception ex = exceptionMapper.fromResponse(response);
+            if (ex != null) {
+                throw (RuntimeException) ex;
+            }
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.readEntity(InputStream.class), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    consumer.accept(mapper.readValue(line, BatchItemResult.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Sets the given header on the give service instance.
      *
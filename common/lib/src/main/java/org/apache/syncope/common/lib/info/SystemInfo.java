@@ -19,6 +19,8 @@
 package org.apache.syncope.common.lib.info;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
@@ -45,6 +47,12 @@ public class SystemInfo extends AbstractBaseBean {
 
     private final CircularFifoQueue<LoadInstant> load = new CircularFifoQueue<>(10);
 
+    private VirAttrCacheStats virAttrCacheStats;
+
+    private final List<AuditStats> auditStats = new ArrayList<>();
+
+    private final List<ConnectorStats> connectorStats = new ArrayList<>();
+
     public String getHostname() {
         return hostname;
     }
@@ -92,6 +100,28 @@ public class SystemInfo extends AbstractBaseBean {
         return load;
     }
 
+    public VirAttrCacheStats getVirAttrCacheStats() {
+        return virAttrCacheStats;
+    }
+
+    public void setVirAttrCacheStats(final VirAttrCacheStats virAttrCacheStats) {
+        this.virAttrCacheStats = virAttrCacheStats;
+    }
+
+    @XmlElementWrapper(name = "auditStats")
+    @XmlElement(name = "domain")
+    @JsonProperty("auditStats")
+    public List<AuditStats> getAuditStats() {
+        return auditStats;
+    }
+
+    @XmlElementWrapper(name = "connectorStats")
+    @XmlElement(name = "connector")
+    @JsonProperty("connectorStats")
+    public List<ConnectorStats> getConnectorStats() {
+        return connectorStats;
+    }
+
     @XmlRootElement(name = "loadInstant")
     @XmlType
     public static class LoadInstant extends AbstractBaseBean {
@@ -149,4 +179,295 @@ public class SystemInfo extends AbstractBaseBean {
         }
     }
 
+    @XmlRootElement(name = "virAttrCacheStats")
+    @XmlType
+    public static class VirAttrCacheStats extends AbstractBaseBean {
+
+        private static final long serialVersionUID = -4380529342561740917L;
+
+        private int size;
+
+        private int maxSize;
+
+        private long hits;
+
+        private long misses;
+
+        private long evictions;
+
+        private long expirations;
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(final int size) {
+            this.size = size;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public void setHits(final long hits) {
+            this.hits = hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public void setMisses(final long misses) {
+            this.misses = misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public void setEvictions(final long evictions) {
+            this.evictions = evictions;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public void setExpirations(final long expirations) {
+            this.expirations = expirations;
+        }
+    }
+
+    @XmlRootElement(name = "auditStats")
+    @XmlType
+    public static class AuditStats extends AbstractBaseBean {
+
+        private static final long serialVersionUID = 2893457024837450211L;
+
+        private String domain;
+
+        private int queueSize;
+
+        private int queueCapacity;
+
+        private long appended;
+
+        private long written;
+
+        private long dropped;
+
+        private long failed;
+
+        private long batches;
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public void setDomain(final String domain) {
+            this.domain = domain;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(final int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public long getAppended() {
+            return appended;
+        }
+
+        public void setAppended(final long appended) {
+            this.appended = appended;
+        }
+
+        public long getWritten() {
+            return written;
+        }
+
+        public void setWritten(final long written) {
+            this.written = written;
+        }
+
+        public long getDropped() {
+            return dropped;
+        }
+
+        public void setDropped(final long dropped) {
+            this.dropped = dropped;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public void setFailed(final long failed) {
+            this.failed = failed;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public void setBatches(final long batches) {
+            this.batches = batches;
+        }
+    }
+
+    @XmlRootElement(name = "connectorStats")
+    @XmlType
+    public static class ConnectorStats extends AbstractBaseBean {
+
+        private static final long serialVersionUID = -1524950356235810387L;
+
+        private String connector;
+
+        private String displayName;
+
+        private int poolSize;
+
+        private int activeCount;
+
+        private int queueSize;
+
+        private int queueCapacity;
+
+        private long executed;
+
+        private long callerRuns;
+
+        private long rejected;
+
+        private long timedOut;
+
+        private long failed;
+
+        private long meanLatency;
+
+        private long maxLatency;
+
+        public String getConnector() {
+            return connector;
+        }
+
+        public void setConnector(final String connector) {
+            this.connector = connector;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public void setDisplayName(final String displayName) {
+            this.displayName = displayName;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(final int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getActiveCount() {
+            return activeCount;
+        }
+
+        public void setActiveCount(final int activeCount) {
+            this.activeCount = activeCount;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(final int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public long getExecuted() {
+            return executed;
+        }
+
+        public void setExecuted(final long executed) {
+            this.executed = executed;
+        }
+
+        public long getCallerRuns() {
+            return callerRuns;
+        }
+
+        public void setCallerRuns(final long callerRuns) {
+            this.callerRuns = callerRuns;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public void setRejected(final long rejected) {
+            this.rejected = rejected;
+        }
+
+        public long getTimedOut() {
+            return timedOut;
+        }
+
+        public void setTimedOut(final long timedOut) {
+            this.timedOut = timedOut;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public void setFailed(final long failed) {
+            this.failed = failed;
+        }
+
+        public long getMeanLatency() {
+            return meanLatency;
+        }
+
+        public void setMeanLatency(final long meanLatency) {
+            this.meanLatency = meanLatency;
+        }
+
+        public long getMaxLatency() {
+            return maxLatency;
+        }
+
+        public void setMaxLatency(final long maxLatency) {
+            this.maxLatency = maxLatency;
+        }
+    }
+
 }
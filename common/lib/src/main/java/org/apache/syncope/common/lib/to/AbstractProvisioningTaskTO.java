@@ -46,6 +46,8 @@ public class AbstractProvisioningTaskTO extends SchedTaskTO {
 
     private boolean syncStatus;
 
+    private int parallelism = 1;
+
     private UnmatchingRule unmatchingRule;
 
     private MatchingRule matchingRule;
@@ -92,6 +94,14 @@ public class AbstractProvisioningTaskTO extends SchedTaskTO {
         this.syncStatus = syncStatus;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @XmlElementWrapper(name = "actionsClassNames")
     @XmlElement(name = "actionsClassName")
     @JsonProperty("actionsClassNames")
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+
+/**
+ * Outcome of a single operation within a batch request; {@code index} is the (zero-based) position of the operation
+ * in the request, as results are reported in completion order.
+ */
+@XmlRootElement(name = "batchItemResult")
+@XmlType
+public class BatchItemResult extends AbstractBaseBean {
+
+    private static final long serialVersionUID = 3104628452513785379L;
+
+    private long index;
+
+    private String key;
+
+    private BulkActionResult.Status status;
+
+    private final List<ErrorTO> errors = new ArrayList<>();
+
+    public long getIndex() {
+        return index;
+    }
+
+    public void setIndex(final long index) {
+        this.index = index;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
+    public BulkActionResult.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(final BulkActionResult.Status status) {
+        this.status = status;
+    }
+
+    @XmlElementWrapper(name = "errors")
+    @XmlElement(name = "error")
+    @JsonProperty("errors")
+    public List<ErrorTO> getErrors() {
+        return errors;
+    }
+}
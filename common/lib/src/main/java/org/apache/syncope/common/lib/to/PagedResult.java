@@ -47,6 +47,8 @@ public class PagedResult<T extends EntityTO> extends AbstractBaseBean {
 
     private int totalCount;
 
+    private String after;
+
     public URI getPrev() {
         return prev;
     }
@@ -95,4 +97,16 @@ public class PagedResult<T extends EntityTO> extends AbstractBaseBean {
         this.totalCount = totalCount;
     }
 
+    /**
+     * @return opaque token to be passed as {@code after} for fetching the next page via keyset pagination, or null
+     * when no further page is available or results are not ordered by key
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(final String after) {
+        this.after = after;
+    }
+
 }
@@ -61,6 +61,8 @@ public class ResourceTO extends AbstractBaseBean implements EntityTO {
 
     private boolean randomPwdIfNotProvided;
 
+    private boolean trustLocalState;
+
     private boolean enforceMandatoryCondition;
 
     private TraceLevel createTraceLevel = TraceLevel.ALL;
@@ -136,6 +138,14 @@ public class ResourceTO extends AbstractBaseBean implements EntityTO {
         this.randomPwdIfNotProvided = randomPwdIfNotProvided;
     }
 
+    public boolean isTrustLocalState() {
+        return trustLocalState;
+    }
+
+    public void setTrustLocalState(final boolean trustLocalState) {
+        this.trustLocalState = trustLocalState;
+    }
+
     public TraceLevel getCreateTraceLevel() {
         return createTraceLevel;
     }
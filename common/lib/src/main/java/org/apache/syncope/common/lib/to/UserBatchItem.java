@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.apache.syncope.common.lib.patch.UserPatch;
+
+/**
+ * Single user operation within a batch request: {@code user} is required for {@code CREATE}, {@code patch} for
+ * {@code UPDATE} and {@code key} for {@code DELETE}.
+ */
+@XmlRootElement(name = "userBatchItem")
+@XmlType
+public class UserBatchItem extends AbstractBaseBean {
+
+    private static final long serialVersionUID = -1857203431869137624L;
+
+    public static class Builder {
+
+        private final UserBatchItem instance = new UserBatchItem();
+
+        public Builder create(final UserTO user, final boolean storePassword) {
+            instance.setOperation(Operation.CREATE);
+            instance.setUser(user);
+            instance.setStorePassword(storePassword);
+            return this;
+        }
+
+        public Builder update(final UserPatch patch) {
+            instance.setOperation(Operation.UPDATE);
+            instance.setPatch(patch);
+            return this;
+        }
+
+        public Builder delete(final String key) {
+            instance.setOperation(Operation.DELETE);
+            instance.setKey(key);
+            return this;
+        }
+
+        public UserBatchItem build() {
+            return instance;
+        }
+    }
+
+    @XmlEnum
+    @XmlType(name = "batchOperation")
+    public enum Operation {
+
+        CREATE,
+        UPDATE,
+        DELETE;
+
+    }
+
+    private Operation operation;
+
+    private UserTO user;
+
+    private boolean storePassword = true;
+
+    private UserPatch patch;
+
+    private String key;
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(final Operation operation) {
+        this.operation = operation;
+    }
+
+    public UserTO getUser() {
+        return user;
+    }
+
+    public void setUser(final UserTO user) {
+        this.user = user;
+    }
+
+    public boolean isStorePassword() {
+        return storePassword;
+    }
+
+    public void setStorePassword(final boolean storePassword) {
+        this.storePassword = storePassword;
+    }
+
+    public UserPatch getPatch() {
+        return patch;
+    }
+
+    public void setPatch(final UserPatch patch) {
+        this.patch = patch;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(final String key) {
+        this.key = key;
+    }
+}
@@ -33,7 +33,7 @@ import org.apache.syncope.common.lib.patch.UserPatch;
 
 @XmlRootElement(name = "workflowForm")
 @XmlType
-public class WorkflowFormTO extends AbstractBaseBean {
+public class WorkflowFormTO extends AbstractBaseBean implements EntityTO {
 
     private static final long serialVersionUID = -7044543391316529128L;
 
@@ -57,6 +57,11 @@ public final class RESTHeaders {
      */
     public static final String MEDIATYPE_IMAGE_PNG = "image/png";
 
+    /**
+     * Newline-delimited JSON, as used by batch requests.
+     */
+    public static final String MEDIATYPE_APPLICATION_NDJSON = "application/x-ndjson";
+
     /**
      * Allows the client to specify a preference for the result to be returned from the server.
      * <a href="http://msdn.microsoft.com/en-us/library/hh537533.aspx">More information</a>.
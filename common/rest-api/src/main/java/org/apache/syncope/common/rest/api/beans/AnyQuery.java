@@ -50,6 +50,12 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder after(final String after) {
+            getInstance().setAfter(after);
+
+            return this;
+        }
     }
 
     private String realm;
@@ -58,6 +64,8 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String after;
+
     public String getRealm() {
         return realm;
     }
@@ -87,4 +95,18 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * Enables keyset pagination: results are ordered by key and page is ignored.
+     *
+     * @param after opaque token, as returned by {@code PagedResult#getAfter()} for the previous page
+     */
+    @QueryParam(JAXRSService.PARAM_AFTER)
+    public void setAfter(final String after) {
+        this.after = after;
+    }
+
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.rest.api.beans;
+
+import java.util.Date;
+import javax.ws.rs.QueryParam;
+
+public class WorkflowFormQuery extends AbstractQuery {
+
+    private static final long serialVersionUID = -4762457303770028554L;
+
+    public static class Builder extends AbstractQuery.Builder<WorkflowFormQuery, Builder> {
+
+        @Override
+        protected WorkflowFormQuery newInstance() {
+            return new WorkflowFormQuery();
+        }
+
+        public Builder candidateGroup(final String candidateGroup) {
+            getInstance().setCandidateGroup(candidateGroup);
+            return this;
+        }
+
+        public Builder formKey(final String formKey) {
+            getInstance().setFormKey(formKey);
+            return this;
+        }
+
+        public Builder createdAfter(final Date createdAfter) {
+            getInstance().setCreatedAfter(createdAfter);
+            return this;
+        }
+
+        public Builder createdBefore(final Date createdBefore) {
+            getInstance().setCreatedBefore(createdBefore);
+            return this;
+        }
+    }
+
+    private String candidateGroup;
+
+    private String formKey;
+
+    private Date createdAfter;
+
+    private Date createdBefore;
+
+    public String getCandidateGroup() {
+        return candidateGroup;
+    }
+
+    @QueryParam("candidateGroup")
+    public void setCandidateGroup(final String candidateGroup) {
+        this.candidateGroup = candidateGroup;
+    }
+
+    public String getFormKey() {
+        return formKey;
+    }
+
+    @QueryParam("formKey")
+    public void setFormKey(final String formKey) {
+        this.formKey = formKey;
+    }
+
+    public Date getCreatedAfter() {
+        if (createdAfter != null) {
+            return new Date(createdAfter.getTime());
+        }
+        return null;
+    }
+
+    @QueryParam("createdAfter")
+    public void setCreatedAfter(final Date createdAfter) {
+        if (createdAfter != null) {
+            this.createdAfter = new Date(createdAfter.getTime());
+        } else {
+            this.createdAfter = null;
+        }
+    }
+
+    public Date getCreatedBefore() {
+        if (createdBefore != null) {
+            return new Date(createdBefore.getTime());
+        }
+        return null;
+    }
+
+    @QueryParam("createdBefore")
+    public void setCreatedBefore(final Date createdBefore) {
+        if (createdBefore != null) {
+            this.createdBefore = new Date(createdBefore.getTime());
+        } else {
+            this.createdBefore = null;
+        }
+    }
+}
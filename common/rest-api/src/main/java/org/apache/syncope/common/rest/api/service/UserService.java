@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.common.rest.api.service;
 
+import java.io.InputStream;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
@@ -29,7 +31,10 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.patch.StatusPatch;
 import org.apache.syncope.common.lib.patch.UserPatch;
+import org.apache.syncope.common.lib.to.BatchItemResult;
+import org.apache.syncope.common.lib.to.UserBatchItem;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
  * REST operations for users.
@@ -64,4 +69,20 @@ public interface UserService extends AnyService<UserTO, UserPatch> {
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
     @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
     Response status(@NotNull StatusPatch statusPatch);
+
+    /**
+     * Executes the given user operations, provided as newline-delimited JSON {@link UserBatchItem} objects.
+     * Each operation runs in its own transaction, up to {@code parallelism} of them at the same time: hence, operations
+     * on the same user should not be sent within the same batch request, unless {@code parallelism} is 1.
+     *
+     * @param parallelism maximum number of operations to run at the same time, capped by the server
+     * @param items newline-delimited JSON user operations
+     * @return Response object streaming newline-delimited JSON {@link BatchItemResult} objects, as soon as each
+     * operation completes
+     */
+    @POST
+    @Path("batch")
+    @Produces({ RESTHeaders.MEDIATYPE_APPLICATION_NDJSON })
+    @Consumes({ RESTHeaders.MEDIATYPE_APPLICATION_NDJSON })
+    Response batch(@Min(1) @DefaultValue("1") @QueryParam("parallelism") int parallelism, InputStream items);
 }
@@ -18,8 +18,8 @@
  */
 package org.apache.syncope.common.rest.api.service;
 
-import java.util.List;
 import javax.validation.constraints.NotNull;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
@@ -27,8 +27,10 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.to.WorkflowFormTO;
+import org.apache.syncope.common.rest.api.beans.WorkflowFormQuery;
 
 /**
  * REST operations related to user workflow.
@@ -37,14 +39,16 @@ import org.apache.syncope.common.lib.to.WorkflowFormTO;
 public interface UserWorkflowService extends JAXRSService {
 
     /**
-     * Returns a list of all available workflow forms.
+     * Returns a paged list of the workflow forms available to the caller, matching the given query.
+     * Sorting is available by {@code createTime}, {@code dueDate}, {@code taskId} and {@code owner}.
      *
-     * @return list of all available workflow forms
+     * @param query query conditions
+     * @return paged list of workflow forms matching the given query
      */
     @GET
     @Path("forms")
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    List<WorkflowFormTO> getForms();
+    PagedResult<WorkflowFormTO> getForms(@BeanParam WorkflowFormQuery query);
 
     /**
      * Returns a list of available forms for the given user key.
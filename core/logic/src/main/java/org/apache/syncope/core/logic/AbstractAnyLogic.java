@@ -258,9 +258,24 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, P extends AnyPatch> ext
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
 
+    /**
+     * Search for any objects matching the given condition; if {@code after} is provided, keyset pagination is used
+     * (see {@link org.apache.syncope.core.persistence.api.dao.AnySearchDAO}), thus {@code page} and {@code orderBy}
+     * are ignored.
+     *
+     * @param searchCond search condition
+     * @param page search result page
+     * @param size items per search result page
+     * @param orderBy ordering clauses
+     * @param after key of the last item of the previous page, for keyset pagination
+     * @param realm realm to search into
+     * @param details whether details shall be returned
+     * @return total number of matching any objects and the requested page
+     */
     public abstract Pair<Integer, List<TO>> search(
             SearchCond searchCond,
             int page, int size, List<OrderByClause> orderBy,
+            String after,
             String realm,
             boolean details);
 }
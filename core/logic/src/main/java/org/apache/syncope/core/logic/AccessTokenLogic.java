@@ -35,10 +35,12 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationsChangedEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.Encryptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 
@@ -56,6 +58,9 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
     @Autowired
     private AccessTokenDAO accessTokenDAO;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     private byte[] getAuthorities() {
         byte[] authorities = null;
         try {
@@ -89,7 +94,12 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
             throw new NotFoundException("AccessToken for " + AuthContextUtils.getUsername());
         }
 
-        return binder.update(accessToken, getAuthorities());
+        Pair<String, Date> refreshed = binder.update(accessToken, getAuthorities());
+
+        publisher.publishEvent(new AuthorizationsChangedEvent(
+                this, AuthContextUtils.getDomain(), accessToken.getOwner()));
+
+        return refreshed;
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -118,7 +128,14 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
 
     @PreAuthorize("hasRole('" + StandardEntitlement.ACCESS_TOKEN_DELETE + "')")
     public void delete(final String key) {
+        AccessToken accessToken = accessTokenDAO.find(key);
+
         accessTokenDAO.delete(key);
+
+        if (accessToken != null) {
+            publisher.publishEvent(new AuthorizationsChangedEvent(
+                    this, AuthContextUtils.getDomain(), accessToken.getOwner()));
+        }
     }
 
     @Override
@@ -78,6 +78,7 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectPatch
     public Pair<Integer, List<AnyObjectTO>> search(
             final SearchCond searchCond,
             final int page, final int size, final List<OrderByClause> orderBy,
+            final String after,
             final String realm,
             final boolean details) {
 
@@ -91,8 +92,9 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectPatch
 
         int count = searchDAO.count(effectiveRealms, searchCond, AnyTypeKind.ANY_OBJECT);
 
-        List<AnyObject> matching = searchDAO.search(
-                effectiveRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT);
+        List<AnyObject> matching = after == null
+                ? searchDAO.search(effectiveRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT)
+                : searchDAO.search(effectiveRealms, searchCond, after, size, AnyTypeKind.ANY_OBJECT);
         List<AnyObjectTO> result = matching.stream().
                 map(anyObject -> binder.getAnyObjectTO(anyObject, details)).collect(Collectors.toList());
 
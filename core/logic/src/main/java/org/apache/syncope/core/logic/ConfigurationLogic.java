@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationsChangedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
 import org.apache.syncope.core.persistence.api.dao.ConfDAO;
@@ -36,6 +37,7 @@ import org.apache.syncope.core.workflow.api.AnyObjectWorkflowAdapter;
 import org.apache.syncope.core.workflow.api.GroupWorkflowAdapter;
 import org.apache.syncope.core.workflow.api.UserWorkflowAdapter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,6 +45,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class ConfigurationLogic extends AbstractTransactionalLogic<AttrTO> {
 
+    private static final String AUTH_STATUSES = "authentication.statuses";
+
     @Autowired
     private ConfDAO confDAO;
 
@@ -64,6 +68,9 @@ public class ConfigurationLogic extends AbstractTransactionalLogic<AttrTO> {
     @Autowired
     private AnyObjectWorkflowAdapter awfAdapter;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @PreAuthorize("hasRole('" + StandardEntitlement.CONFIGURATION_DELETE + "')")
     public void delete(final String schema) {
         Optional<? extends CPlainAttr> conf = confDAO.find(schema);
@@ -75,6 +82,10 @@ public class ConfigurationLogic extends AbstractTransactionalLogic<AttrTO> {
         }
 
         confDAO.delete(schema);
+
+        if (AUTH_STATUSES.equals(schema)) {
+            publisher.publishEvent(new AuthorizationsChangedEvent(this, AuthContextUtils.getDomain()));
+        }
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.CONFIGURATION_LIST + "')")
@@ -106,6 +117,10 @@ public class ConfigurationLogic extends AbstractTransactionalLogic<AttrTO> {
     @PreAuthorize("hasRole('" + StandardEntitlement.CONFIGURATION_SET + "')")
     public void set(final AttrTO value) {
         confDAO.save(binder.getAttr(value));
+
+        if (AUTH_STATUSES.equals(value.getSchema())) {
+            publisher.publishEvent(new AuthorizationsChangedEvent(this, AuthContextUtils.getDomain()));
+        }
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.CONFIGURATION_EXPORT + "')")
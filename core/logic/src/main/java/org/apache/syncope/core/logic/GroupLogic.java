@@ -148,17 +148,18 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupPatch> {
     public Pair<Integer, List<GroupTO>> search(
             final SearchCond searchCond,
             final int page, final int size, final List<OrderByClause> orderBy,
+            final String after,
             final String realm,
             final boolean details) {
 
-        int count = searchDAO.count(
-                RealmUtils.getEffective(SyncopeConstants.FULL_ADMIN_REALMS, realm),
-                searchCond == null ? groupDAO.getAllMatchingCond() : searchCond, AnyTypeKind.GROUP);
+        Set<String> effectiveRealms = RealmUtils.getEffective(SyncopeConstants.FULL_ADMIN_REALMS, realm);
+        SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
 
-        List<Group> matching = searchDAO.search(
-                RealmUtils.getEffective(SyncopeConstants.FULL_ADMIN_REALMS, realm),
-                searchCond == null ? groupDAO.getAllMatchingCond() : searchCond,
-                page, size, orderBy, AnyTypeKind.GROUP);
+        int count = searchDAO.count(effectiveRealms, effectiveCond, AnyTypeKind.GROUP);
+
+        List<Group> matching = after == null
+                ? searchDAO.search(effectiveRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP)
+                : searchDAO.search(effectiveRealms, effectiveCond, after, size, AnyTypeKind.GROUP);
         List<GroupTO> result = matching.stream().
                 map(group -> binder.getGroupTO(group, details)).collect(Collectors.toList());
 
@@ -57,10 +57,12 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Logger;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.spring.BeanUtils;
+import org.apache.syncope.core.provisioning.api.event.EventSubscriptionsChangedEvent;
 import org.apache.syncope.core.provisioning.java.pushpull.PushJobDelegate;
 import org.apache.syncope.core.provisioning.java.pushpull.PullJobDelegate;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -91,6 +93,9 @@ public class LoggerLogic extends AbstractTransactionalLogic<LoggerTO> {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     private List<LoggerTO> list(final LoggerType type) {
         return loggerDAO.findAll(type).stream().map(logger -> {
             LoggerTO loggerTO = new LoggerTO();
@@ -200,6 +205,8 @@ public class LoggerLogic extends AbstractTransactionalLogic<LoggerTO> {
         LoggerConfig logConf;
 
         if (LoggerType.AUDIT.equals(syncopeLogger.getType())) {
+            publisher.publishEvent(new EventSubscriptionsChangedEvent(this, AuthContextUtils.getDomain()));
+
             String auditLoggerName = AuditLoggerName.getAuditEventLoggerName(
                     AuthContextUtils.getDomain(), syncopeLogger.getKey());
 
@@ -264,6 +271,9 @@ public class LoggerLogic extends AbstractTransactionalLogic<LoggerTO> {
 
         // remove SyncopeLogger from local storage, so that LoggerLoader won't load this next time
         loggerDAO.delete(syncopeLogger);
+        if (LoggerType.AUDIT.equals(syncopeLogger.getType())) {
+            publisher.publishEvent(new EventSubscriptionsChangedEvent(this, AuthContextUtils.getDomain()));
+        }
 
         // set log level to OFF in order to disable configured logger until next reboot
         LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
@@ -32,10 +32,13 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.provisioning.api.data.NotificationDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EventSubscriptionsChangedEvent;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.java.job.notification.NotificationJob;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobKey;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 
@@ -48,6 +51,9 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
     @Autowired
     private NotificationDataBinder binder;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @PreAuthorize("hasRole('" + StandardEntitlement.NOTIFICATION_READ + "')")
     public NotificationTO read(final String key) {
         Notification notification = notificationDAO.find(key);
@@ -68,7 +74,11 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
 
     @PreAuthorize("hasRole('" + StandardEntitlement.NOTIFICATION_CREATE + "')")
     public NotificationTO create(final NotificationTO notificationTO) {
-        return binder.getNotificationTO(notificationDAO.save(binder.create(notificationTO)));
+        NotificationTO created = binder.getNotificationTO(notificationDAO.save(binder.create(notificationTO)));
+
+        publisher.publishEvent(new EventSubscriptionsChangedEvent(this, AuthContextUtils.getDomain()));
+
+        return created;
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.NOTIFICATION_UPDATE + "')")
@@ -82,6 +92,8 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
         binder.update(notification, notificationTO);
         notification = notificationDAO.save(notification);
 
+        publisher.publishEvent(new EventSubscriptionsChangedEvent(this, AuthContextUtils.getDomain()));
+
         return binder.getNotificationTO(notification);
     }
 
@@ -96,6 +108,9 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
 
         NotificationTO deleted = binder.getNotificationTO(notification);
         notificationDAO.delete(key);
+
+        publisher.publishEvent(new EventSubscriptionsChangedEvent(this, AuthContextUtils.getDomain()));
+
         return deleted;
     }
 
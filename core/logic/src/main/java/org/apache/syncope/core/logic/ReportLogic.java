@@ -19,9 +19,12 @@
 package org.apache.syncope.core.logic;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -62,11 +65,15 @@ import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.provisioning.api.data.ReportDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
+import org.apache.syncope.core.provisioning.api.job.ReportStore;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.xmlgraphics.util.MimeConstants;
 import org.quartz.JobKey;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
@@ -86,6 +93,9 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private ReportStore reportStore;
+
     @PreAuthorize("hasRole('" + StandardEntitlement.REPORT_CREATE + "')")
     public ReportTO create(final ReportTO reportTO) {
         Report report = entityFactory.newEntity(Report.class);
@@ -194,9 +204,11 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         if (reportExec == null) {
             throw new NotFoundException("Report execution " + executionKey);
         }
-        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || reportExec.getExecResult() == null) {
+        boolean produced = reportStore.exists(AuthContextUtils.getDomain(), executionKey)
+                || reportExec.getExecResult() != null;
+        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || !produced) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
-            sce.getElements().add(reportExec.getExecResult() == null
+            sce.getElements().add(!produced
                     ? "No report data produced"
                     : "Report did not run successfully");
             throw sce;
@@ -208,15 +220,21 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
     public void exportExecutionResult(final OutputStream os, final ReportExec reportExec,
             final ReportExecExportFormat format) {
 
-        // streaming SAX handler from a compressed byte array stream
-        ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
-        ZipInputStream zis = new ZipInputStream(bais);
+        InputStream is = null;
         try {
-            // a single ZipEntry in the ZipInputStream (see ReportJob)
-            zis.getNextEntry();
+            if (reportExec.getExecResult() == null) {
+                // streaming SAX handler from the report store
+                is = reportStore.read(AuthContextUtils.getDomain(), reportExec.getKey());
+            } else {
+                // result kept with the execution (by DBReportStore, or before report stores were introduced)
+                ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(reportExec.getExecResult()));
+                // a single ZipEntry in the ZipInputStream
+                zis.getNextEntry();
+                is = zis;
+            }
 
             Pipeline<SAXPipelineComponent> pipeline = new NonCachingPipeline<>();
-            pipeline.addComponent(new XMLGenerator(zis));
+            pipeline.addComponent(new XMLGenerator(is));
 
             Map<String, Object> parameters = new HashMap<>();
             parameters.put("status", reportExec.getStatus());
@@ -273,9 +291,33 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         } catch (Exception e) {
             LOG.error("While exporting content", e);
         } finally {
-            IOUtils.closeQuietly(zis);
-            IOUtils.closeQuietly(bais);
+            IOUtils.closeQuietly(is);
+        }
+    }
+
+    /**
+     * Removes stored results only once deletion of the related executions is committed, so that a rollback does not
+     * leave executions without their results.
+     *
+     * @param execKeys keys of the report executions being deleted
+     */
+    private void deleteResultsAfterCommit(final List<String> execKeys) {
+        if (execKeys.isEmpty()) {
+            return;
         }
+
+        String domain = AuthContextUtils.getDomain();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            execKeys.forEach(execKey -> reportStore.delete(domain, execKey));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+            @Override
+            public void afterCommit() {
+                execKeys.forEach(execKey -> reportStore.delete(domain, execKey));
+            }
+        });
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.REPORT_DELETE + "')")
@@ -286,8 +328,11 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         }
 
         ReportTO deletedReport = binder.getReportTO(report);
+        List<String> execKeys = report.getExecs().stream().
+                map(ReportExec::getKey).collect(Collectors.toList());
         jobManager.unregister(report);
         reportDAO.delete(report);
+        deleteResultsAfterCommit(execKeys);
         return deletedReport;
     }
 
@@ -326,6 +371,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ExecTO reportExecToDelete = binder.getExecTO(reportExec);
         reportExecDAO.delete(reportExec);
+        deleteResultsAfterCommit(Collections.singletonList(executionKey));
         return reportExecToDelete;
     }
 
@@ -342,15 +388,18 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         BulkActionResult result = new BulkActionResult();
 
+        List<String> deleted = new ArrayList<>();
         reportExecDAO.findAll(report, startedBefore, startedAfter, endedBefore, endedAfter).forEach(exec -> {
             try {
                 reportExecDAO.delete(exec);
+                deleted.add(exec.getKey());
                 result.getResults().put(String.valueOf(exec.getKey()), BulkActionResult.Status.SUCCESS);
             } catch (Exception e) {
                 LOG.error("Error deleting execution {} of report {}", exec.getKey(), key, e);
                 result.getResults().put(String.valueOf(exec.getKey()), BulkActionResult.Status.FAILURE);
             }
         });
+        deleteResultsAfterCommit(deleted);
 
         return result;
     }
@@ -49,6 +49,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.data.ResourceDataBinder;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -116,6 +117,9 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
     @Autowired
     private ConnectorFactory connFactory;
 
+    @Autowired
+    private VirAttrCache virAttrCache;
+
     protected void securityChecks(final Set<String> effectiveRealms, final String realm, final String key) {
         effectiveRealms.stream().anyMatch(ownedRealm -> realm.startsWith(ownedRealm));
         boolean authorized = effectiveRealms.stream().anyMatch(ownedRealm -> realm.startsWith(ownedRealm));
@@ -163,7 +167,11 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
                 resource.getConnector().getAdminRealm().getFullPath());
         securityChecks(effectiveRealms, resource.getConnector().getAdminRealm().getFullPath(), resource.getKey());
 
-        return binder.getResourceTO(resourceDAO.save(binder.update(resource, resourceTO)));
+        ResourceTO updated = binder.getResourceTO(resourceDAO.save(binder.update(resource, resourceTO)));
+
+        virAttrCache.expireAll(resource.getKey());
+
+        return updated;
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.RESOURCE_UPDATE + "')")
@@ -258,6 +266,8 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
 
         resourceDAO.delete(key);
 
+        virAttrCache.expireAll(key);
+
         return resourceToDelete;
     }
 
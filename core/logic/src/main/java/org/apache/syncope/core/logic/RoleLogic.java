@@ -29,7 +29,10 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.provisioning.api.data.RoleDataBinder;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationsChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,6 +46,9 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
     @Autowired
     private RoleDAO roleDAO;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @PreAuthorize("hasRole('" + StandardEntitlement.ROLE_READ + "')")
     @Transactional(readOnly = true)
     public RoleTO read(final String key) {
@@ -64,7 +70,11 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
     @PreAuthorize("hasRole('" + StandardEntitlement.ROLE_CREATE + "')")
     public RoleTO create(final RoleTO roleTO) {
-        return binder.getRoleTO(roleDAO.save(binder.create(roleTO)));
+        RoleTO created = binder.getRoleTO(roleDAO.save(binder.create(roleTO)));
+
+        publisher.publishEvent(new AuthorizationsChangedEvent(this, AuthContextUtils.getDomain()));
+
+        return created;
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.ROLE_UPDATE + "')")
@@ -75,7 +85,11 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
             throw new NotFoundException(roleTO.getKey());
         }
 
-        return binder.getRoleTO(roleDAO.save(binder.update(role, roleTO)));
+        RoleTO updated = binder.getRoleTO(roleDAO.save(binder.update(role, roleTO)));
+
+        publisher.publishEvent(new AuthorizationsChangedEvent(this, AuthContextUtils.getDomain()));
+
+        return updated;
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.ROLE_DELETE + "')")
@@ -89,6 +103,9 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
         RoleTO deleted = binder.getRoleTO(role);
         roleDAO.delete(key);
+
+        publisher.publishEvent(new AuthorizationsChangedEvent(this, AuthContextUtils.getDomain()));
+
         return deleted;
     }
 
@@ -42,6 +42,7 @@ import org.apache.syncope.common.lib.to.TypeExtensionTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.spring.security.PasswordGenerator;
+import org.apache.syncope.core.logic.init.LoggerLoader;
 import org.apache.syncope.core.persistence.api.ImplementationLookup;
 import org.apache.syncope.core.persistence.api.ImplementationLookup.Type;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -74,6 +75,7 @@ import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
+import org.apache.syncope.core.provisioning.java.ConnectorBulkheads;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.workflow.api.AnyObjectWorkflowAdapter;
 import org.apache.syncope.core.workflow.api.GroupWorkflowAdapter;
@@ -174,12 +176,18 @@ public class SyncopeLogic extends AbstractLogic<AbstractBaseBean> {
     @Autowired
     private PasswordGenerator passwordGenerator;
 
+    @Autowired
+    private LoggerLoader loggerLoader;
+
     @Autowired
     private AnySearchDAO anySearchDAO;
 
     @Autowired
     private ImplementationLookup implLookup;
 
+    @Autowired
+    private ConnectorBulkheads bulkheads;
+
     public boolean isSelfRegAllowed() {
         return confDAO.find("selfRegistration.allowed", false);
     }
@@ -301,6 +309,13 @@ public class SyncopeLogic extends AbstractLogic<AbstractBaseBean> {
     public SystemInfo system() {
         synchronized (MONITOR) {
             initSystemInfo();
+            SYSTEM_INFO.setVirAttrCacheStats(virAttrCache.getStats());
+            SYSTEM_INFO.getAuditStats().clear();
+            loggerLoader.getJdbcAuditAppenders().values().forEach(appender -> {
+                SYSTEM_INFO.getAuditStats().add(appender.getStats());
+            });
+            SYSTEM_INFO.getConnectorStats().clear();
+            SYSTEM_INFO.getConnectorStats().addAll(bulkheads.getStats());
         }
 
         return SYSTEM_INFO;
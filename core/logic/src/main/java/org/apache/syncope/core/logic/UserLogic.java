@@ -99,17 +99,19 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserPatch> {
     public Pair<Integer, List<UserTO>> search(
             final SearchCond searchCond,
             final int page, final int size, final List<OrderByClause> orderBy,
+            final String after,
             final String realm,
             final boolean details) {
 
-        int count = searchDAO.count(RealmUtils.getEffective(
-                AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm),
-                searchCond == null ? userDAO.getAllMatchingCond() : searchCond, AnyTypeKind.USER);
+        Set<String> effectiveRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm);
+        SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
+
+        int count = searchDAO.count(effectiveRealms, effectiveCond, AnyTypeKind.USER);
 
-        List<User> matching = searchDAO.search(RealmUtils.getEffective(
-                AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm),
-                searchCond == null ? userDAO.getAllMatchingCond() : searchCond,
-                page, size, orderBy, AnyTypeKind.USER);
+        List<User> matching = after == null
+                ? searchDAO.search(effectiveRealms, effectiveCond, page, size, orderBy, AnyTypeKind.USER)
+                : searchDAO.search(effectiveRealms, effectiveCond, after, size, AnyTypeKind.USER);
         List<UserTO> result = matching.stream().
                 map(user -> binder.returnUserTO(binder.getUserTO(user, details))).
                 collect(Collectors.toList());
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.audit;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
+
+/**
+ * Appender writing audit events to the SYNCOPEAUDIT table of a domain.
+ * Events are put on a bounded queue and written by a dedicated thread via JDBC batch inserts, flushing whenever
+ * {@link JdbcAuditAppenderConf#getFlushSize()} events are pending or the oldest pending event has waited for
+ * {@link JdbcAuditAppenderConf#getFlushLatency()} milliseconds.
+ */
+public class JdbcAuditAppender extends AbstractAppender {
+
+    private static final String INSERT = "INSERT INTO SYNCOPEAUDIT "
+            + "(EVENT_DATE, LOGGER_LEVEL, LOGGER, MESSAGE, THROWABLE) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * What to do with events when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait for the writer thread to make room.
+         */
+        BLOCK,
+        /**
+         * Drop the event.
+         */
+        DISCARD,
+        /**
+         * Write the event on the calling thread.
+         */
+        SYNC
+
+    }
+
+    private static class AuditRow {
+
+        private final long timeMillis;
+
+        private final String level;
+
+        private final String logger;
+
+        private final String message;
+
+        private final String throwable;
+
+        AuditRow(
+                final long timeMillis,
+                final String level,
+                final String logger,
+                final String message,
+                final String throwable) {
+
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.logger = logger;
+            this.message = message;
+            this.throwable = throwable;
+        }
+    }
+
+    private final String domain;
+
+    private final DataSource dataSource;
+
+    private final JdbcAuditAppenderConf conf;
+
+    private final BlockingQueue<AuditRow> queue;
+
+    private final LongAdder appended = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public JdbcAuditAppender(
+            final String name,
+            final String domain,
+            final DataSource dataSource,
+            final JdbcAuditAppenderConf conf) {
+
+        super(name, null, null, false);
+        this.domain = domain;
+        this.dataSource = dataSource;
+        this.conf = conf;
+        this.queue = new ArrayBlockingQueue<>(conf.getQueueCapacity());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "AuditWriter-" + domain);
+        writer.setDaemon(true);
+        writer.start();
+        super.start();
+    }
+
+    @Override
+    public boolean stop(final long timeout, final TimeUnit timeUnit) {
+        setStopping();
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(Math.max(timeUnit.toMillis(timeout), conf.getFlushLatency()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (writer == null || !writer.isAlive()) {
+            // anything the writer did not get to before stopping, or appended meanwhile
+            flushPending();
+        } else {
+            LOGGER.warn("Audit writer for domain {} did not stop in time, {} events not written",
+                    domain, queue.size());
+        }
+        setStopped();
+        return true;
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        Message msg = event.getMessage();
+        AuditRow row = new AuditRow(
+                event.getTimeMillis(),
+                event.getLevel().name(),
+                event.getLoggerName(),
+                (msg instanceof ReusableMessage ? ((ReusableMessage) msg).memento() : msg).getFormattedMessage(),
+                event.getThrown() == null ? null : ExceptionUtils2.getFullStackTrace(event.getThrown()));
+        appended.increment();
+
+        if (queue.offer(row)) {
+            return;
+        }
+
+        switch (conf.getOverflowPolicy()) {
+            case DISCARD:
+                dropped.increment();
+                break;
+
+            case SYNC:
+                try {
+                    write(Collections.singletonList(row));
+                } catch (SQLException e) {
+                    if (!ignoreExceptions()) {
+                        throw new AppenderLoggingException("Could not write audit event for domain " + domain, e);
+                    }
+                }
+                break;
+
+            case BLOCK:
+            default:
+                try {
+                    queue.put(row);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+        }
+    }
+
+    private void drain() {
+        List<AuditRow> batch = new ArrayList<>(conf.getFlushSize());
+        while (running) {
+            try {
+                AuditRow first = queue.poll(conf.getFlushLatency(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + conf.getFlushLatency();
+                while (batch.size() < conf.getFlushSize()) {
+                    queue.drainTo(batch, conf.getFlushSize() - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= conf.getFlushSize() || remaining <= 0) {
+                        break;
+                    }
+
+                    AuditRow next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // stopping: write what was collected so far, the rest is written once out of the loop
+            }
+
+            if (!batch.isEmpty()) {
+                writeAsync(batch);
+                batch.clear();
+            }
+        }
+
+        // clear any interrupt received while writing, then write what is left
+        Thread.interrupted();
+        flushPending();
+    }
+
+    private void flushPending() {
+        List<AuditRow> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        if (!pending.isEmpty()) {
+            writeAsync(pending);
+        }
+    }
+
+    /**
+     * Writes the given rows away from the thread which appended them: failures cannot be propagated to the caller,
+     * hence they are counted and reported to the appender's error handler.
+     *
+     * @param rows audit rows to write
+     */
+    private void writeAsync(final List<AuditRow> rows) {
+        try {
+            write(rows);
+        } catch (SQLException e) {
+            error("Could not write " + rows.size() + " audit events for domain " + domain, e);
+        }
+    }
+
+    private void write(final List<AuditRow> rows) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT)) {
+                for (AuditRow row : rows) {
+                    stmt.setTimestamp(1, new Timestamp(row.timeMillis));
+                    stmt.setString(2, row.level);
+                    stmt.setString(3, row.logger);
+                    stmt.setString(4, row.message);
+                    if (row.throwable == null) {
+                        stmt.setNull(5, Types.VARCHAR);
+                    } else {
+                        stmt.setString(5, row.throwable);
+                    }
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+
+                written.add(rows.size());
+                batches.increment();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            failed.add(rows.size());
+            LOGGER.error("Could not write {} audit events for domain {}", rows.size(), domain, e);
+            throw e;
+        }
+    }
+
+    public SystemInfo.AuditStats getStats() {
+        SystemInfo.AuditStats stats = new SystemInfo.AuditStats();
+        stats.setDomain(domain);
+        stats.setQueueSize(queue.size());
+        stats.setQueueCapacity(conf.getQueueCapacity());
+        stats.setAppended(appended.sum());
+        stats.setWritten(written.sum());
+        stats.setDropped(dropped.sum());
+        stats.setFailed(failed.sum());
+        stats.setBatches(batches.sum());
+        return stats;
+    }
+}
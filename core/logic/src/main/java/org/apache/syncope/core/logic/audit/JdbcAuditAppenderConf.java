@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.audit;
+
+/**
+ * Settings shared by the {@link JdbcAuditAppender} instances of all domains.
+ */
+public class JdbcAuditAppenderConf {
+
+    private int queueCapacity = 10000;
+
+    private int flushSize = 100;
+
+    private long flushLatency = 1000;
+
+    private JdbcAuditAppender.OverflowPolicy overflowPolicy = JdbcAuditAppender.OverflowPolicy.BLOCK;
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public void setFlushSize(final int flushSize) {
+        this.flushSize = flushSize;
+    }
+
+    public long getFlushLatency() {
+        return flushLatency;
+    }
+
+    public void setFlushLatency(final long flushLatency) {
+        this.flushLatency = flushLatency;
+    }
+
+    public JdbcAuditAppender.OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(final JdbcAuditAppender.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+}
@@ -18,8 +18,6 @@
  */
 package org.apache.syncope.core.logic.init;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -29,14 +27,12 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.LoggerContext;
-import org.apache.logging.log4j.core.appender.db.ColumnMapping;
-import org.apache.logging.log4j.core.appender.db.jdbc.ColumnConfig;
-import org.apache.logging.log4j.core.appender.db.jdbc.ConnectionSource;
-import org.apache.logging.log4j.core.appender.db.jdbc.JdbcAppender;
 import org.apache.logging.log4j.core.appender.rewrite.RewriteAppender;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.syncope.common.lib.types.AuditLoggerName;
 import org.apache.syncope.core.logic.audit.AuditAppender;
+import org.apache.syncope.core.logic.audit.JdbcAuditAppender;
+import org.apache.syncope.core.logic.audit.JdbcAuditAppenderConf;
 import org.apache.syncope.core.logic.MemoryAppender;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.persistence.api.DomainsHolder;
@@ -46,7 +42,6 @@ import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
-import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -61,8 +56,13 @@ public class LoggerLoader implements SyncopeLoader {
     @Autowired
     private ImplementationLookup implementationLookup;
 
+    @Autowired
+    private JdbcAuditAppenderConf jdbcAuditAppenderConf;
+
     private final Map<String, MemoryAppender> memoryAppenders = new HashMap<>();
 
+    private final Map<String, JdbcAuditAppender> jdbcAuditAppenders = new HashMap<>();
+
     @Override
     public Integer getPriority() {
         return 300;
@@ -79,35 +79,17 @@ public class LoggerLoader implements SyncopeLoader {
                 });
 
         // Audit table and DataSource for each configured domain
-        ColumnConfig[] columnConfigs = {
-            ColumnConfig.newBuilder().
-            setConfiguration(ctx.getConfiguration()).setName("EVENT_DATE").setEventTimestamp(true).build(),
-            ColumnConfig.newBuilder().setUnicode(false).
-            setConfiguration(ctx.getConfiguration()).setName("LOGGER_LEVEL").setPattern("%level").build(),
-            ColumnConfig.newBuilder().setUnicode(false).
-            setConfiguration(ctx.getConfiguration()).setName("LOGGER").setPattern("%logger").build(),
-            ColumnConfig.newBuilder().setUnicode(false).
-            setConfiguration(ctx.getConfiguration()).setName("MESSAGE").setPattern("%message").build(),
-            ColumnConfig.newBuilder().setUnicode(false).
-            setConfiguration(ctx.getConfiguration()).setName("THROWABLE").setPattern("%ex{full}").build()
-        };
-        ColumnMapping[] columnMappings = new ColumnMapping[0];
-
         for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
             Appender appender = ctx.getConfiguration().getAppender("audit_for_" + entry.getKey());
             if (appender == null) {
-                appender = JdbcAppender.newBuilder().
-                        withName("audit_for_" + entry.getKey()).
-                        withIgnoreExceptions(false).
-                        setConnectionSource(new DataSourceConnectionSource(entry.getValue())).
-                        setBufferSize(0).
-                        setTableName("SYNCOPEAUDIT").
-                        setColumnConfigs(columnConfigs).
-                        setColumnMappings(columnMappings).
-                        build();
+                appender = new JdbcAuditAppender(
+                        "audit_for_" + entry.getKey(), entry.getKey(), entry.getValue(), jdbcAuditAppenderConf);
                 appender.start();
                 ctx.getConfiguration().addAppender(appender);
             }
+            if (appender instanceof JdbcAuditAppender) {
+                jdbcAuditAppenders.put(entry.getKey(), (JdbcAuditAppender) appender);
+            }
 
             LoggerConfig logConf = new LoggerConfig(
                     AuditLoggerName.getAuditLoggerName(entry.getKey()), null, false);
@@ -145,6 +127,10 @@ public class LoggerLoader implements SyncopeLoader {
         return memoryAppenders;
     }
 
+    public Map<String, JdbcAuditAppender> getJdbcAuditAppenders() {
+        return jdbcAuditAppenders;
+    }
+
     public List<AuditAppender> auditAppenders(final String domain) throws BeansException {
         List<AuditAppender> auditAppenders = new ArrayList<>();
         implementationLookup.getAuditAppenderClasses().stream().map(clazz -> {
@@ -189,19 +175,4 @@ public class LoggerLoader implements SyncopeLoader {
             eventLogConf.addAppender(targetAppender, Level.DEBUG, null);
         }
     }
-
-    private static class DataSourceConnectionSource implements ConnectionSource {
-
-        private final DataSource dataSource;
-
-        DataSourceConnectionSource(final DataSource dataSource) {
-            this.dataSource = dataSource;
-        }
-
-        @Override
-        public Connection getConnection() throws SQLException {
-            return DataSourceUtils.getConnection(dataSource);
-        }
-
-    }
 }
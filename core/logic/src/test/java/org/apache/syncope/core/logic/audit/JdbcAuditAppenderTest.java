@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.audit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JdbcAuditAppenderTest {
+
+    private JdbcDataSource dataSource;
+
+    private JdbcAuditAppender appender;
+
+    @Before
+    public void before() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID().toString() + ";DB_CLOSE_DELAY=-1");
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE SYNCOPEAUDIT (EVENT_DATE TIMESTAMP, LOGGER_LEVEL VARCHAR(255), "
+                    + "LOGGER VARCHAR(255), MESSAGE CLOB, THROWABLE CLOB)");
+        }
+    }
+
+    @After
+    public void after() throws SQLException {
+        if (appender != null && !appender.isStopped()) {
+            appender.stop(5, TimeUnit.SECONDS);
+        }
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
+    }
+
+    private JdbcAuditAppender appender(
+            final int queueCapacity,
+            final int flushSize,
+            final long flushLatency,
+            final JdbcAuditAppender.OverflowPolicy overflowPolicy) {
+
+        JdbcAuditAppenderConf conf = new JdbcAuditAppenderConf();
+        conf.setQueueCapacity(queueCapacity);
+        conf.setFlushSize(flushSize);
+        conf.setFlushLatency(flushLatency);
+        conf.setOverflowPolicy(overflowPolicy);
+
+        appender = new JdbcAuditAppender("audit_for_Test", "Test", dataSource, conf);
+        return appender;
+    }
+
+    private static LogEvent event(final int index) {
+        return Log4jLogEvent.newBuilder().
+                setLoggerName("syncope.audit.[Test]").
+                setLevel(Level.INFO).
+                setMessage(new SimpleMessage("event " + index)).
+                setTimeMillis(System.currentTimeMillis()).
+                build();
+    }
+
+    private int rows() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM SYNCOPEAUDIT")) {
+
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private void awaitWritten(final long expected, final long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (appender.getStats().getWritten() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, appender.getStats().getWritten());
+    }
+
+    @Test
+    public void flushBySize() throws Exception {
+        appender(100, 3, TimeUnit.MINUTES.toMillis(1), JdbcAuditAppender.OverflowPolicy.BLOCK).start();
+
+        for (int i = 0; i < 3; i++) {
+            appender.append(event(i));
+        }
+
+        // way before the flush latency
+        awaitWritten(3, 5000);
+        assertEquals(1, appender.getStats().getBatches());
+        assertEquals(3, rows());
+    }
+
+    @Test
+    public void flushByLatency() throws Exception {
+        appender(100, 100, 500, JdbcAuditAppender.OverflowPolicy.BLOCK).start();
+
+        appender.append(event(0));
+        appender.append(event(1));
+        assertEquals(0, rows());
+
+        awaitWritten(2, 5000);
+        assertEquals(1, appender.getStats().getBatches());
+        assertEquals(2, rows());
+    }
+
+    @Test
+    public void drainOnStop() throws Exception {
+        appender(100, 100, TimeUnit.MINUTES.toMillis(1), JdbcAuditAppender.OverflowPolicy.BLOCK).start();
+
+        for (int i = 0; i < 5; i++) {
+            appender.append(event(i));
+        }
+        appender.stop(5, TimeUnit.SECONDS);
+
+        assertTrue(appender.isStopped());
+        assertEquals(5, appender.getStats().getWritten());
+        assertEquals(5, rows());
+    }
+
+    @Test
+    public void overflowDiscard() throws Exception {
+        // not started yet: nothing is taken off the queue
+        appender(2, 10, 100, JdbcAuditAppender.OverflowPolicy.DISCARD);
+
+        for (int i = 0; i < 3; i++) {
+            appender.append(event(i));
+        }
+        assertEquals(3, appender.getStats().getAppended());
+        assertEquals(1, appender.getStats().getDropped());
+        assertEquals(2, appender.getStats().getQueueSize());
+
+        appender.start();
+        appender.stop(5, TimeUnit.SECONDS);
+        assertEquals(2, rows());
+    }
+
+    @Test
+    public void overflowSync() throws Exception {
+        appender(1, 10, 100, JdbcAuditAppender.OverflowPolicy.SYNC);
+
+        appender.append(event(0));
+        appender.append(event(1));
+        // the second event was written by the calling thread
+        assertEquals(1, rows());
+        assertEquals(1, appender.getStats().getQueueSize());
+
+        appender.start();
+        appender.stop(5, TimeUnit.SECONDS);
+        assertEquals(2, rows());
+        assertEquals(0, appender.getStats().getDropped());
+    }
+
+    @Test
+    public void overflowBlock() throws Exception {
+        appender(1, 10, 100, JdbcAuditAppender.OverflowPolicy.BLOCK);
+
+        appender.append(event(0));
+        Thread caller = new Thread(() -> appender.append(event(1)));
+        caller.start();
+
+        caller.join(300);
+        assertTrue(caller.isAlive());
+        assertEquals(0, rows());
+
+        // the writer makes room, the caller is released
+        appender.start();
+        caller.join(5000);
+        assertFalse(caller.isAlive());
+
+        awaitWritten(2, 5000);
+        assertEquals(2, rows());
+        assertEquals(0, appender.getStats().getDropped());
+    }
+
+    @Test
+    public void syncWriteFailure() throws Exception {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DROP TABLE SYNCOPEAUDIT");
+        }
+
+        appender(1, 10, 100, JdbcAuditAppender.OverflowPolicy.SYNC);
+
+        appender.append(event(0));
+        try {
+            appender.append(event(1));
+            fail("Write failure on the calling thread was expected to be reported");
+        } catch (AppenderLoggingException e) {
+            assertTrue(e.getCause() instanceof SQLException);
+        }
+        assertEquals(1, appender.getStats().getFailed());
+    }
+
+    @Test
+    public void asyncWriteFailure() throws Exception {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DROP TABLE SYNCOPEAUDIT");
+        }
+
+        appender(100, 100, 100, JdbcAuditAppender.OverflowPolicy.BLOCK).start();
+
+        appender.append(event(0));
+        appender.append(event(1));
+        appender.stop(5, TimeUnit.SECONDS);
+
+        assertEquals(0, appender.getStats().getWritten());
+        assertEquals(2, appender.getStats().getFailed());
+    }
+}
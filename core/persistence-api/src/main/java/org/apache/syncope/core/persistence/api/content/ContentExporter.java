@@ -18,12 +18,27 @@
  */
 package org.apache.syncope.core.persistence.api.content;
 
+import java.io.IOException;
 import java.io.OutputStream;
-import javax.xml.transform.TransformerConfigurationException;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLStreamException;
 
 public interface ContentExporter {
 
-    void export(String domain, OutputStream output, String uwfPrefix, String gwfPrefix, String awfPrefix) 
-            throws SAXException, TransformerConfigurationException;
+    void export(String domain, OutputStream output, String uwfPrefix, String gwfPrefix, String awfPrefix)
+            throws IOException, XMLStreamException;
+
+    /**
+     * Exports the content of the given domain.
+     *
+     * @param domain domain
+     * @param output where content is written
+     * @param gzip whether output shall be GZIP-compressed
+     * @param uwfPrefix user workflow tables prefix, to exclude
+     * @param gwfPrefix group workflow tables prefix, to exclude
+     * @param awfPrefix any object workflow tables prefix, to exclude
+     * @throws IOException if output cannot be written
+     * @throws XMLStreamException if XML cannot be generated
+     */
+    void export(String domain, OutputStream output, boolean gzip, String uwfPrefix, String gwfPrefix, String awfPrefix)
+            throws IOException, XMLStreamException;
 }
@@ -39,6 +39,15 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     A find(String key);
 
+    /**
+     * Find any objects matching the given keys, in a single round trip (or few, for very large key sets); plain
+     * attributes and memberships are fetched along.
+     *
+     * @param keys any object keys
+     * @return any objects found, in the same order as the provided keys; missing keys are skipped
+     */
+    List<A> findByKeys(Collection<String> keys);
+
     A findByWorkflowId(String workflowId);
 
     List<A> findByPlainAttrValue(String schemaName, PlainAttrValue attrValue);
@@ -78,6 +87,16 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
      */
     List<A> findAll(int page, int itemsPerPage);
 
+    /**
+     * Find any objects without any limitation, ordered by key, starting after the given key: unlike
+     * {@link #findAll(int, int)}, the cost of fetching a page does not depend on how deep the page is.
+     *
+     * @param after key of the last any object returned by the previous invocation, null to start from the first
+     * @param itemsPerPage items per search result page
+     * @return any objects of type {@link A} whose key follows the given one
+     */
+    List<A> findAll(String after, int itemsPerPage);
+
     <S extends Schema> AllowedSchemas<S> findAllowedSchemas(A any, Class<S> reference);
 
     A save(A any);
@@ -66,6 +66,21 @@ public interface AnySearchDAO extends DAO<Any<?>> {
             Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
             List<OrderByClause> orderBy, AnyTypeKind kind);
 
+    /**
+     * Keyset (seek) pagination: rather than skipping the items of all previous pages, return the first
+     * {@code itemsPerPage} items whose key follows {@code after}, ordered by key.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param after key of the last item of the previous page, null for the first page
+     * @param itemsPerPage number of results per page
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition (in the given page), ordered by key
+     */
+    <T extends Any<?>> List<T> search(
+            Set<String> adminRealms, SearchCond searchCondition, String after, int itemsPerPage, AnyTypeKind kind);
+
     /**
      * Verify if any matches the given search condition.
      *
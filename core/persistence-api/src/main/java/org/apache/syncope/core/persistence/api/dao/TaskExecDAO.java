@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.Date;
 import java.util.List;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
@@ -48,4 +49,22 @@ public interface TaskExecDAO extends DAO<TaskExec> {
     void delete(String key);
 
     void delete(TaskExec execution);
+
+    /**
+     * For each task of the given type, delete all executions except for the {@code max} most recently started.
+     *
+     * @param type task type
+     * @param max how many executions to keep for each task
+     * @return number of deleted executions
+     */
+    int deleteExceeding(TaskType type, long max);
+
+    /**
+     * Delete all executions ended before the given date, for tasks of the given type.
+     *
+     * @param type task type
+     * @param date deletion threshold
+     * @return number of deleted executions
+     */
+    int deleteEndedBefore(TaskType type, Date date);
 }
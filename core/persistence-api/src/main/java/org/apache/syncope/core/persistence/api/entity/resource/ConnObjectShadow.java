@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.entity.resource;
+
+import java.util.Date;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+
+/**
+ * Last known state of a connector object, as propagated by Syncope to a resource trusting local state.
+ */
+public interface ConnObjectShadow extends Entity {
+
+    ExternalResource getResource();
+
+    void setResource(ExternalResource resource);
+
+    ObjectClass getObjectClass();
+
+    void setObjectClass(ObjectClass objectClass);
+
+    String getConnObjectKey();
+
+    void setConnObjectKey(String connObjectKey);
+
+    String getUid();
+
+    void setUid(String uid);
+
+    String getAttrsHash();
+
+    Set<Attribute> getAttributes();
+
+    void setAttributes(Set<Attribute> attributes);
+
+    /**
+     * Tells whether the given attributes are the same as the last propagated, by comparing their hashes.
+     *
+     * @param attributes attributes to compare
+     * @return whether the given attributes are the same as the last propagated
+     */
+    boolean isAlignedWith(Set<Attribute> attributes);
+
+    Date getLastPropagation();
+
+    void setLastPropagation(Date lastPropagation);
+}
@@ -90,6 +90,10 @@ public interface ExternalResource extends ProvidedKeyEntity {
 
     void setRandomPwdIfNotProvided(boolean condition);
 
+    boolean isTrustLocalState();
+
+    void setTrustLocalState(boolean trustLocalState);
+
     boolean add(Provision provision);
 
     Optional<? extends Provision> getProvision(AnyType anyType);
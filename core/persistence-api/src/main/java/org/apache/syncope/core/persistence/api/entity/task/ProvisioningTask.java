@@ -55,4 +55,11 @@ public interface ProvisioningTask extends SchedTask {
 
     void setSyncStatus(boolean syncStatus);
 
+    /**
+     * @return how many workers can handle provisioning at the same time: when greater than 1, the configured
+     * actions are invoked concurrently
+     */
+    int getParallelism();
+
+    void setParallelism(int parallelism);
 }
@@ -21,7 +21,9 @@ package org.apache.syncope.core.persistence.jpa.content;
 import java.sql.ResultSet;
 import java.sql.Types;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
 import javax.xml.bind.DatatypeConverter;
@@ -30,42 +32,78 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * SAX handler for generating SQL INSERT statements out of given XML file.
+ *
+ * When batch size is greater than 1, consecutive rows for the same table (and same columns) are sent to the
+ * database as JDBC batches, each in its own transaction; should a batch fail, its rows are inserted again one by one
+ * so that the faulty ones can be reported (and skipped, if continuing on error).
  */
 public class ContentLoaderHandler extends DefaultHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContentLoaderHandler.class);
 
-    private final DataSource dataSource;
-
     private final String rootElement;
 
     private final boolean continueOnError;
 
+    private final int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate txTemplate;
+
+    private final Map<String, Map<String, Integer>> colTypesByTable = new HashMap<>();
+
+    private final List<Object[]> batch = new ArrayList<>();
+
+    private String batchQuery;
+
+    private long rows;
+
+    private long failed;
+
+    private long start;
+
     public ContentLoaderHandler(final DataSource dataSource, final String rootElement, final boolean continueOnError) {
-        this.dataSource = dataSource;
+        this(dataSource, rootElement, continueOnError, 1);
+    }
+
+    public ContentLoaderHandler(
+            final DataSource dataSource,
+            final String rootElement,
+            final boolean continueOnError,
+            final int batchSize) {
+
         this.rootElement = rootElement;
         this.continueOnError = continueOnError;
+        this.batchSize = Math.max(1, batchSize);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.txTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    private Object[] getParameters(final String tableName, final Attributes attrs) {
-        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
-
-        Map<String, Integer> colTypes = jdbcTemplate.query(
+    private Map<String, Integer> getColTypes(final String tableName) {
+        return colTypesByTable.computeIfAbsent(tableName.toUpperCase(), table -> jdbcTemplate.query(
                 "SELECT * FROM " + tableName + " WHERE 0=1", (final ResultSet rs) -> {
-                    Map<String, Integer> colTypes1 = new HashMap<>();
-                    for (int i = 1; i <= rs.getMetaData().getColumnCount();
-                    i++) {
-                        colTypes1.
-                                put(rs.getMetaData().getColumnName(i).toUpperCase(), rs.getMetaData().getColumnType(i));
+                    Map<String, Integer> colTypes = new HashMap<>();
+                    for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                        colTypes.put(rs.getMetaData().getColumnName(i).toUpperCase(),
+                                rs.getMetaData().getColumnType(i));
                     }
-                    return colTypes1;
-                });
+                    return colTypes;
+                }));
+    }
+
+    private Object[] getParameters(final String tableName, final Attributes attrs) {
+        Map<String, Integer> colTypes = getColTypes(tableName);
 
         Object[] parameters = new Object[attrs.getLength()];
         for (int i = 0; i < attrs.getLength(); i++) {
@@ -162,6 +200,44 @@ public class ContentLoaderHandler extends DefaultHandler {
         return parameters;
     }
 
+    private void insert(final String query, final Object[] parameters) {
+        try {
+            jdbcTemplate.update(query, parameters);
+            rows++;
+        } catch (DataAccessException e) {
+            failed++;
+            LOG.error("While trying to perform {} with params {}", query, parameters, e);
+            if (!continueOnError) {
+                throw e;
+            }
+        }
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (batch.size() == 1) {
+            insert(batchQuery, batch.get(0));
+        } else {
+            try {
+                txTemplate.execute(status -> jdbcTemplate.batchUpdate(batchQuery, batch));
+                rows += batch.size();
+            } catch (DataAccessException e) {
+                LOG.warn("Batch of {} failed for {}, inserting one by one", batch.size(), batchQuery, e);
+                batch.forEach(parameters -> insert(batchQuery, parameters));
+            }
+        }
+
+        batch.clear();
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+        start = System.currentTimeMillis();
+    }
+
     @Override
     public void startElement(final String uri, final String localName, final String qName, final Attributes atts)
             throws SAXException {
@@ -185,14 +261,34 @@ public class ContentLoaderHandler extends DefaultHandler {
         }
         query.append(") VALUES (").append(values).append(')');
 
-        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
-        try {
-            jdbcTemplate.update(query.toString(), getParameters(qName, atts));
-        } catch (DataAccessException e) {
-            LOG.error("While trying to perform {} with params {}", query, getParameters(qName, atts), e);
-            if (!continueOnError) {
-                throw e;
+        if (batchSize == 1) {
+            insert(query.toString(), getParameters(qName, atts));
+        } else {
+            if (!query.toString().equals(batchQuery)) {
+                flush();
+                batchQuery = query.toString();
+            }
+
+            batch.add(getParameters(qName, atts));
+            if (batch.size() >= batchSize) {
+                flush();
             }
         }
     }
+
+    @Override
+    public void endDocument() throws SAXException {
+        flush();
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        LOG.info("Loaded {} rows ({} failed) in {} ms: {} rows/s", rows, failed, elapsed, rows * 1000 / elapsed);
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
 }
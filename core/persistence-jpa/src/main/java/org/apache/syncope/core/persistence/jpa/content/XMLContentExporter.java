@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.content;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -41,14 +42,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.zip.GZIPOutputStream;
 import javax.sql.DataSource;
 import javax.xml.bind.DatatypeConverter;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.sax.SAXTransformerFactory;
-import javax.xml.transform.sax.TransformerHandler;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
@@ -69,19 +68,23 @@ import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrUniqueVa
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrValue;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAURelationship;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Component;
-import org.xml.sax.SAXException;
-import org.xml.sax.helpers.AttributesImpl;
 
 /**
- * Export internal storage content as XML.
+ * Export internal storage content as XML: rows are read via forward-only result sets and written straight to the
+ * output via StAX, so that memory usage does not depend on the amount of data.
  */
 @Component
 public class XMLContentExporter extends AbstractContentDealer implements ContentExporter {
 
+    protected static final int FETCH_SIZE = 1000;
+
+    protected static final int BUFFER_SIZE = 65536;
+
     protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = new HashSet<>(Arrays.asList(new String[] {
-        "QRTZ_", "LOGGING", JPAReportExec.TABLE, JPATaskExec.TABLE,
+        "QRTZ_", "LOGGING", JDBCRemoteCommitProvider.TABLE, JPAReportExec.TABLE, JPATaskExec.TABLE,
         JPAUser.TABLE, JPAUPlainAttr.TABLE, JPAUPlainAttrValue.TABLE, JPAUPlainAttrUniqueValue.TABLE,
         JPAURelationship.TABLE, JPAUMembership.TABLE,
         JPAAnyObject.TABLE, JPAAPlainAttr.TABLE, JPAAPlainAttrValue.TABLE, JPAAPlainAttrUniqueValue.TABLE,
@@ -169,7 +172,7 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
         return sortedTableNames;
     }
 
-    private String getValues(final ResultSet rs, final String columnName, final Integer columnType)
+    private String getValue(final ResultSet rs, final int columnIndex, final int columnType)
             throws SQLException {
 
         String res = null;
@@ -179,14 +182,14 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
                 case Types.BINARY:
                 case Types.VARBINARY:
                 case Types.LONGVARBINARY:
-                    final InputStream is = rs.getBinaryStream(columnName);
+                    final InputStream is = rs.getBinaryStream(columnIndex);
                     if (is != null) {
                         res = DatatypeConverter.printHexBinary(IOUtils.toByteArray(is));
                     }
                     break;
 
                 case Types.BLOB:
-                    final Blob blob = rs.getBlob(columnName);
+                    final Blob blob = rs.getBlob(columnIndex);
                     if (blob != null) {
                         res = DatatypeConverter.printHexBinary(IOUtils.toByteArray(blob.getBinaryStream()));
                     }
@@ -194,7 +197,7 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
 
                 case Types.BIT:
                 case Types.BOOLEAN:
-                    if (rs.getBoolean(columnName)) {
+                    if (rs.getBoolean(columnIndex)) {
                         res = "1";
                     } else {
                         res = "0";
@@ -204,14 +207,14 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
                 case Types.DATE:
                 case Types.TIME:
                 case Types.TIMESTAMP:
-                    final Timestamp timestamp = rs.getTimestamp(columnName);
+                    final Timestamp timestamp = rs.getTimestamp(columnIndex);
                     if (timestamp != null) {
                         res = FormatUtils.format(new Date(timestamp.getTime()));
                     }
                     break;
 
                 default:
-                    res = rs.getString(columnName);
+                    res = rs.getString(columnIndex);
             }
         } catch (IOException e) {
             LOG.error("Error retrieving hexadecimal string", e);
@@ -220,56 +223,18 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
         return res;
     }
 
-    private void doExportTable(
-            final TransformerHandler handler,
-            final String dbSchema,
-            final Connection conn,
-            final String tableName,
-            final String whereClause) throws SQLException, SAXException {
-
-        LOG.debug("Export table {}", tableName);
-
-        AttributesImpl attrs = new AttributesImpl();
-
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
-        try {
-            StringBuilder orderBy = new StringBuilder();
-
-            DatabaseMetaData meta = conn.getMetaData();
+    private String getOrderBy(final String dbSchema, final Connection conn, final String tableName)
+            throws SQLException {
 
-            // ------------------------------------
-            // retrieve foreign keys (linked to the same table) to perform an ordered select
-            ResultSet pkeyRS = null;
-            try {
-                pkeyRS = meta.getImportedKeys(conn.getCatalog(), dbSchema, tableName);
-                while (pkeyRS.next()) {
-                    if (tableName.equals(pkeyRS.getString("PKTABLE_NAME"))) {
-                        String columnName = pkeyRS.getString("FKCOLUMN_NAME");
-                        if (columnName != null) {
-                            if (orderBy.length() > 0) {
-                                orderBy.append(",");
-                            }
+        StringBuilder orderBy = new StringBuilder();
 
-                            orderBy.append(columnName);
-                        }
-                    }
-                }
-            } finally {
-                if (pkeyRS != null) {
-                    try {
-                        pkeyRS.close();
-                    } catch (SQLException e) {
-                        LOG.error("While closing result set", e);
-                    }
-                }
-            }
+        DatabaseMetaData meta = conn.getMetaData();
 
-            // retrieve primary keys to perform an ordered select
-            try {
-                pkeyRS = meta.getPrimaryKeys(null, null, tableName);
-                while (pkeyRS.next()) {
-                    String columnName = pkeyRS.getString("COLUMN_NAME");
+        // retrieve foreign keys (linked to the same table) to perform an ordered select
+        try (ResultSet pkeyRS = meta.getImportedKeys(conn.getCatalog(), dbSchema, tableName)) {
+            while (pkeyRS.next()) {
+                if (tableName.equals(pkeyRS.getString("PKTABLE_NAME"))) {
+                    String columnName = pkeyRS.getString("FKCOLUMN_NAME");
                     if (columnName != null) {
                         if (orderBy.length() > 0) {
                             orderBy.append(",");
@@ -278,66 +243,85 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
                         orderBy.append(columnName);
                     }
                 }
-            } finally {
-                if (pkeyRS != null) {
-                    try {
-                        pkeyRS.close();
-                    } catch (SQLException e) {
-                        LOG.error("While closing result set", e);
+            }
+        }
+
+        // retrieve primary keys to perform an ordered select
+        try (ResultSet pkeyRS = meta.getPrimaryKeys(null, null, tableName)) {
+            while (pkeyRS.next()) {
+                String columnName = pkeyRS.getString("COLUMN_NAME");
+                if (columnName != null) {
+                    if (orderBy.length() > 0) {
+                        orderBy.append(",");
                     }
+
+                    orderBy.append(columnName);
                 }
             }
+        }
 
-            // ------------------------------------
-            StringBuilder query = new StringBuilder();
-            query.append("SELECT * FROM ").append(tableName).append(" a");
-            if (StringUtils.isNotBlank(whereClause)) {
-                query.append(" WHERE ").append(whereClause);
-            }
-            if (orderBy.length() > 0) {
-                query.append(" ORDER BY ").append(orderBy);
-            }
-            stmt = conn.prepareStatement(query.toString());
+        return orderBy.toString();
+    }
 
-            rs = stmt.executeQuery();
-            while (rs.next()) {
-                attrs.clear();
+    private long doExportTable(
+            final XMLStreamWriter writer,
+            final String dbSchema,
+            final Connection conn,
+            final String tableName,
+            final String whereClause) throws SQLException, XMLStreamException {
 
-                final ResultSetMetaData rsMeta = rs.getMetaData();
-                for (int i = 0; i < rsMeta.getColumnCount(); i++) {
-                    final String columnName = rsMeta.getColumnName(i + 1);
-                    final Integer columnType = rsMeta.getColumnType(i + 1);
+        LOG.debug("Export table {}", tableName);
 
-                    // Retrieve value taking care of binary values.
-                    String value = getValues(rs, columnName, columnType);
-                    if (value != null && (!COLUMNS_TO_BE_NULLIFIED.containsKey(tableName)
-                            || !COLUMNS_TO_BE_NULLIFIED.get(tableName).contains(columnName))) {
+        StringBuilder query = new StringBuilder();
+        query.append("SELECT * FROM ").append(tableName).append(" a");
+        if (StringUtils.isNotBlank(whereClause)) {
+            query.append(" WHERE ").append(whereClause);
+        }
+        String orderBy = getOrderBy(dbSchema, conn, tableName);
+        if (!orderBy.isEmpty()) {
+            query.append(" ORDER BY ").append(orderBy);
+        }
 
-                        attrs.addAttribute("", "", columnName, "CDATA", value);
-                    }
+        long rows = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(
+                query.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            stmt.setFetchSize(FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                // column metadata does not change across rows
+                ResultSetMetaData rsMeta = rs.getMetaData();
+                Set<String> nullified = COLUMNS_TO_BE_NULLIFIED.getOrDefault(tableName, Collections.emptySet());
+                int columnCount = rsMeta.getColumnCount();
+                String[] columnNames = new String[columnCount];
+                int[] columnTypes = new int[columnCount];
+                boolean[] exported = new boolean[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    columnNames[i] = rsMeta.getColumnName(i + 1);
+                    columnTypes[i] = rsMeta.getColumnType(i + 1);
+                    exported[i] = !nullified.contains(columnNames[i]);
                 }
 
-                handler.startElement("", "", tableName, attrs);
-                handler.endElement("", "", tableName);
+                while (rs.next()) {
+                    writer.writeCharacters("\n");
+                    writer.writeEmptyElement(tableName);
+
+                    for (int i = 0; i < columnCount; i++) {
+                        if (exported[i]) {
+                            // Retrieve value taking care of binary values.
+                            String value = getValue(rs, i + 1, columnTypes[i]);
+                            if (value != null) {
+                                writer.writeAttribute(columnNames[i], value);
+                            }
+                        }
+                    }
 
-                LOG.debug("Add record {}", attrs);
-            }
-        } finally {
-            if (rs != null) {
-                try {
-                    rs.close();
-                } catch (SQLException e) {
-                    LOG.error("While closing result set", e);
-                }
-            }
-            if (stmt != null) {
-                try {
-                    stmt.close();
-                } catch (SQLException e) {
-                    LOG.error("While closing result set", e);
+                    rows++;
                 }
             }
         }
+
+        return rows;
     }
 
     @Override
@@ -347,7 +331,20 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
             final String uwfPrefix,
             final String gwfPrefix,
             final String awfPrefix)
-            throws SAXException, TransformerConfigurationException {
+            throws IOException, XMLStreamException {
+
+        export(domain, os, false, uwfPrefix, gwfPrefix, awfPrefix);
+    }
+
+    @Override
+    public void export(
+            final String domain,
+            final OutputStream os,
+            final boolean gzip,
+            final String uwfPrefix,
+            final String gwfPrefix,
+            final String awfPrefix)
+            throws IOException, XMLStreamException {
 
         if (StringUtils.isNotBlank(uwfPrefix)) {
             TABLE_PREFIXES_TO_BE_EXCLUDED.add(uwfPrefix);
@@ -359,18 +356,6 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
             TABLE_PREFIXES_TO_BE_EXCLUDED.add(awfPrefix);
         }
 
-        StreamResult streamResult = new StreamResult(os);
-        final SAXTransformerFactory transformerFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
-        transformerFactory.setFeature(javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING, true);
-
-        TransformerHandler handler = transformerFactory.newTransformerHandler();
-        Transformer serializer = handler.getTransformer();
-        serializer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
-        serializer.setOutputProperty(OutputKeys.INDENT, "yes");
-        handler.setResult(streamResult);
-        handler.startDocument();
-        handler.startElement("", "", ROOT_ELEMENT, new AttributesImpl());
-
         DataSource dataSource = domainsHolder.getDomains().get(domain);
         if (dataSource == null) {
             throw new IllegalArgumentException("Could not find DataSource for domain " + domain);
@@ -379,6 +364,18 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
         String dbSchema = ApplicationContextProvider.getBeanFactory().getBean(domain + "DatabaseSchema",
                 String.class);
 
+        GZIPOutputStream gzos = gzip ? new GZIPOutputStream(os, BUFFER_SIZE) : null;
+        OutputStream out = new BufferedOutputStream(gzip ? gzos : os, BUFFER_SIZE);
+
+        XMLStreamWriter writer = XMLOutputFactory.newInstance().
+                createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        writer.writeCharacters("\n");
+        writer.writeStartElement(ROOT_ELEMENT);
+
+        long start = System.currentTimeMillis();
+        long rows = 0;
+
         Connection conn = null;
         ResultSet rs = null;
         try {
@@ -402,10 +399,15 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
 
             // then sort tables based on foreign keys and dump
             for (String tableName : sortByForeignKeys(dbSchema, conn, tableNames)) {
+                long tableStart = System.currentTimeMillis();
                 try {
-                    doExportTable(
-                            handler, dbSchema, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()));
-                } catch (Exception e) {
+                    long tableRows = doExportTable(
+                            writer, dbSchema, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()));
+                    rows += tableRows;
+
+                    LOG.debug("Exported {} rows from {} in {} ms",
+                            tableRows, tableName, System.currentTimeMillis() - tableStart);
+                } catch (SQLException e) {
                     LOG.error("Failure exporting table {}", tableName, e);
                 }
             }
@@ -432,7 +434,17 @@ public class XMLContentExporter extends AbstractContentDealer implements Content
             }
         }
 
-        handler.endElement("", "", ROOT_ELEMENT);
-        handler.endDocument();
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.close();
+
+        out.flush();
+        if (gzos != null) {
+            gzos.finish();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        LOG.info("[{}] Exported {} rows in {} ms: {} rows/s", domain, rows, elapsed, rows * 1000 / elapsed);
     }
 }
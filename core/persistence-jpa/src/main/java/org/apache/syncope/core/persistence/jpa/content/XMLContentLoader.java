@@ -20,6 +20,9 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Resource;
@@ -27,13 +30,17 @@ import javax.sql.DataSource;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.persistence.jpa.entity.conf.JPAConf;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.stereotype.Component;
 
@@ -49,6 +56,9 @@ public class XMLContentLoader extends AbstractContentDealer implements ContentLo
     @Resource(name = "indexesXML")
     private ResourceWithFallbackLoader indexesXML;
 
+    @Resource(name = "contentLoaderBatchSize")
+    private Integer batchSize;
+
     @Override
     public Integer getPriority() {
         return 0;
@@ -72,6 +82,12 @@ public class XMLContentLoader extends AbstractContentDealer implements ContentLo
 
             if (existingData) {
                 LOG.info("[{}] Data found in the database, leaving untouched", entry.getKey());
+
+                try {
+                    refreshRealmFullPaths(entry.getKey(), entry.getValue());
+                } catch (DataAccessException e) {
+                    LOG.error("[{}] While setting realm full paths", entry.getKey(), e);
+                }
             } else {
                 LOG.info("[{}] Empty database found, loading default content", entry.getKey());
 
@@ -92,6 +108,60 @@ public class XMLContentLoader extends AbstractContentDealer implements ContentLo
         }
     }
 
+    /**
+     * Stores the full path of any realm for which it is missing or not aligned, as for databases created before the
+     * full path was stored along with each realm.
+     *
+     * @param domain domain
+     * @param dataSource domain's data source
+     * @return number of realms updated
+     */
+    public int refreshRealmFullPaths(final String domain, final DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Map<String, String> names = new HashMap<>();
+        Map<String, String> parents = new HashMap<>();
+        Map<String, String> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name, parent_id, fullPath FROM " + JPARealm.TABLE, (RowCallbackHandler) rs -> {
+            names.put(rs.getString(1), rs.getString(2));
+            parents.put(rs.getString(1), rs.getString(3));
+            stored.put(rs.getString(1), rs.getString(4));
+        });
+
+        Map<String, String> fullPaths = new HashMap<>();
+        List<Object[]> updates = new ArrayList<>();
+        names.keySet().forEach(key -> {
+            String fullPath = fullPath(key, names, parents, fullPaths);
+            if (!fullPath.equals(stored.get(key))) {
+                updates.add(new Object[] { fullPath, key });
+            }
+        });
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE " + JPARealm.TABLE + " SET fullPath=? WHERE id=?", updates);
+            LOG.info("[{}] Full path set for {} realm(s)", domain, updates.size());
+        }
+
+        return updates.size();
+    }
+
+    private String fullPath(
+            final String key,
+            final Map<String, String> names,
+            final Map<String, String> parents,
+            final Map<String, String> fullPaths) {
+
+        String fullPath = fullPaths.get(key);
+        if (fullPath == null) {
+            String parent = parents.get(key);
+            fullPath = parent == null
+                    ? SyncopeConstants.ROOT_REALM
+                    : StringUtils.appendIfMissing(fullPath(parent, names, parents, fullPaths), "/") + names.get(key);
+            fullPaths.put(key, fullPath);
+        }
+        return fullPath;
+    }
+
     private void loadDefaultContent(
             final String domain, final ResourceWithFallbackLoader contentXML, final DataSource dataSource)
             throws Exception {
@@ -102,7 +172,7 @@ public class XMLContentLoader extends AbstractContentDealer implements ContentLo
             in = contentXML.getResource().getInputStream();
 
             SAXParser parser = factory.newSAXParser();
-            parser.parse(in, new ContentLoaderHandler(dataSource, ROOT_ELEMENT, true));
+            parser.parse(in, new ContentLoaderHandler(dataSource, ROOT_ELEMENT, true, batchSize));
             LOG.debug("[{}] Default content successfully loaded", domain);
         } finally {
             IOUtils.closeQuietly(in);
@@ -25,10 +25,13 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
 import javax.persistence.TemporalType;
@@ -36,6 +39,8 @@ import org.apache.commons.jexl3.parser.Parser;
 import org.apache.commons.jexl3.parser.ParserConstants;
 import org.apache.commons.jexl3.parser.Token;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.openjpa.persistence.FetchPlan;
+import org.apache.openjpa.persistence.OpenJPAPersistence;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -68,6 +73,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> implements AnyDAO<A> {
 
+    /**
+     * Maximum number of keys bound to a single {@code IN} clause, to stay below the limits of all supported DBMSes.
+     */
+    protected static final int MAX_IN_KEYS = 500;
+
     @Autowired
     protected ApplicationEventPublisher publisher;
 
@@ -178,6 +188,39 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return (A) entityManager().find(anyUtils().anyClass(), key);
     }
 
+    /**
+     * @return names of the (lazy) fields to be loaded along with the entities returned by
+     * {@link #findByKeys(java.util.Collection)}
+     */
+    protected List<String> batchFetchFields() {
+        return Collections.singletonList("plainAttrs");
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<A> findByKeys(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.<A>emptyList();
+        }
+
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+
+        Map<String, A> found = new HashMap<>(distinctKeys.size());
+        for (int i = 0; i < distinctKeys.size(); i += MAX_IN_KEYS) {
+            Query query = entityManager().createQuery("SELECT e FROM " + anyUtils().anyClass().getSimpleName()
+                    + " e WHERE e.id IN :keys");
+            query.setParameter("keys", distinctKeys.subList(i, Math.min(i + MAX_IN_KEYS, distinctKeys.size())));
+
+            FetchPlan fetchPlan = OpenJPAPersistence.cast(query).getFetchPlan();
+            batchFetchFields().forEach(field -> fetchPlan.addField(anyUtils().anyClass(), field));
+
+            ((List<A>) query.getResultList()).forEach(any -> found.put(any.getKey(), any));
+        }
+
+        return distinctKeys.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public A findByWorkflowId(final String workflowId) {
@@ -457,6 +500,20 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return query.getResultList();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<A> findAll(final String after, final int itemsPerPage) {
+        Query query = entityManager().createQuery("SELECT e FROM " + anyUtils().anyClass().getSimpleName() + " e"
+                + (after == null ? "" : " WHERE e.id > :after")
+                + " ORDER BY e.id");
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        query.setMaxResults(itemsPerPage);
+
+        return query.getResultList();
+    }
+
     @Override
     public SearchCond getAllMatchingCond() {
         AnyCond idCond = new AnyCond(AttributeCond.Type.ISNOTNULL);
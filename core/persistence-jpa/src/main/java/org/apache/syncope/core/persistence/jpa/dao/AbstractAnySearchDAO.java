@@ -21,9 +21,10 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.Entity;
@@ -32,6 +33,7 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -56,6 +58,8 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -297,24 +301,25 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
     }
 
     protected <T extends Any<?>> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
-        List<T> result = new ArrayList<>();
-
-        raw.stream().map(anyKey -> anyKey instanceof Object[]
+        // keep the order given by the native query, avoiding duplicates
+        Set<String> keys = new LinkedHashSet<>(raw.size());
+        raw.forEach(anyKey -> keys.add(anyKey instanceof Object[]
                 ? (String) ((Object[]) anyKey)[0]
-                : ((String) anyKey)).
-                forEachOrdered((actualKey) -> {
-                    @SuppressWarnings("unchecked")
-                    T any = kind == AnyTypeKind.USER
-                            ? (T) userDAO.find(actualKey)
-                            : kind == AnyTypeKind.GROUP
-                                    ? (T) groupDAO.find(actualKey)
-                                    : (T) anyObjectDAO.find(actualKey);
-                    if (any == null) {
-                        LOG.error("Could not find {} with id {}, even if returned by native query", kind, actualKey);
-                    } else if (!result.contains(any)) {
-                        result.add(any);
-                    }
-                });
+                : ((String) anyKey)));
+
+        @SuppressWarnings("unchecked")
+        List<T> result = kind == AnyTypeKind.USER
+                ? (List<T>) userDAO.findByKeys(keys)
+                : kind == AnyTypeKind.GROUP
+                        ? (List<T>) groupDAO.findByKeys(keys)
+                        : (List<T>) anyObjectDAO.findByKeys(keys);
+
+        if (result.size() < keys.size()) {
+            Set<String> found = result.stream().map(any -> any.getKey()).collect(Collectors.toSet());
+            keys.stream().filter(key -> !found.contains(key)).forEach(key -> {
+                LOG.error("Could not find {} with id {}, even if returned by native query", kind, key);
+            });
+        }
 
         return result;
     }
@@ -352,8 +357,209 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
         return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
     }
 
+    @Override
+    public <T extends Any<?>> List<T> search(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String after,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
+        SearchCond effectiveCond = cond;
+        if (after != null) {
+            AnyCond afterCond = new AnyCond(AttributeCond.Type.GT);
+            afterCond.setSchema("key");
+            afterCond.setExpression(after);
+
+            effectiveCond = cond == null
+                    ? SearchCond.getLeafCond(afterCond)
+                    : SearchCond.getAndCond(cond, SearchCond.getLeafCond(afterCond));
+        }
+
+        return search(adminRealms, effectiveCond, 1, itemsPerPage, Collections.<OrderByClause>emptyList(), kind);
+    }
+
+    private Boolean matchesValue(final String expected, final String actual, final boolean ignoreCase) {
+        if (expected == null || actual == null) {
+            return null;
+        }
+        if (ignoreCase ? expected.equalsIgnoreCase(actual) : expected.equals(actual)) {
+            return true;
+        }
+
+        // leave to the underlying storage whatever might be affected by collation or padding rules
+        return StringUtils.isAsciiPrintable(expected) && StringUtils.isAsciiPrintable(actual)
+                && !expected.trim().equalsIgnoreCase(actual.trim())
+                ? false
+                : null;
+    }
+
+    private Boolean matchesValue(final PlainSchema schema, final PlainAttrValue expected, final PlainAttrValue actual,
+            final AttributeCond.Type type) {
+
+        switch (schema.getType()) {
+            case String:
+            case Enum:
+                return type == AttributeCond.Type.EQ || type == AttributeCond.Type.IEQ
+                        ? matchesValue(expected.getStringValue(), actual.getStringValue(),
+                                type == AttributeCond.Type.IEQ)
+                        : null;
+
+            case Boolean:
+                return type == AttributeCond.Type.EQ && actual.getBooleanValue() != null
+                        ? expected.getBooleanValue().equals(actual.getBooleanValue())
+                        : null;
+
+            case Long:
+                if (actual.getLongValue() == null) {
+                    return null;
+                }
+
+                int compared = actual.getLongValue().compareTo(expected.getLongValue());
+                switch (type) {
+                    case EQ:
+                        return compared == 0;
+
+                    case GT:
+                        return compared > 0;
+
+                    case GE:
+                        return compared >= 0;
+
+                    case LT:
+                        return compared < 0;
+
+                    case LE:
+                        return compared <= 0;
+
+                    default:
+                        return null;
+                }
+
+            default:
+                return null;
+        }
+    }
+
+    private Boolean matchesInMemory(final Any<?> any, final AttributeCond cond) {
+        Pair<PlainSchema, PlainAttrValue> checked;
+        try {
+            checked = check(cond, any.getType().getKind());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // attributes owned via memberships are searchable as well: leave them to the underlying storage
+        if (any instanceof GroupableRelatable && ((GroupableRelatable<?, ?, ?, ?, ?>) any).
+                getPlainAttrs(checked.getLeft().getKey()).stream().anyMatch(attr -> attr.getMembership() != null)) {
+
+            return null;
+        }
+
+        Optional<? extends PlainAttr<?>> attr = any.getPlainAttr(checked.getLeft().getKey());
+        switch (cond.getType()) {
+            case ISNULL:
+                return !attr.isPresent();
+
+            case ISNOTNULL:
+                return attr.isPresent();
+
+            case LIKE:
+            case ILIKE:
+                return null;
+
+            default:
+                if (!attr.isPresent()) {
+                    return false;
+                }
+
+                List<? extends PlainAttrValue> values = checked.getLeft().isUniqueConstraint()
+                        ? Collections.singletonList(attr.get().getUniqueValue())
+                        : attr.get().getValues();
+                Boolean result = false;
+                for (PlainAttrValue value : values) {
+                    Boolean matches = value == null
+                            ? null
+                            : matchesValue(checked.getLeft(), checked.getRight(), value, cond.getType());
+                    if (matches == null) {
+                        result = null;
+                    } else if (matches) {
+                        return true;
+                    }
+                }
+                return result;
+        }
+    }
+
+    private Boolean matchesInMemory(final Any<?> any, final AssignableCond cond) {
+        if (!cond.isFromGroup() || any.getRealm() == null) {
+            return null;
+        }
+
+        String fullPath = any.getRealm().getFullPath();
+        return SyncopeConstants.ROOT_REALM.equals(cond.getRealmFullPath())
+                || fullPath.equals(cond.getRealmFullPath())
+                || fullPath.startsWith(cond.getRealmFullPath() + "/");
+    }
+
+    /**
+     * Attempts to evaluate the given condition against the given entity, without querying the underlying storage.
+     * Only leaf conditions on realm and plain attributes are supported, with semantics mirroring the native queries
+     * built by {@link JPAAnySearchDAO}; all the rest is reported as undecided.
+     *
+     * @param any entity to evaluate
+     * @param cond search condition
+     * @return {@code TRUE} or {@code FALSE} if the outcome could be determined in memory, {@code NULL} otherwise
+     */
+    protected Boolean matchesInMemory(final Any<?> any, final SearchCond cond) {
+        switch (cond.getType()) {
+            case LEAF:
+                if (cond.getAssignableCond() != null) {
+                    return matchesInMemory(any, cond.getAssignableCond());
+                }
+                if (cond.getAttributeCond() != null) {
+                    return matchesInMemory(any, cond.getAttributeCond());
+                }
+                return null;
+
+            case AND:
+            case OR:
+                boolean shortCircuit = cond.getType() == SearchCond.Type.OR;
+
+                Boolean left = matchesInMemory(any, cond.getLeftSearchCond());
+                if (left != null && left == shortCircuit) {
+                    return shortCircuit;
+                }
+                Boolean right = matchesInMemory(any, cond.getRightSearchCond());
+                if (right != null && right == shortCircuit) {
+                    return shortCircuit;
+                }
+                return left == null || right == null ? null : !shortCircuit;
+
+            default:
+                return null;
+        }
+    }
+
     @Override
     public <T extends Any<?>> boolean matches(final T any, final SearchCond cond) {
-        return search(cond, any.getType().getKind()).contains(any);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return false;
+        }
+
+        Boolean inMemory = matchesInMemory(any, cond);
+        if (inMemory != null) {
+            return inMemory;
+        }
+
+        // restrict the query to the given entity, rather than fetching all the matching ones
+        AnyCond keyCond = new AnyCond(AttributeCond.Type.EQ);
+        keyCond.setSchema("key");
+        keyCond.setExpression(any.getKey());
+
+        return count(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getAndCond(cond, SearchCond.getLeafCond(keyCond)),
+                any.getType().getKind()) > 0;
     }
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.policy.AccountRuleConf;
@@ -45,12 +47,14 @@ public class DefaultAccountRule implements AccountRule {
                     AccountRuleConf.class.getName() + " expected, got " + conf.getClass().getName());
         }
 
+        // do not alter the given conf, which might be shared with other invocations
+        List<String> wordsNotPermitted = new ArrayList<>(this.conf.getWordsNotPermitted());
         this.conf.getSchemasNotPermitted().stream().
                 map(schema -> user.getPlainAttr(schema)).
                 filter(attr -> attr.isPresent()).
                 map(attr -> attr.get().getValuesAsStrings()).
                 filter(values -> (values != null && !values.isEmpty())).
-                forEachOrdered(values -> this.conf.getWordsNotPermitted().add(values.get(0)));
+                forEachOrdered(values -> wordsNotPermitted.add(values.get(0)));
 
         if (user.getUsername() == null) {
             throw new AccountPolicyException("Invalid account");
@@ -67,7 +71,7 @@ public class DefaultAccountRule implements AccountRule {
         }
 
         // check words not permitted
-        this.conf.getWordsNotPermitted().stream().
+        wordsNotPermitted.stream().
                 filter(word -> StringUtils.containsIgnoreCase(user.getUsername(), word)).
                 forEachOrdered(item -> {
                     throw new AccountPolicyException("Used word(s) not permitted");
@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.policy.DefaultPasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PasswordRuleConf;
@@ -43,12 +45,14 @@ public class DefaultPasswordRule implements PasswordRule {
                     PasswordRuleConf.class.getName() + " expected, got " + conf.getClass().getName());
         }
 
+        // do not alter the given conf, which might be shared with other invocations
+        List<String> wordsNotPermitted = new ArrayList<>(this.conf.getWordsNotPermitted());
         this.conf.getSchemasNotPermitted().stream().
                 map(schema -> user.getPlainAttr(schema)).
                 filter(attr -> attr.isPresent()).
                 map(attr -> attr.get().getValuesAsStrings()).
                 filter(values -> (values != null && !values.isEmpty())).
-                forEachOrdered(values -> this.conf.getWordsNotPermitted().add(values.get(0)));
+                forEachOrdered(values -> wordsNotPermitted.add(values.get(0)));
 
         String clearPassword = user.getClearPassword();
         String password = user.getPassword();
@@ -64,7 +68,7 @@ public class DefaultPasswordRule implements PasswordRule {
             }
 
             // check words not permitted
-            this.conf.getWordsNotPermitted().stream().
+            wordsNotPermitted.stream().
                     filter(word -> StringUtils.containsIgnoreCase(clearPassword, word)).
                     forEachOrdered(item -> {
                         throw new PasswordPolicyException("Used word(s) not permitted");
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -89,6 +90,11 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return new JPAAnyUtilsFactory().getInstance(AnyTypeKind.ANY_OBJECT);
     }
 
+    @Override
+    protected List<String> batchFetchFields() {
+        return Arrays.asList("plainAttrs", "memberships");
+    }
+
     @Transactional(readOnly = true)
     @Override
     public String findKey(final String username) {
@@ -24,14 +24,15 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.persistence.Query;
 import javax.persistence.TemporalType;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -69,7 +70,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             final SearchSupport svs,
             final List<Object> parameters) {
 
-        Set<String> realmKeys = new HashSet<>();
+        Set<String> realmPaths = new HashSet<>();
         Set<String> dynRealmKeys = new HashSet<>();
         for (String realmPath : RealmUtils.normalize(adminRealms)) {
             if (realmPath.startsWith("/")) {
@@ -79,8 +80,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                     noRealm.getElements().add("Invalid realm specified: " + realmPath);
                     throw noRealm;
                 } else {
-                    realmKeys.addAll(realmDAO.findDescendants(realm).stream().
-                            map(r -> r.getKey()).collect(Collectors.toSet()));
+                    realmPaths.add(realm.getFullPath());
                 }
             } else {
                 DynRealm dynRealm = dynRealmDAO.find(realmPath);
@@ -91,24 +91,26 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 }
             }
         }
-        if (!dynRealmKeys.isEmpty()) {
-            realmKeys.addAll(realmDAO.findAll().stream().
-                    map(r -> r.getKey()).collect(Collectors.toSet()));
+
+        // no restriction on realms when dynamic realms are involved or the root realm is among admin realms
+        if (!dynRealmKeys.isEmpty() || realmPaths.isEmpty() || realmPaths.contains(SyncopeConstants.ROOT_REALM)) {
+            return Pair.of("1=1", dynRealmKeys);
         }
 
+        // each realm is matched along with its descendants by full path prefix, regardless of the tree size
         StringBuilder adminRealmFilter = new StringBuilder("u.any_id IN (").
                 append("SELECT any_id FROM ").append(svs.field().name).
-                append(" WHERE realm_id IN (SELECT id AS realm_id FROM Realm");
+                append(" WHERE realm_id IN (SELECT id AS realm_id FROM Realm WHERE");
 
         boolean firstRealm = true;
-        for (String realmKey : realmKeys) {
+        for (String realmPath : realmPaths) {
             if (firstRealm) {
-                adminRealmFilter.append(" WHERE");
                 firstRealm = false;
             } else {
                 adminRealmFilter.append(" OR");
             }
-            adminRealmFilter.append(" id=?").append(setParameter(parameters, realmKey));
+            adminRealmFilter.append(" fullPath=?").append(setParameter(parameters, realmPath)).
+                    append(" OR fullPath LIKE ?").append(setParameter(parameters, realmPath + "/%"));
         }
 
         adminRealmFilter.append("))");
@@ -196,6 +198,49 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return Collections.emptyList();
     }
 
+    /**
+     * Inserts into the given table one row for each entity matching the given condition, by means of a single
+     * {@code INSERT ... SELECT} statement: no entity is loaded and no administrative realm restriction is applied.
+     *
+     * @param table table to insert into
+     * @param anyColumn column to fill with the key of each matching entity
+     * @param values other columns to fill, with the value to set on every inserted row
+     * @param cond search condition
+     * @param kind any type kind
+     * @return number of inserted rows
+     */
+    public int insertMatching(
+            final String table,
+            final String anyColumn,
+            final Map<String, Object> values,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return 0;
+        }
+
+        List<Object> parameters = Collections.synchronizedList(new ArrayList<>());
+
+        StringBuilder columns = new StringBuilder(anyColumn);
+        StringBuilder select = new StringBuilder("SELECT DISTINCT u.any_id");
+        values.forEach((column, value) -> {
+            columns.append(", ").append(column);
+            select.append(", ?").append(setParameter(parameters, value));
+        });
+
+        StringBuilder queryString = getQuery(cond, parameters, new SearchSupport(kind));
+        queryString.insert(0, "INSERT INTO " + table + "(" + columns + ") " + select + " FROM (");
+        queryString.append(") u");
+
+        Query insert = entityManager().createNativeQuery(queryString.toString());
+        fillWithParameters(insert, parameters);
+
+        return insert.executeUpdate();
+    }
+
     private int setParameter(final List<Object> parameters, final Object parameter) {
         int key;
         synchronized (parameters) {
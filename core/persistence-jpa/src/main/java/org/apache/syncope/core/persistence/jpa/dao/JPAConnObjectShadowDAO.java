@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.List;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.resource.JPAConnObjectShadow;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JPAConnObjectShadowDAO extends AbstractDAO<ConnObjectShadow> implements ConnObjectShadowDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public ConnObjectShadow find(
+            final ExternalResource resource, final ObjectClass objectClass, final String connObjectKey) {
+
+        TypedQuery<ConnObjectShadow> query = entityManager().createQuery(
+                "SELECT e FROM " + JPAConnObjectShadow.class.getSimpleName() + " e "
+                + "WHERE e.resource=:resource AND e.objectClass=:objectClass AND e.connObjectKey=:connObjectKey",
+                ConnObjectShadow.class);
+        query.setParameter("resource", resource);
+        query.setParameter("objectClass", objectClass.getObjectClassValue());
+        query.setParameter("connObjectKey", connObjectKey);
+
+        List<ConnObjectShadow> result = query.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Override
+    public ConnObjectShadow save(final ConnObjectShadow shadow) {
+        return entityManager().merge(shadow);
+    }
+
+    @Override
+    public void delete(final ExternalResource resource, final ObjectClass objectClass, final String connObjectKey) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAConnObjectShadow.class.getSimpleName() + " e "
+                + "WHERE e.resource=:resource AND e.objectClass=:objectClass AND e.connObjectKey=:connObjectKey");
+        query.setParameter("resource", resource);
+        query.setParameter("objectClass", objectClass.getObjectClassValue());
+        query.setParameter("connObjectKey", connObjectKey);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteByResource(final ExternalResource resource) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAConnObjectShadow.class.getSimpleName() + " e WHERE e.resource=:resource");
+        query.setParameter("resource", resource);
+        query.executeUpdate();
+    }
+}
@@ -18,8 +18,11 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -29,10 +32,13 @@ import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.DynRealmMembership;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
-import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +53,8 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
 
     private AnySearchDAO searchDAO;
 
+    private JPAAnySearchDAO jpaAnySearchDAO;
+
     private AnySearchDAO searchDAO() {
         synchronized (this) {
             if (searchDAO == null) {
@@ -56,6 +64,34 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         return searchDAO;
     }
 
+    private JPAAnySearchDAO jpaAnySearchDAO() {
+        synchronized (this) {
+            if (jpaAnySearchDAO == null) {
+                if (AopUtils.getTargetClass(searchDAO()).equals(JPAAnySearchDAO.class)) {
+                    Object target = AopProxyUtils.getSingletonTarget(searchDAO());
+                    jpaAnySearchDAO = (JPAAnySearchDAO) (target == null ? searchDAO() : target);
+                } else {
+                    jpaAnySearchDAO = (JPAAnySearchDAO) ApplicationContextProvider.getBeanFactory().
+                            createBean(JPAAnySearchDAO.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, true);
+                }
+            }
+        }
+        return jpaAnySearchDAO;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> findDynMembers(final DynRealm dynRealm) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT any_id FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=?");
+        query.setParameter(1, dynRealm.getKey());
+
+        Set<String> result = new HashSet<>();
+        query.getResultList().stream().map(key -> key instanceof Object[]
+                ? (String) ((Object[]) key)[0]
+                : ((String) key)).forEachOrdered(actualKey -> result.add(actualKey.toString()));
+        return result;
+    }
+
     @Override
     public DynRealm find(final String key) {
         return entityManager().find(JPADynRealm.class, key);
@@ -72,22 +108,24 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
     public DynRealm save(final DynRealm dynRealm) {
         DynRealm merged = entityManager().merge(dynRealm);
 
-        // refresh dynamic memberships
-        clearDynMembers(merged);
-
-        merged.getDynMemberships().stream().map(memb -> searchDAO().search(
-                SearchCondConverter.convert(memb.getFIQLCond()), memb.getAnyType().getKind())).
-                forEachOrdered(matching -> {
-                    matching.forEach(any -> {
-                        Query insert = entityManager().createNativeQuery("INSERT INTO " + DYNMEMB_TABLE
-                                + " VALUES(?, ?)");
-                        insert.setParameter(1, any.getKey());
-                        insert.setParameter(2, merged.getKey());
-                        insert.executeUpdate();
+        // refresh dynamic memberships, directly in the database
+        Set<String> before = findDynMembers(merged);
 
-                        publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, any, AuthContextUtils.getDomain()));
-                    });
-                });
+        clearDynMembers(merged);
+        merged.getDynMemberships().forEach(memb -> jpaAnySearchDAO().insertMatching(
+                DYNMEMB_TABLE,
+                "any_id",
+                Collections.singletonMap("dynRealm_id", merged.getKey()),
+                SearchCondConverter.convert(memb.getFIQLCond()),
+                memb.getAnyType().getKind()));
+
+        Set<String> after = findDynMembers(merged);
+        Set<String> changed = new HashSet<>(before);
+        changed.addAll(after);
+        changed.removeIf(key -> before.contains(key) && after.contains(key));
+        if (!changed.isEmpty()) {
+            publisher.publishEvent(new DynMembersChangedEvent(this, changed, AuthContextUtils.getDomain()));
+        }
 
         return merged;
     }
@@ -114,20 +152,29 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
     @Transactional
     @Override
     public void refreshDynMemberships(final Any<?> any) {
+        Query dynRealmsQuery = entityManager().createNativeQuery(
+                "SELECT dynRealm_id FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
+        dynRealmsQuery.setParameter(1, any.getKey());
+        @SuppressWarnings("unchecked")
+        List<String> before = dynRealmsQuery.getResultList();
+
         findAll().forEach(dynRealm -> {
             Optional<? extends DynRealmMembership> memb = dynRealm.getDynMembership(any.getType());
-            if (memb.isPresent()) {
+            boolean matches = memb.isPresent()
+                    && searchDAO().matches(any, SearchCondConverter.convert(memb.get().getFIQLCond()));
+
+            // only touch the membership table when something actually changed
+            if (matches && !before.contains(dynRealm.getKey())) {
+                Query insert = entityManager().createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
+                insert.setParameter(1, any.getKey());
+                insert.setParameter(2, dynRealm.getKey());
+                insert.executeUpdate();
+            } else if (!matches && memb.isPresent() && before.contains(dynRealm.getKey())) {
                 Query delete = entityManager().createNativeQuery(
                         "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?");
                 delete.setParameter(1, dynRealm.getKey());
                 delete.setParameter(2, any.getKey());
                 delete.executeUpdate();
-                if (searchDAO().matches(any, SearchCondConverter.convert(memb.get().getFIQLCond()))) {
-                    Query insert = entityManager().createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
-                    insert.setParameter(1, any.getKey());
-                    insert.setParameter(2, dynRealm.getKey());
-                    insert.executeUpdate();
-                }
             }
         });
     }
@@ -28,6 +28,7 @@ import javax.persistence.TypedQuery;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceHistoryConfDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
@@ -79,6 +80,8 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
 
     private ExternalResourceHistoryConfDAO externalResourceHistoryConfDAO;
 
+    private ConnObjectShadowDAO connObjectShadowDAO;
+
     private TaskDAO taskDAO() {
         synchronized (this) {
             if (taskDAO == null) {
@@ -152,6 +155,16 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
         return externalResourceHistoryConfDAO;
     }
 
+    private ConnObjectShadowDAO connObjectShadowDAO() {
+        synchronized (this) {
+            if (connObjectShadowDAO == null) {
+                connObjectShadowDAO = ApplicationContextProvider.getApplicationContext().
+                        getBean(ConnObjectShadowDAO.class);
+            }
+        }
+        return connObjectShadowDAO;
+    }
+
     @Override
     public int count() {
         Query query = entityManager().createQuery(
@@ -306,6 +319,8 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
 
         externalResourceHistoryConfDAO().deleteByEntity(resource);
 
+        connObjectShadowDAO().deleteByResource(resource);
+
         if (resource.getConnector() != null && resource.getConnector().getResources() != null
                 && !resource.getConnector().getResources().isEmpty()) {
 
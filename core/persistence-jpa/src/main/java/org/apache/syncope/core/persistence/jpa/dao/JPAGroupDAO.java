@@ -19,11 +19,13 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +48,7 @@ import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.AssignableCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -67,7 +70,9 @@ import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembershi
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUMembership;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
 import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -90,7 +95,7 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
     private AnySearchDAO searchDAO;
 
-    private AnySearchDAO jpaAnySearchDAO;
+    private JPAAnySearchDAO jpaAnySearchDAO;
 
     private UserDAO userDAO() {
         synchronized (this) {
@@ -119,13 +124,14 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return searchDAO;
     }
 
-    private AnySearchDAO jpaAnySearchDAO() {
+    private JPAAnySearchDAO jpaAnySearchDAO() {
         synchronized (this) {
             if (jpaAnySearchDAO == null) {
                 if (AopUtils.getTargetClass(searchDAO()).equals(JPAAnySearchDAO.class)) {
-                    jpaAnySearchDAO = searchDAO();
+                    Object target = AopProxyUtils.getSingletonTarget(searchDAO());
+                    jpaAnySearchDAO = (JPAAnySearchDAO) (target == null ? searchDAO() : target);
                 } else {
-                    jpaAnySearchDAO = (AnySearchDAO) ApplicationContextProvider.getBeanFactory().
+                    jpaAnySearchDAO = (JPAAnySearchDAO) ApplicationContextProvider.getBeanFactory().
                             createBean(JPAAnySearchDAO.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, true);
                 }
             }
@@ -281,45 +287,119 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return SearchCond.getAndCond(SearchCond.getLeafCond(cond), SearchCondConverter.convert(baseCondFIQL));
     }
 
+    private static String inParams(final int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    /**
+     * Applies to the given dynamic membership table only the difference between the groups the given any currently
+     * belongs to and the ones it should belong to, with one statement per change kind; then notifies about the
+     * groups whose dynamic members actually changed.
+     *
+     * @param table dynamic membership table
+     * @param insertColumns columns to fill when inserting, {@code group_id} last
+     * @param insertPrefix values for all the insert columns but {@code group_id}
+     * @param anyKey any key
+     * @param before groups the given any is currently dynamic member of
+     * @param after groups the given any shall be dynamic member of
+     */
+    private void updateDynMembers(
+            final String table,
+            final String insertColumns,
+            final List<String> insertPrefix,
+            final String anyKey,
+            final Set<String> before,
+            final Set<String> after) {
+
+        List<String> removed = before.stream().filter(key -> !after.contains(key)).collect(Collectors.toList());
+        for (int i = 0; i < removed.size(); i += MAX_IN_KEYS) {
+            List<String> chunk = removed.subList(i, Math.min(i + MAX_IN_KEYS, removed.size()));
+
+            Query delete = entityManager().createNativeQuery(
+                    "DELETE FROM " + table + " WHERE any_id=? AND group_id IN (" + inParams(chunk.size()) + ")");
+            delete.setParameter(1, anyKey);
+            for (int j = 0; j < chunk.size(); j++) {
+                delete.setParameter(j + 2, chunk.get(j));
+            }
+            delete.executeUpdate();
+        }
+
+        List<String> added = after.stream().filter(key -> !before.contains(key)).collect(Collectors.toList());
+        for (int i = 0; i < added.size(); i += MAX_IN_KEYS) {
+            List<String> chunk = added.subList(i, Math.min(i + MAX_IN_KEYS, added.size()));
+
+            Query insert = entityManager().createNativeQuery(
+                    "INSERT INTO " + table + "(" + insertColumns + ") "
+                    + "SELECT " + inParams(insertPrefix.size()) + ", id FROM " + JPAGroup.TABLE
+                    + " WHERE id IN (" + inParams(chunk.size()) + ")");
+            for (int j = 0; j < insertPrefix.size(); j++) {
+                insert.setParameter(j + 1, insertPrefix.get(j));
+            }
+            for (int j = 0; j < chunk.size(); j++) {
+                insert.setParameter(insertPrefix.size() + j + 1, chunk.get(j));
+            }
+            insert.executeUpdate();
+        }
+
+        List<String> changed = new ArrayList<>(removed);
+        changed.addAll(added);
+        findByKeys(changed).forEach(group -> publisher.publishEvent(
+                new AnyCreatedUpdatedEvent<>(this, group, AuthContextUtils.getDomain())));
+    }
+
+    private void publishDynMembersChanged(final Set<String> before, final Set<String> after) {
+        Set<String> changed = new HashSet<>(before);
+        changed.addAll(after);
+        changed.removeIf(key -> before.contains(key) && after.contains(key));
+
+        if (!changed.isEmpty()) {
+            publisher.publishEvent(new DynMembersChangedEvent(this, changed, AuthContextUtils.getDomain()));
+        }
+    }
+
     @Override
     public Group save(final Group group) {
         Group merged = super.save(group);
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
-        // refresh dynamic memberships
+        // refresh dynamic memberships, directly in the database
         if (merged.getUDynMembership() != null) {
-            List<User> matching = searchDAO().search(
-                    buildDynMembershipCond(merged.getUDynMembership().getFIQLCond(), merged.getRealm()),
-                    AnyTypeKind.USER);
+            Set<String> before = new HashSet<>(findUDynMembers(merged));
 
             clearUDynMembers(merged);
+            jpaAnySearchDAO().insertMatching(
+                    UDYNMEMB_TABLE,
+                    "any_id",
+                    Collections.singletonMap("group_id", merged.getKey()),
+                    buildDynMembershipCond(merged.getUDynMembership().getFIQLCond(), merged.getRealm()),
+                    AnyTypeKind.USER);
 
-            matching.forEach(user -> {
-                Query insert = entityManager().createNativeQuery("INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, user.getKey());
-                insert.setParameter(2, merged.getKey());
-                insert.executeUpdate();
-
-                publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, user, AuthContextUtils.getDomain()));
-            });
+            publishDynMembersChanged(before, new HashSet<>(findUDynMembers(merged)));
         }
-        merged.getADynMemberships().stream().map(memb -> searchDAO().search(
-                buildDynMembershipCond(memb.getFIQLCond(), merged.getRealm()),
-                AnyTypeKind.ANY_OBJECT)).forEachOrdered(matching -> {
-            clearADynMembers(merged);
-
-            matching.forEach(anyObject -> {
-                Query insert = entityManager().createNativeQuery("INSERT INTO " + ADYNMEMB_TABLE
-                        + " VALUES(?, ?, ?)");
-                insert.setParameter(1, anyObject.getType().getKey());
-                insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, merged.getKey());
-                insert.executeUpdate();
+        if (!merged.getADynMemberships().isEmpty()) {
+            Set<String> before = new HashSet<>(findADynMembers(merged));
 
-                publisher.publishEvent(
-                        new AnyCreatedUpdatedEvent<>(this, anyObject, AuthContextUtils.getDomain()));
+            clearADynMembers(merged);
+            merged.getADynMemberships().forEach(memb -> {
+                AnyTypeCond typeCond = new AnyTypeCond();
+                typeCond.setAnyTypeKey(memb.getAnyType().getKey());
+
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("anyType_id", memb.getAnyType().getKey());
+                values.put("group_id", merged.getKey());
+
+                jpaAnySearchDAO().insertMatching(
+                        ADYNMEMB_TABLE,
+                        "any_id",
+                        values,
+                        SearchCond.getAndCond(
+                                SearchCond.getLeafCond(typeCond),
+                                buildDynMembershipCond(memb.getFIQLCond(), merged.getRealm())),
+                        AnyTypeKind.ANY_OBJECT);
             });
-        });
+
+            publishDynMembersChanged(before, new HashSet<>(findADynMembers(merged)));
+        }
 
         dynRealmDAO().refreshDynMemberships(merged);
 
@@ -424,29 +504,19 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
         Set<String> before = dynGroups.stream().collect(Collectors.toSet());
 
-        Set<String> after = new HashSet<>();
-        findWithADynMemberships(anyObject.getType()).stream().map(memb -> {
-            Query delete = entityManager().createNativeQuery(
-                    "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            delete.setParameter(1, memb.getGroup().getKey());
-            delete.setParameter(2, anyObject.getKey());
-            delete.executeUpdate();
-            if (jpaAnySearchDAO().matches(
-                    anyObject,
-                    buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()))) {
-
-                Query insert = entityManager().createNativeQuery(
-                        "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                insert.setParameter(1, anyObject.getType().getKey());
-                insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, memb.getGroup().getKey());
-                insert.executeUpdate();
-
-                after.add(memb.getGroup().getKey());
-            }
-            return memb;
-        }).forEachOrdered(memb -> publisher.publishEvent(
-                new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain())));
+        Set<String> after = findWithADynMemberships(anyObject.getType()).stream().
+                filter(memb -> jpaAnySearchDAO().matches(
+                anyObject, buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()))).
+                map(memb -> memb.getGroup().getKey()).
+                collect(Collectors.toSet());
+
+        updateDynMembers(
+                ADYNMEMB_TABLE,
+                "anyType_id, any_id, group_id",
+                Arrays.asList(anyObject.getType().getKey(), anyObject.getKey()),
+                anyObject.getKey(),
+                before,
+                after);
 
         return Pair.of(before, after);
     }
@@ -513,28 +583,19 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
         Set<String> before = dynGroups.stream().collect(Collectors.toSet());
 
-        Set<String> after = new HashSet<>();
-        findWithUDynMemberships().stream().map(memb -> {
-            Query delete = entityManager().createNativeQuery(
-                    "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            delete.setParameter(1, memb.getGroup().getKey());
-            delete.setParameter(2, user.getKey());
-            delete.executeUpdate();
-            if (jpaAnySearchDAO().matches(
-                    user,
-                    buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()))) {
-
-                Query insert = entityManager().createNativeQuery(
-                        "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, user.getKey());
-                insert.setParameter(2, memb.getGroup().getKey());
-                insert.executeUpdate();
-
-                after.add(memb.getGroup().getKey());
-            }
-            return memb;
-        }).forEachOrdered(memb -> publisher.publishEvent(
-                new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain())));
+        Set<String> after = findWithUDynMemberships().stream().
+                filter(memb -> jpaAnySearchDAO().matches(
+                user, buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()))).
+                map(memb -> memb.getGroup().getKey()).
+                collect(Collectors.toSet());
+
+        updateDynMembers(
+                UDYNMEMB_TABLE,
+                "any_id, group_id",
+                Collections.singletonList(user.getKey()),
+                user.getKey(),
+                before,
+                after);
 
         return Pair.of(before, after);
     }
@@ -21,7 +21,6 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import javax.persistence.NoResultException;
 import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.StringUtils;
@@ -78,22 +77,18 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
             throw new MalformedPathException(fullPath);
         }
 
-        Realm root = getRoot();
-        if (root == null) {
-            return null;
-        }
+        TypedQuery<Realm> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARealm.class.getSimpleName() + " e WHERE e.fullPath=:fullPath", Realm.class);
+        query.setParameter("fullPath", fullPath);
 
-        Realm current = root;
-        for (final String pathElement : fullPath.substring(1).split("/")) {
-            Optional<Realm> first = findChildren(current).stream().
-                    filter(realm -> pathElement.equals(realm.getName())).findFirst();
-            if (first.isPresent()) {
-                current = first.get();
-            } else {
-                return null;
-            }
+        Realm result = null;
+        try {
+            result = query.getSingleResult();
+        } catch (NoResultException e) {
+            LOG.debug("Realm {} not found", fullPath, e);
         }
-        return current;
+
+        return result;
     }
 
     private <T extends Policy> List<Realm> findSamePolicyChildren(final Realm realm, final T policy) {
@@ -175,21 +170,16 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
         return query.getResultList();
     }
 
-    private void findDescendants(final List<Realm> result, final Realm realm) {
-        result.add(realm);
-        List<Realm> children = findChildren(realm);
-        if (children != null) {
-            for (Realm child : children) {
-                findDescendants(result, child);
-            }
-        }
-    }
-
     @Override
     public List<Realm> findDescendants(final Realm realm) {
-        List<Realm> result = new ArrayList<>();
-        findDescendants(result, realm);
-        return result;
+        // parents always sort before their descendants, since their full path is a prefix of descendants'
+        TypedQuery<Realm> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARealm.class.getSimpleName() + " e "
+                + "WHERE e.fullPath=:fullPath OR e.fullPath LIKE :prefix ORDER BY e.fullPath", Realm.class);
+        query.setParameter("fullPath", realm.getFullPath());
+        query.setParameter("prefix", StringUtils.appendIfMissing(realm.getFullPath(), "/") + "%");
+
+        return query.getResultList();
     }
 
     @Transactional(readOnly = true)
@@ -198,9 +188,17 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
         return findDescendants(getRoot());
     }
 
+    private void refreshFullPath(final Realm realm) {
+        if (((JPARealm) realm).refreshFullPath()) {
+            findChildren(realm).forEach(child -> refreshFullPath(child));
+        }
+    }
+
     @Override
     public Realm save(final Realm realm) {
-        return entityManager().merge(realm);
+        Realm merged = entityManager().merge(realm);
+        refreshFullPath(merged);
+        return merged;
     }
 
     @Override
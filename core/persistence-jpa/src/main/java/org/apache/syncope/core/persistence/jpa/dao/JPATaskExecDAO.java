@@ -22,11 +22,16 @@ import java.util.Date;
 import java.util.List;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.entity.task.AbstractTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskExec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -36,9 +41,14 @@ import org.springframework.util.ReflectionUtils;
 @Repository
 public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO {
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     @Autowired
     private TaskDAO taskDAO;
 
+    @Autowired
+    private TaskUtilsFactory taskUtilsFactory;
+
     @Override
     public TaskExec find(final String key) {
         return entityManager().find(JPATaskExec.class, key);
@@ -54,7 +64,14 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
         return query.getResultList();
     }
 
-    private <T extends Task> TaskExec findLatest(final T task, final String field) {
+    private <T extends Task> TaskExec findLatest(final T task, final String field, final String latestKey) {
+        if (latestKey != null) {
+            TaskExec latest = find(latestKey);
+            if (latest != null) {
+                return latest;
+            }
+        }
+
         TypedQuery<TaskExec> query = entityManager().createQuery(
                 "SELECT e FROM " + JPATaskExec.class.getSimpleName() + " e "
                 + "WHERE e.task=:task ORDER BY e." + field + " DESC", TaskExec.class);
@@ -69,12 +86,12 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
 
     @Override
     public <T extends Task> TaskExec findLatestStarted(final T task) {
-        return findLatest(task, "start");
+        return findLatest(task, "start", ((AbstractTask) task).getLatestStartedExec());
     }
 
     @Override
     public <T extends Task> TaskExec findLatestEnded(final T task) {
-        return findLatest(task, "end");
+        return findLatest(task, "end", ((AbstractTask) task).getLatestEndedExec());
     }
 
     @Override
@@ -172,9 +189,27 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
     @Override
     @Transactional(rollbackFor = { Throwable.class })
     public void saveAndAdd(final String taskKey, final TaskExec execution) {
-        Task task = taskDAO.find(taskKey);
-        task.add(execution);
-        taskDAO.save(task);
+        AbstractTask task = (AbstractTask) taskDAO.find(taskKey);
+        execution.setTask(task);
+
+        // avoid materializing the whole execution history just for appending to it
+        if (entityManager().getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(task, "executions")) {
+            task.add(execution);
+        }
+        entityManager().persist(execution);
+        // needed to generate a value for the execution key
+        entityManager().flush();
+
+        if (execution.getStart() != null) {
+            task.setLatestStartedExec(execution.getKey());
+        }
+        if (execution.getEnd() != null) {
+            task.setLatestEndedExec(execution.getKey());
+        }
+
+        // the executions collection might not have been updated above: drop any cached instance still holding it
+        entityManager().getEntityManagerFactory().getCache().
+                evict(taskDAO.getEntityReference(taskUtilsFactory.getInstance(task).getType()), taskKey);
     }
 
     @Override
@@ -191,8 +226,79 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
     public void delete(final TaskExec execution) {
         if (execution.getTask() != null) {
             execution.getTask().getExecs().remove(execution);
+
+            AbstractTask task = (AbstractTask) execution.getTask();
+            if (execution.getKey().equals(task.getLatestStartedExec())) {
+                task.setLatestStartedExec(null);
+            }
+            if (execution.getKey().equals(task.getLatestEndedExec())) {
+                task.setLatestEndedExec(null);
+            }
         }
 
         entityManager().remove(execution);
     }
+
+    private String taskKeys(final TaskType type) {
+        StringBuilder builder = new StringBuilder("SELECT t.id FROM ").
+                append(taskDAO.getEntityReference(type).getSimpleName()).append(" t");
+        if (type == TaskType.SCHEDULED) {
+            builder.append(" WHERE t.id NOT IN (SELECT t1.id FROM ").
+                    append(JPAPushTask.class.getSimpleName()).append(" t1) ").
+                    append("AND t.id NOT IN (SELECT t2.id FROM ").
+                    append(JPAPullTask.class.getSimpleName()).append(" t2)");
+        }
+
+        return builder.toString();
+    }
+
+    private void evict(final TaskType type) {
+        // bulk deletes bypass the persistence context: cached task instances might refer to removed executions
+        entityManager().getEntityManagerFactory().getCache().evict(taskDAO.getEntityReference(type));
+    }
+
+    @Override
+    public int deleteExceeding(final TaskType type, final long max) {
+        TypedQuery<String> exceeding = entityManager().createQuery(
+                "SELECT e.task.id FROM " + JPATaskExec.class.getSimpleName() + " e "
+                + "WHERE e.task.id IN (" + taskKeys(type) + ") "
+                + "GROUP BY e.task.id HAVING COUNT(e.id) > :max", String.class);
+        exceeding.setParameter("max", max);
+
+        int deleted = 0;
+        for (String taskKey : exceeding.getResultList()) {
+            TypedQuery<String> query = entityManager().createQuery(
+                    "SELECT e.id FROM " + JPATaskExec.class.getSimpleName() + " e "
+                    + "WHERE e.task.id=:task ORDER BY e.start DESC", String.class);
+            query.setParameter("task", taskKey);
+            query.setFirstResult((int) Math.min(max, Integer.MAX_VALUE));
+
+            List<String> keys = query.getResultList();
+            for (int i = 0; i < keys.size(); i += DELETE_CHUNK_SIZE) {
+                Query delete = entityManager().createQuery(
+                        "DELETE FROM " + JPATaskExec.class.getSimpleName() + " e WHERE e.id IN :keys");
+                delete.setParameter("keys", keys.subList(i, Math.min(i + DELETE_CHUNK_SIZE, keys.size())));
+                deleted += delete.executeUpdate();
+            }
+        }
+
+        if (deleted > 0) {
+            evict(type);
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteEndedBefore(final TaskType type, final Date date) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPATaskExec.class.getSimpleName() + " e "
+                + "WHERE e.end < :date AND e.task.id IN (" + taskKeys(type) + ")");
+        query.setParameter("date", date);
+
+        int deleted = query.executeUpdate();
+        if (deleted > 0) {
+            evict(type);
+        }
+        return deleted;
+    }
 }
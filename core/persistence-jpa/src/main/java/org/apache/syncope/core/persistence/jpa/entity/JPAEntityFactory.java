@@ -128,8 +128,10 @@ import org.apache.syncope.core.persistence.jpa.entity.resource.JPAOrgUnit;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.DynRealmMembership;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResourceHistoryConf;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnitItem;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAExternalResourceHistoryConf;
+import org.apache.syncope.core.persistence.jpa.entity.resource.JPAConnObjectShadow;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAOrgUnitItem;
 
 @Component
@@ -194,6 +196,8 @@ public class JPAEntityFactory implements EntityFactory {
             result = (E) new JPAExternalResource();
         } else if (reference.equals(ExternalResourceHistoryConf.class)) {
             result = (E) new JPAExternalResourceHistoryConf();
+        } else if (reference.equals(ConnObjectShadow.class)) {
+            result = (E) new JPAConnObjectShadow();
         } else if (reference.equals(Provision.class)) {
             result = (E) new JPAProvision();
         } else if (reference.equals(OrgUnit.class)) {
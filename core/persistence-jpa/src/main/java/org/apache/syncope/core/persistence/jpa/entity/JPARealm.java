@@ -69,6 +69,13 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
     @ManyToOne
     private JPARealm parent;
 
+    /**
+     * Denormalized copy of {@link #getFullPath()}, kept up to date by {@code JPARealmDAO}, allowing to look up a
+     * realm and its descendants with a single (prefix) query rather than by walking the tree.
+     */
+    @Column(unique = true)
+    private String fullPath;
+
     @ManyToOne(fetch = FetchType.EAGER)
     private JPAPasswordPolicy passwordPolicy;
 
@@ -109,6 +116,23 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
                 : StringUtils.appendIfMissing(getParent().getFullPath(), "/") + getName();
     }
 
+    /**
+     * Aligns the stored full path with the one computed from the ancestors.
+     *
+     * @return whether the stored full path was previously set and has changed: in this case, full paths of all
+     * descendants need to be aligned as well
+     */
+    public boolean refreshFullPath() {
+        String current = getFullPath();
+        if (current.equals(fullPath)) {
+            return false;
+        }
+
+        boolean changed = fullPath != null;
+        fullPath = current;
+        return changed;
+    }
+
     @Override
     public AccountPolicy getAccountPolicy() {
         return accountPolicy == null && getParent() != null ? getParent().getAccountPolicy() : accountPolicy;
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import java.io.Serializable;
+import java.util.function.Function;
+
+/**
+ * Holds the value deserialized from a serialized {@code @Lob} field, so that parsing happens once per loaded entity
+ * instead of at every getter invocation.
+ * The value is computed again as soon as the serialized form is replaced - by setter, reload or merge.
+ *
+ * @param <T> deserialized value type
+ */
+public class MemoizedLob<T> implements Serializable {
+
+    private static final long serialVersionUID = -4209431427925123377L;
+
+    private transient String source;
+
+    private transient T value;
+
+    /**
+     * Returns the value deserialized from the given serialized form, parsing it only if different from the one
+     * passed with the last invocation.
+     *
+     * @param serialized serialized form, not null
+     * @param deserializer function deserializing the given serialized form
+     * @return deserialized value
+     */
+    public T get(final String serialized, final Function<String, T> deserializer) {
+        // Strings are immutable and serialized forms are replaced as a whole: identity is enough to detect changes
+        if (source != serialized) {
+            value = deserializer.apply(serialized);
+            source = serialized;
+        }
+        return value;
+    }
+
+    /**
+     * Records the value just serialized into the given form, so that no parsing is needed afterwards; to be used only
+     * for values which are not going to be modified by the caller.
+     *
+     * @param serialized serialized form
+     * @param value value serialized into {@code serialized}
+     */
+    public void set(final String serialized, final T value) {
+        this.source = serialized;
+        this.value = value;
+    }
+}
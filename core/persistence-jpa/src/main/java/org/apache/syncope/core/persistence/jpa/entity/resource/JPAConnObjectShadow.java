@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.resource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Lob;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+
+@Entity
+@Table(name = JPAConnObjectShadow.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "resource_id", "objectClass", "connObjectKey" }))
+public class JPAConnObjectShadow extends AbstractGeneratedKeyEntity implements ConnObjectShadow {
+
+    private static final long serialVersionUID = 4137513465338626394L;
+
+    public static final String TABLE = "ConnObjectShadow";
+
+    @ManyToOne(optional = false)
+    private JPAExternalResource resource;
+
+    @NotNull
+    private String objectClass;
+
+    @NotNull
+    private String connObjectKey;
+
+    private String uid;
+
+    private String attrsHash;
+
+    @Lob
+    private String attributes;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastPropagation;
+
+    private static String hash(final Set<Attribute> attributes) {
+        List<Attribute> sorted = new ArrayList<>(attributes);
+        sorted.sort(Comparator.comparing(Attribute::getName));
+
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").
+                    digest(POJOHelper.serialize(sorted).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public ExternalResource getResource() {
+        return resource;
+    }
+
+    @Override
+    public void setResource(final ExternalResource resource) {
+        checkType(resource, JPAExternalResource.class);
+        this.resource = (JPAExternalResource) resource;
+    }
+
+    @Override
+    public ObjectClass getObjectClass() {
+        return objectClass == null
+                ? null
+                : new ObjectClass(objectClass);
+    }
+
+    @Override
+    public void setObjectClass(final ObjectClass objectClass) {
+        this.objectClass = objectClass == null ? null : objectClass.getObjectClassValue();
+    }
+
+    @Override
+    public String getConnObjectKey() {
+        return connObjectKey;
+    }
+
+    @Override
+    public void setConnObjectKey(final String connObjectKey) {
+        this.connObjectKey = connObjectKey;
+    }
+
+    @Override
+    public String getUid() {
+        return uid;
+    }
+
+    @Override
+    public void setUid(final String uid) {
+        this.uid = uid;
+    }
+
+    @Override
+    public String getAttrsHash() {
+        return attrsHash;
+    }
+
+    @Override
+    public Set<Attribute> getAttributes() {
+        Set<Attribute> result = new HashSet<>();
+        if (attributes != null) {
+            for (Attribute attr : POJOHelper.deserialize(attributes, Attribute[].class)) {
+                result.add(attr);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setAttributes(final Set<Attribute> attributes) {
+        this.attributes = POJOHelper.serialize(attributes);
+        this.attrsHash = hash(attributes);
+    }
+
+    @Override
+    public boolean isAlignedWith(final Set<Attribute> attributes) {
+        return attrsHash != null && attrsHash.equals(hash(attributes));
+    }
+
+    @Override
+    public Date getLastPropagation() {
+        return lastPropagation == null
+                ? null
+                : new Date(lastPropagation.getTime());
+    }
+
+    @Override
+    public void setLastPropagation(final Date lastPropagation) {
+        this.lastPropagation = lastPropagation == null
+                ? null
+                : new Date(lastPropagation.getTime());
+    }
+}
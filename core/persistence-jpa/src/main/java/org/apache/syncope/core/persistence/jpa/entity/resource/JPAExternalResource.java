@@ -40,6 +40,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
@@ -57,6 +58,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAAccountPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.JPAConnInstance;
+import org.apache.syncope.core.persistence.jpa.entity.MemoizedLob;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPasswordPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPullPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PullPolicy;
@@ -112,6 +114,14 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
     @Max(1)
     private Integer randomPwdIfNotProvided;
 
+    /**
+     * Rely on local state during propagation, rather than reading the remote object before and after.
+     */
+    @Basic
+    @Min(0)
+    @Max(1)
+    private Integer trustLocalState;
+
     @Enumerated(EnumType.STRING)
     @NotNull
     private TraceLevel createTraceLevel;
@@ -143,6 +153,9 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
     @Lob
     private String jsonConf;
 
+    @Transient
+    private MemoizedLob<List<ConnConfProperty>> confOverrideValue = new MemoizedLob<>();
+
     @NotNull
     @Basic
     @Min(0)
@@ -172,6 +185,7 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
 
         enforceMandatoryCondition = getBooleanAsInteger(false);
         randomPwdIfNotProvided = getBooleanAsInteger(false);
+        trustLocalState = getBooleanAsInteger(false);
         overrideCapabilities = getBooleanAsInteger(false);
 
         createTraceLevel = TraceLevel.FAILURES;
@@ -253,6 +267,16 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
         this.randomPwdIfNotProvided = getBooleanAsInteger(randomPwdIfNotProvided);
     }
 
+    @Override
+    public boolean isTrustLocalState() {
+        return isBooleanAsInteger(trustLocalState);
+    }
+
+    @Override
+    public void setTrustLocalState(final boolean trustLocalState) {
+        this.trustLocalState = getBooleanAsInteger(trustLocalState);
+    }
+
     @Override
     public TraceLevel getCreateTraceLevel() {
         return createTraceLevel;
@@ -331,7 +355,8 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
     public Set<ConnConfProperty> getConfOverride() {
         Set<ConnConfProperty> confOverride = new HashSet<>();
         if (!StringUtils.isBlank(jsonConf)) {
-            confOverride.addAll(Arrays.asList(POJOHelper.deserialize(jsonConf, ConnConfProperty[].class)));
+            confOverride.addAll(confOverrideValue.get(jsonConf,
+                    serialized -> Arrays.asList(POJOHelper.deserialize(serialized, ConnConfProperty[].class))));
         }
 
         return confOverride;
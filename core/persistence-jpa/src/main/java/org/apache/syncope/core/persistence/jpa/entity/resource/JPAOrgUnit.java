@@ -29,11 +29,13 @@ import javax.persistence.Lob;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnitItem;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
+import org.apache.syncope.core.persistence.jpa.entity.MemoizedLob;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.SyncToken;
@@ -56,6 +58,9 @@ public class JPAOrgUnit extends AbstractGeneratedKeyEntity implements OrgUnit {
     @Lob
     private String serializedSyncToken;
 
+    @Transient
+    private MemoizedLob<SyncToken> syncTokenValue = new MemoizedLob<>();
+
     @NotNull
     private String connObjectLink;
 
@@ -89,7 +94,8 @@ public class JPAOrgUnit extends AbstractGeneratedKeyEntity implements OrgUnit {
     public SyncToken getSyncToken() {
         return serializedSyncToken == null
                 ? null
-                : POJOHelper.deserialize(serializedSyncToken, SyncToken.class);
+                : syncTokenValue.get(
+                        serializedSyncToken, serialized -> POJOHelper.deserialize(serialized, SyncToken.class));
     }
 
     @Override
@@ -100,6 +106,8 @@ public class JPAOrgUnit extends AbstractGeneratedKeyEntity implements OrgUnit {
     @Override
     public void setSyncToken(final SyncToken syncToken) {
         this.serializedSyncToken = syncToken == null ? null : POJOHelper.serialize(syncToken);
+        // SyncToken instances are immutable
+        syncTokenValue.set(serializedSyncToken, syncToken);
     }
 
     @Override
@@ -30,6 +30,7 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
@@ -41,6 +42,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
+import org.apache.syncope.core.persistence.jpa.entity.MemoizedLob;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.SyncToken;
 
@@ -72,6 +74,9 @@ public class JPAProvision extends AbstractGeneratedKeyEntity implements Provisio
     @Lob
     private String serializedSyncToken;
 
+    @Transient
+    private MemoizedLob<SyncToken> syncTokenValue = new MemoizedLob<>();
+
     @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER, mappedBy = "provision")
     private JPAMapping mapping;
 
@@ -124,7 +129,8 @@ public class JPAProvision extends AbstractGeneratedKeyEntity implements Provisio
     public SyncToken getSyncToken() {
         return serializedSyncToken == null
                 ? null
-                : POJOHelper.deserialize(serializedSyncToken, SyncToken.class);
+                : syncTokenValue.get(
+                        serializedSyncToken, serialized -> POJOHelper.deserialize(serialized, SyncToken.class));
     }
 
     @Override
@@ -135,6 +141,8 @@ public class JPAProvision extends AbstractGeneratedKeyEntity implements Provisio
     @Override
     public void setSyncToken(final SyncToken syncToken) {
         this.serializedSyncToken = syncToken == null ? null : POJOHelper.serialize(syncToken);
+        // SyncToken instances are immutable
+        syncTokenValue.set(serializedSyncToken, syncToken);
     }
 
     @Override
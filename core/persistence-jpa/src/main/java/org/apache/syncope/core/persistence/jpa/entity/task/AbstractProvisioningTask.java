@@ -65,6 +65,9 @@ public abstract class AbstractProvisioningTask extends JPASchedTask implements P
     @Max(1)
     private Integer syncStatus;
 
+    @Min(1)
+    private Integer parallelism;
+
     /**
      * @see UnmatchingRule
      */
@@ -133,6 +136,16 @@ public abstract class AbstractProvisioningTask extends JPASchedTask implements P
         this.syncStatus = getBooleanAsInteger(syncStatus);
     }
 
+    @Override
+    public int getParallelism() {
+        return parallelism == null ? 1 : parallelism;
+    }
+
+    @Override
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public UnmatchingRule getUnmatchingRule() {
         return this.unmatchingRule;
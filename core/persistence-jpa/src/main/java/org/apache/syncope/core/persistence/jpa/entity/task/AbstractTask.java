@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.entity.task;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.Entity;
 import javax.persistence.Inheritance;
@@ -44,10 +45,47 @@ public abstract class AbstractTask extends AbstractGeneratedKeyEntity implements
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "task")
     private List<JPATaskExec> executions = new ArrayList<>();
 
+    /**
+     * Key of the latest started execution, maintained when executions are appended via
+     * {@link org.apache.syncope.core.persistence.api.dao.TaskExecDAO#saveAndAdd(java.lang.String, TaskExec)}.
+     */
+    @Column(length = 36)
+    private String latestStartedExec;
+
+    /**
+     * Key of the latest ended execution, maintained when executions are appended via
+     * {@link org.apache.syncope.core.persistence.api.dao.TaskExecDAO#saveAndAdd(java.lang.String, TaskExec)}.
+     */
+    @Column(length = 36)
+    private String latestEndedExec;
+
     @Override
     public boolean add(final TaskExec exec) {
         checkType(exec, JPATaskExec.class);
-        return exec != null && !executions.contains((JPATaskExec) exec) && executions.add((JPATaskExec) exec);
+        boolean added = exec != null
+                && !executions.contains((JPATaskExec) exec) && executions.add((JPATaskExec) exec);
+        if (added) {
+            // executions added this way are not tracked: fall back to query the full history
+            latestStartedExec = null;
+            latestEndedExec = null;
+        }
+        return added;
+    }
+
+    public String getLatestStartedExec() {
+        return latestStartedExec;
+    }
+
+    public void setLatestStartedExec(final String latestStartedExec) {
+        this.latestStartedExec = latestStartedExec;
+    }
+
+    public String getLatestEndedExec() {
+        return latestEndedExec;
+    }
+
+    public void setLatestEndedExec(final String latestEndedExec) {
+        this.latestEndedExec = latestEndedExec;
     }
 
     @Override
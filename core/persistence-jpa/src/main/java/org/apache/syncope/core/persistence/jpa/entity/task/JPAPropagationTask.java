@@ -27,11 +27,13 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Transient;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.jpa.entity.MemoizedLob;
 import org.apache.syncope.core.persistence.jpa.validation.entity.PropagationTaskCheck;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAExternalResource;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
@@ -69,6 +71,9 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
     @Lob
     private String attributes;
 
+    @Transient
+    private MemoizedLob<Set<Attribute>> attributesValue = new MemoizedLob<>();
+
     private String objectClassName;
 
     @Enumerated(EnumType.STRING)
@@ -113,7 +118,8 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
     public Set<Attribute> getAttributes() {
         Set<Attribute> result = new HashSet<>();
         if (StringUtils.isNotBlank(this.attributes)) {
-            result.addAll(Arrays.asList(POJOHelper.deserialize(this.attributes, Attribute[].class)));
+            result.addAll(attributesValue.get(this.attributes, serialized
+                    -> new HashSet<>(Arrays.asList(POJOHelper.deserialize(serialized, Attribute[].class)))));
         }
 
         return result;
@@ -122,6 +128,10 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
     @Override
     public void setAttributes(final Set<Attribute> attributes) {
         this.attributes = POJOHelper.serialize(attributes);
+        if (attributes != null) {
+            // Attribute instances are immutable
+            attributesValue.set(this.attributes, new HashSet<>(attributes));
+        }
     }
 
     @Override
@@ -18,9 +18,17 @@
  */
 package org.apache.syncope.core.persistence.jpa.entity.task;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.persistence.Entity;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import org.apache.commons.io.IOUtils;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractExec;
@@ -38,6 +46,16 @@ public class JPATaskExec extends AbstractExec implements TaskExec {
 
     public static final String TABLE = "TaskExec";
 
+    /**
+     * Prefix marking messages stored as Base64-encoded GZIP payloads.
+     */
+    public static final String COMPRESSED_PREFIX = "{gzip}";
+
+    /**
+     * Messages shorter than this are stored as they are.
+     */
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
     /**
      * The referred task.
      */
@@ -55,6 +73,51 @@ public class JPATaskExec extends AbstractExec implements TaskExec {
         this.task = (AbstractTask) task;
     }
 
+    private static String compress(final String message) {
+        if (message == null || message.length() < COMPRESSION_THRESHOLD) {
+            return message;
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+            gzip.write(message.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.error("While compressing message, storing as is", e);
+            return message;
+        }
+
+        String compressed = COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(baos.toByteArray());
+        return compressed.length() < message.length()
+                ? compressed
+                : message;
+    }
+
+    private static String decompress(final String message) {
+        if (message == null || !message.startsWith(COMPRESSED_PREFIX)) {
+            return message;
+        }
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(
+                Base64.getDecoder().decode(message.substring(COMPRESSED_PREFIX.length()))))) {
+
+            return IOUtils.toString(gzip, StandardCharsets.UTF_8);
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.error("While decompressing message, returning as is", e);
+            return message;
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return decompress(message);
+    }
+
+    @Override
+    public void setMessage(final String message) {
+        super.setMessage(message);
+        this.message = compress(this.message);
+    }
+
     @Override
     public String toString() {
         return new StringBuilder(getClass().getSimpleName()).append('{').
@@ -63,7 +126,7 @@ public class JPATaskExec extends AbstractExec implements TaskExec {
                 append("end=").append(end).append(", ").
                 append("task=").append(task).append(", ").
                 append("status=").append(status).append(", ").
-                append("message=").append(message).
+                append("message=").append(getMessage()).
                 append('}').
                 toString();
     }
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.openjpa.conf.OpenJPAConfiguration;
+import org.apache.openjpa.datacache.DataCacheManager;
+import org.apache.openjpa.event.AbstractRemoteCommitProvider;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.jdbc.conf.JDBCConfiguration;
+import org.apache.openjpa.jdbc.sql.DBDictionary;
+import org.apache.openjpa.lib.conf.Configuration;
+import org.apache.openjpa.util.OpenJPAId;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * OpenJPA {@link org.apache.openjpa.event.RemoteCommitProvider} sharing commit events among core nodes through a
+ * table in the domain's own database: no additional infrastructure is required.
+ *
+ * Each node inserts its commit events into {@value #TABLE} and periodically polls for events inserted by other
+ * nodes; events are looked up within a time window wide enough to tolerate some clock skew and commit latency, and
+ * are never fired twice. Events whose serialized form exceeds {@code MaxPayloadSize} are replaced by a marker
+ * causing the other nodes to clear their data and query caches altogether.
+ *
+ * As the table is shared, events read from there are deserialized only if made of the classes which can be found in
+ * an OpenJPA {@link RemoteCommitEvent}: {@link OpenJPAId} subclasses, persistent entities and a few JDK types.
+ *
+ * Configure for example as
+ * {@code org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider(PollInterval=1000)}.
+ */
+public class JDBCRemoteCommitProvider extends AbstractRemoteCommitProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JDBCRemoteCommitProvider.class);
+
+    public static final String TABLE = "SYNCOPEREMOTECOMMIT";
+
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+            RemoteCommitEvent.class.getName(),
+            String.class.getName(),
+            Number.class.getName(),
+            Long.class.getName(),
+            Integer.class.getName(),
+            Short.class.getName(),
+            Byte.class.getName(),
+            Boolean.class.getName(),
+            Character.class.getName(),
+            BigInteger.class.getName(),
+            BigDecimal.class.getName(),
+            Date.class.getName(),
+            ArrayList.class.getName(),
+            LinkedList.class.getName(),
+            HashSet.class.getName(),
+            LinkedHashSet.class.getName(),
+            HashMap.class.getName(),
+            "java.util.Collections$EmptyList",
+            "java.util.Collections$EmptySet",
+            "java.util.Collections$SingletonList",
+            "java.util.Collections$SingletonSet",
+            "java.util.Collections$UnmodifiableCollection",
+            "java.util.Collections$UnmodifiableList",
+            "java.util.Collections$UnmodifiableRandomAccessList",
+            "java.util.Collections$UnmodifiableSet"));
+
+    private final String node = UUID.randomUUID().toString();
+
+    private final Map<String, Boolean> seen = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>() {
+
+        private static final long serialVersionUID = -2356097932370513087L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > seenMaxSize;
+        }
+    });
+
+    private OpenJPAConfiguration conf;
+
+    private ScheduledExecutorService poller;
+
+    private volatile DataSource dataSource;
+
+    private long pollInterval = 1000;
+
+    private long lookBack = 30000;
+
+    private long retention = 600000;
+
+    private int maxPayloadSize = 60000;
+
+    private int seenMaxSize = 100000;
+
+    private long lastPoll;
+
+    private long lastCleanup;
+
+    /**
+     * @param pollInterval milliseconds between two polls for events from other nodes
+     */
+    public void setPollInterval(final long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * @param lookBack milliseconds before last poll to look for events, should cover clock skew among nodes
+     */
+    public void setLookBack(final long lookBack) {
+        this.lookBack = lookBack;
+    }
+
+    /**
+     * @param retention milliseconds after which events are removed from the table
+     */
+    public void setRetention(final long retention) {
+        this.retention = retention;
+    }
+
+    /**
+     * @param maxPayloadSize max bytes of a serialized event, above which caches are cleared altogether
+     */
+    public void setMaxPayloadSize(final int maxPayloadSize) {
+        this.maxPayloadSize = maxPayloadSize;
+    }
+
+    /**
+     * @param seenMaxSize max number of event ids remembered in order not to fire the same event twice
+     */
+    public void setSeenMaxSize(final int seenMaxSize) {
+        this.seenMaxSize = seenMaxSize;
+    }
+
+    @Override
+    public void setConfiguration(final Configuration config) {
+        super.setConfiguration(config);
+        this.conf = (OpenJPAConfiguration) config;
+    }
+
+    @Override
+    public void endConfiguration() {
+        super.endConfiguration();
+
+        lastPoll = System.currentTimeMillis();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RemoteCommitPoller-" + conf.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    protected DataSource getDataSource() throws SQLException {
+        if (dataSource == null) {
+            synchronized (this) {
+                if (dataSource == null) {
+                    JDBCConfiguration jdbcConf = (JDBCConfiguration) conf;
+                    DataSource ds = jdbcConf.getDataSource2(null);
+                    ensureTable(ds, jdbcConf.getDBDictionaryInstance());
+                    dataSource = ds;
+                }
+            }
+        }
+        return dataSource;
+    }
+
+    protected void ensureTable(final DataSource ds, final DBDictionary dict) throws SQLException {
+        try (Connection conn = ds.getConnection(); Statement stmt = conn.createStatement()) {
+            try {
+                stmt.executeQuery("SELECT ID FROM " + TABLE + " WHERE 1=0").close();
+            } catch (SQLException e) {
+                LOG.info("Creating table {}", TABLE);
+                stmt.executeUpdate("CREATE TABLE " + TABLE + " ("
+                        + "ID " + dict.varcharTypeName + "(36) NOT NULL, "
+                        + "NODE " + dict.varcharTypeName + "(36) NOT NULL, "
+                        + "CREATED " + dict.bigintTypeName + " NOT NULL, "
+                        + "PAYLOAD " + dict.blobTypeName + ", "
+                        + "PRIMARY KEY (ID))");
+            }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+    }
+
+    private byte[] serialize(final RemoteCommitEvent event) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(event);
+        }
+        return baos.toByteArray();
+    }
+
+    private static boolean isAllowed(final Class<?> clazz) {
+        Class<?> type = clazz;
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive()
+                || ALLOWED_CLASSES.contains(type.getName())
+                || OpenJPAId.class.isAssignableFrom(type)
+                || Entity.class.isAssignableFrom(type);
+    }
+
+    private RemoteCommitEvent deserialize(final InputStream in) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(in) {
+
+            @Override
+            protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                Class<?> clazz;
+                try {
+                    clazz = Class.forName(desc.getName(), false, JDBCRemoteCommitProvider.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    clazz = super.resolveClass(desc);
+                }
+                if (!isAllowed(clazz)) {
+                    throw new InvalidClassException(desc.getName(), "not allowed in commit events");
+                }
+                return clazz;
+            }
+
+            @Override
+            protected Class<?> resolveProxyClass(final String[] interfaces) throws IOException {
+                throw new InvalidClassException("Proxy classes are not allowed in commit events");
+            }
+        }) {
+            return (RemoteCommitEvent) ois.readObject();
+        }
+    }
+
+    @Override
+    public void broadcast(final RemoteCommitEvent event) {
+        try {
+            byte[] payload = serialize(event);
+            if (payload.length > maxPayloadSize) {
+                LOG.debug("Event payload of {} bytes exceeds {}, asking to clear caches", payload.length,
+                        maxPayloadSize);
+                payload = null;
+            }
+
+            try (Connection conn = getDataSource().getConnection();
+                    PreparedStatement stmt = conn.prepareStatement(
+                            "INSERT INTO " + TABLE + "(ID, NODE, CREATED, PAYLOAD) VALUES (?, ?, ?, ?)")) {
+
+                String id = UUID.randomUUID().toString();
+                stmt.setString(1, id);
+                stmt.setString(2, node);
+                stmt.setLong(3, System.currentTimeMillis());
+                stmt.setBytes(4, payload);
+                stmt.executeUpdate();
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        } catch (Exception e) {
+            LOG.error("While broadcasting commit event", e);
+        }
+    }
+
+    protected void clearCaches() {
+        DataCacheManager dcm = conf.getDataCacheManagerInstance();
+        if (dcm != null) {
+            if (dcm.getSystemDataCache() != null) {
+                dcm.getSystemDataCache().clear();
+            }
+            if (dcm.getSystemQueryCache() != null) {
+                dcm.getSystemQueryCache().clear();
+            }
+        }
+    }
+
+    void poll() {
+        long now = System.currentTimeMillis();
+        try (Connection conn = getDataSource().getConnection();
+                PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT ID, PAYLOAD FROM " + TABLE + " WHERE CREATED > ? AND NODE <> ? ORDER BY CREATED")) {
+
+            stmt.setLong(1, lastPoll - lookBack);
+            stmt.setString(2, node);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String id = rs.getString(1);
+                    if (seen.put(id, Boolean.TRUE) == null) {
+                        InputStream payload = rs.getBinaryStream(2);
+                        if (payload == null) {
+                            clearCaches();
+                        } else {
+                            try {
+                                fireEvent(deserialize(payload));
+                            } catch (IOException | ClassNotFoundException e) {
+                                LOG.error("Could not read commit event {}, clearing caches", id, e);
+                                clearCaches();
+                            }
+                        }
+                    }
+                }
+            }
+            lastPoll = now;
+
+            if (now - lastCleanup > retention / 10) {
+                try (PreparedStatement delete = conn.prepareStatement(
+                        "DELETE FROM " + TABLE + " WHERE CREATED < ?")) {
+
+                    delete.setLong(1, now - retention);
+                    int deleted = delete.executeUpdate();
+                    LOG.debug("Removed {} expired commit events", deleted);
+                }
+                lastCleanup = now;
+            }
+
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        } catch (Exception e) {
+            LOG.error("While polling for commit events", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+}
@@ -122,6 +122,40 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(searchDAO.matches(user, SearchCond.getLeafCond(relationshipTypeCond)));
     }
 
+    @Test
+    public void userMatchAttributes() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        AttributeCond ctypeCond = new AttributeCond(AttributeCond.Type.EQ);
+        ctypeCond.setSchema("ctype");
+        ctypeCond.setExpression("G");
+
+        AttributeCond fullnameCond = new AttributeCond(AttributeCond.Type.EQ);
+        fullnameCond.setSchema("fullname");
+        fullnameCond.setExpression("Gioacchino Rossini");
+
+        AssignableCond assignableCond = new AssignableCond();
+        assignableCond.setRealmFullPath("/even");
+        assignableCond.setFromGroup(true);
+
+        SearchCond cond = SearchCond.getAndCond(
+                SearchCond.getLeafCond(assignableCond),
+                SearchCond.getAndCond(SearchCond.getLeafCond(ctypeCond), SearchCond.getLeafCond(fullnameCond)));
+        assertTrue(searchDAO.matches(user, cond));
+        assertEquals(searchDAO.search(cond, AnyTypeKind.USER).contains(user), searchDAO.matches(user, cond));
+
+        ctypeCond.setExpression("F");
+        assertFalse(searchDAO.matches(user, cond));
+        assertEquals(searchDAO.search(cond, AnyTypeKind.USER).contains(user), searchDAO.matches(user, cond));
+
+        assertTrue(searchDAO.matches(user,
+                SearchCond.getOrCond(SearchCond.getLeafCond(ctypeCond), SearchCond.getLeafCond(fullnameCond))));
+
+        assignableCond.setRealmFullPath("/odd");
+        assertFalse(searchDAO.matches(user, SearchCond.getLeafCond(assignableCond)));
+    }
+
     @Test
     public void groupMatch() {
         Group group = groupDAO.find("37d15e4c-cdc1-460b-a591-8505c8133806");
@@ -275,6 +309,45 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchWithKeysetPagination() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        List<User> all = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS,
+                cond, 1, 100, Collections.<OrderByClause>emptyList(),
+                AnyTypeKind.USER);
+        assertEquals(5, all.size());
+
+        List<User> walked = new ArrayList<>();
+        String after = null;
+        List<User> users;
+        do {
+            users = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS, cond, after, 2, AnyTypeKind.USER);
+            walked.addAll(users);
+            if (!users.isEmpty()) {
+                after = users.get(users.size() - 1).getKey();
+            }
+        } while (users.size() == 2);
+
+        assertEquals(all, walked);
+
+        List<User> found = new ArrayList<>();
+        after = null;
+        do {
+            users = userDAO.findAll(after, 2);
+            found.addAll(users);
+            if (!users.isEmpty()) {
+                after = users.get(users.size() - 1).getKey();
+            }
+        } while (users.size() == 2);
+
+        assertEquals(all, found);
+
+        // no condition but the key one
+        users = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS, null, all.get(2).getKey(), 100, AnyTypeKind.USER);
+        assertEquals(all.subList(3, all.size()), users);
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class ConnObjectShadowTest extends AbstractTest {
+
+    @Autowired
+    private ConnObjectShadowDAO connObjectShadowDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Test
+    public void saveAndDelete() {
+        ExternalResource resource = resourceDAO.find("ws-target-resource-1");
+        assertNotNull(resource);
+
+        Set<Attribute> attrs = new HashSet<>();
+        attrs.add(new Name("vivaldi"));
+        attrs.add(AttributeBuilder.build("surname", "Vivaldi"));
+        attrs.add(AttributeBuilder.build("email", "vivaldi@syncope.org", "antonio@syncope.org"));
+
+        ConnObjectShadow shadow = entityFactory.newEntity(ConnObjectShadow.class);
+        shadow.setResource(resource);
+        shadow.setObjectClass(ObjectClass.ACCOUNT);
+        shadow.setConnObjectKey("vivaldi");
+        shadow.setUid("vivaldi");
+        shadow.setAttributes(attrs);
+        shadow.setLastPropagation(new Date());
+        connObjectShadowDAO.save(shadow);
+
+        connObjectShadowDAO.flush();
+
+        shadow = connObjectShadowDAO.find(resource, ObjectClass.ACCOUNT, "vivaldi");
+        assertNotNull(shadow);
+        assertEquals("vivaldi", shadow.getUid());
+        assertEquals(attrs, shadow.getAttributes());
+        assertTrue(shadow.isAlignedWith(attrs));
+
+        Set<Attribute> changed = new HashSet<>(attrs);
+        changed.add(AttributeBuilder.build("fullname", "Antonio Vivaldi"));
+        assertFalse(shadow.isAlignedWith(changed));
+
+        assertNull(connObjectShadowDAO.find(resource, ObjectClass.GROUP, "vivaldi"));
+
+        connObjectShadowDAO.delete(resource, ObjectClass.ACCOUNT, "vivaldi");
+        connObjectShadowDAO.flush();
+
+        assertNull(connObjectShadowDAO.find(resource, ObjectClass.ACCOUNT, "vivaldi"));
+    }
+}
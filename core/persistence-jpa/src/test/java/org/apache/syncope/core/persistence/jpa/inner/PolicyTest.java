@@ -23,17 +23,27 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.List;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.CipherAlgorithm;
+import org.apache.syncope.common.lib.policy.DefaultAccountRuleConf;
 import org.apache.syncope.common.lib.policy.DefaultPasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PullPolicySpec;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.api.utils.policy.AccountPolicyException;
+import org.apache.syncope.core.provisioning.api.utils.policy.PasswordPolicyException;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.api.entity.Policy;
+import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.jpa.dao.DefaultAccountRule;
+import org.apache.syncope.core.persistence.jpa.dao.DefaultPasswordRule;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +59,23 @@ public class PolicyTest extends AbstractTest {
     @Autowired
     private PolicyDAO policyDAO;
 
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
+    private User buildUser(final String username, final String password, final String firstname) {
+        User user = entityFactory.newEntity(User.class);
+        user.setUsername(username);
+        user.setPassword(password, CipherAlgorithm.SHA256);
+
+        UPlainAttr attr = entityFactory.newEntity(UPlainAttr.class);
+        attr.setOwner(user);
+        attr.setSchema(plainSchemaDAO.find("firstname"));
+        attr.add(firstname, anyUtilsFactory.getInstance(AnyTypeKind.USER));
+        user.add(attr);
+
+        return user;
+    }
+
     @Test
     public void findAll() {
         List<Policy> policies = policyDAO.findAll();
@@ -132,4 +159,38 @@ public class PolicyTest extends AbstractTest {
         Policy actual = policyDAO.find("66691e96-285f-4464-bc19-e68384ea4c85");
         assertNull("delete did not work", actual);
     }
+
+    @Test
+    public void enforceDoesNotAlterRuleConf() {
+        DefaultPasswordRuleConf passwordRuleConf = new DefaultPasswordRuleConf();
+        passwordRuleConf.getSchemasNotPermitted().add("firstname");
+        DefaultAccountRuleConf accountRuleConf = new DefaultAccountRuleConf();
+        accountRuleConf.getSchemasNotPermitted().add("firstname");
+
+        DefaultPasswordRule passwordRule = new DefaultPasswordRule();
+        DefaultAccountRule accountRule = new DefaultAccountRule();
+
+        // first user: own firstname is not permitted in password and username
+        User user = buildUser("gioacchino", "gioacchino123", "Gioacchino");
+        try {
+            passwordRule.enforce(passwordRuleConf, user);
+            fail("This should not happen");
+        } catch (PasswordPolicyException e) {
+            assertNotNull(e);
+        }
+        try {
+            accountRule.enforce(accountRuleConf, user);
+            fail("This should not happen");
+        } catch (AccountPolicyException e) {
+            assertNotNull(e);
+        }
+
+        // second user, same conf instances: first user's firstname must not be taken into account
+        user = buildUser("gioacchino", "gioacchino123", "Antonio");
+        passwordRule.enforce(passwordRuleConf, user);
+        accountRule.enforce(accountRuleConf, user);
+
+        assertTrue(passwordRuleConf.getWordsNotPermitted().isEmpty());
+        assertTrue(accountRuleConf.getWordsNotPermitted().isEmpty());
+    }
 }
@@ -127,6 +127,28 @@ public class RealmTest extends AbstractTest {
         assertEquals("986d1236-3ac5-4a19-810c-5ab21d79cba1", actual.getPasswordPolicy().getKey());
     }
 
+    @Test
+    public void renameUpdatesDescendants() {
+        Realm realm = entityFactory.newEntity(Realm.class);
+        realm.setName("last");
+        realm.setParent(realmDAO.findByFullPath("/even/two"));
+        realmDAO.save(realm);
+
+        List<Realm> descendants = realmDAO.findDescendants(realmDAO.findByFullPath("/even"));
+        assertEquals(3, descendants.size());
+        assertEquals("/even", descendants.get(0).getFullPath());
+        assertEquals("/even/two", descendants.get(1).getFullPath());
+        assertEquals("/even/two/last", descendants.get(2).getFullPath());
+
+        Realm even = realmDAO.findByFullPath("/even");
+        even.setName("odds");
+        realmDAO.save(even);
+
+        assertNull(realmDAO.findByFullPath("/even/two/last"));
+        assertNotNull(realmDAO.findByFullPath("/odds/two/last"));
+        assertEquals(3, realmDAO.findDescendants(realmDAO.findByFullPath("/odds")).size());
+    }
+
     @Test
     public void saveInvalidName() {
         Realm realm = entityFactory.newEntity(Realm.class);
@@ -126,6 +126,7 @@ public class ResourceTest extends AbstractTest {
         ExternalResource resource = entityFactory.newEntity(ExternalResource.class);
         resource.setKey("ws-target-resource-basic-save");
         resource.setPropagationPriority(2);
+        resource.setTrustLocalState(true);
 
         Provision provision = entityFactory.newEntity(Provision.class);
         provision.setAnyType(anyTypeDAO.findUser());
@@ -154,6 +155,7 @@ public class ResourceTest extends AbstractTest {
         assertNotNull(actual.getProvision(anyTypeDAO.findUser()).get().getMapping());
         assertFalse(actual.getProvision(anyTypeDAO.findUser()).get().getMapping().getItems().isEmpty());
         assertEquals(Integer.valueOf(2), actual.getPropagationPriority());
+        assertTrue(actual.isTrustLocalState());
     }
 
     @Test(expected = InvalidEntityException.class)
@@ -20,14 +20,19 @@ package org.apache.syncope.core.persistence.jpa.inner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.junit.Test;
@@ -89,4 +94,93 @@ public class TaskExecTest extends AbstractTest {
 
         assertEquals(faultyMessage.replace('\0', '\n'), exec.getMessage());
     }
+
+    private TaskExec newExec(final Date start) {
+        TaskExec exec = entityFactory.newEntity(TaskExec.class);
+        exec.setStart(start);
+        exec.setEnd(new Date(start.getTime() + 1000));
+        exec.setStatus("SUCCESS");
+        return exec;
+    }
+
+    @Test
+    public void saveAndAdd() {
+        SchedTask task = taskDAO.find("e95555d2-1b09-42c8-b25b-f4c4ec597979");
+        assertNotNull(task);
+        assertNull(taskExecDAO.findLatestStarted(task));
+        // load the executions first
+        assertTrue(task.getExecs().isEmpty());
+
+        long now = System.currentTimeMillis();
+        TaskExec latest = null;
+        for (int i = 0; i < 3; i++) {
+            latest = newExec(new Date(now + i * 60000));
+            taskExecDAO.saveAndAdd(task.getKey(), latest);
+            assertNotNull(latest.getKey());
+            assertTrue(taskDAO.find(task.getKey()).getExecs().contains(latest));
+        }
+        assertEquals(3, taskExecDAO.count(task.getKey()));
+        assertEquals(3, taskDAO.find(task.getKey()).getExecs().size());
+
+        assertEquals(latest.getKey(), taskExecDAO.findLatestStarted(task).getKey());
+        assertEquals(latest.getKey(), taskExecDAO.findLatestEnded(task).getKey());
+    }
+
+    @Test
+    public void deleteExceeding() {
+        SchedTask task = taskDAO.find("e95555d2-1b09-42c8-b25b-f4c4ec597979");
+        assertNotNull(task);
+
+        long now = System.currentTimeMillis();
+        TaskExec latest = null;
+        for (int i = 0; i < 5; i++) {
+            latest = newExec(new Date(now + i * 60000));
+            taskExecDAO.saveAndAdd(task.getKey(), latest);
+        }
+        assertEquals(5, taskExecDAO.count(task.getKey()));
+
+        assertEquals(3, taskExecDAO.deleteExceeding(TaskType.SCHEDULED, 2));
+        assertEquals(2, taskExecDAO.count(task.getKey()));
+        assertNotNull(taskExecDAO.find(latest.getKey()));
+
+        // propagation task executions are left untouched
+        assertEquals(1, taskExecDAO.count("1e697572-b896-484c-ae7f-0c8f63fcbc6c"));
+    }
+
+    @Test
+    public void deleteEndedBefore() {
+        assertEquals(1, taskExecDAO.count("1e697572-b896-484c-ae7f-0c8f63fcbc6c"));
+
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2015, 11, 1, 0, 0, 0);
+        assertEquals(0, taskExecDAO.deleteEndedBefore(TaskType.PROPAGATION, calendar.getTime()));
+
+        assertEquals(2, taskExecDAO.deleteEndedBefore(TaskType.PROPAGATION, new Date()));
+        assertEquals(0, taskExecDAO.count("1e697572-b896-484c-ae7f-0c8f63fcbc6c"));
+    }
+
+    @Test
+    public void compressedMessage() {
+        PropagationTask task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
+        assertNotNull(task);
+
+        String message = StringUtils.repeat(
+                "java.lang.IllegalStateException: faulty\n\tat Sample.method(Sample.java)\n", 100);
+
+        TaskExec exec = newExec(new Date());
+        exec.setMessage(message);
+        exec.setTask(task);
+        task.add(exec);
+
+        exec = taskExecDAO.save(exec);
+        assertEquals(message, exec.getMessage());
+
+        taskExecDAO.flush();
+        taskExecDAO.clear();
+
+        exec = taskExecDAO.find(exec.getKey());
+        assertNotNull(exec);
+        assertEquals(message, exec.getMessage());
+    }
 }
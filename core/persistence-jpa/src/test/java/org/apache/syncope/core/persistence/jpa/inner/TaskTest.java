@@ -42,6 +42,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
@@ -129,6 +130,31 @@ public class TaskTest extends AbstractTest {
         assertEquals(task, actual);
     }
 
+    @Test
+    public void propagationTaskAttributes() {
+        PropagationTask task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
+        assertNotNull(task);
+
+        Set<Attribute> attributes = task.getAttributes();
+        assertEquals(4, attributes.size());
+
+        // changes to the returned set do not affect the task
+        attributes.add(AttributeBuilder.build("testAttribute", "testValue"));
+        assertEquals(4, task.getAttributes().size());
+
+        // setter replaces the previously deserialized value
+        task.setAttributes(attributes);
+        assertEquals(5, task.getAttributes().size());
+
+        taskDAO.save(task);
+        taskDAO.flush();
+        taskDAO.clear();
+
+        task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
+        assertEquals(5, task.getAttributes().size());
+        assertNotNull(AttributeUtil.find("testAttribute", task.getAttributes()));
+    }
+
     @Test
     public void delete() {
         PropagationTask task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
@@ -19,10 +19,14 @@
 package org.apache.syncope.core.persistence.jpa.inner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
@@ -126,6 +130,21 @@ public class UserTest extends AbstractTest {
         assertNotNull("did not find expected user", user);
     }
 
+    @Test
+    public void findByKeys() {
+        List<User> users = userDAO.findByKeys(Arrays.asList(
+                "74cd8ece-715a-44a4-a736-e17b46c4e7e6",
+                "1417acbe-cbf6-4277-9372-e75e04f97000",
+                "00000000-0000-0000-0000-000000000000",
+                "74cd8ece-715a-44a4-a736-e17b46c4e7e6"));
+        assertEquals(2, users.size());
+        assertEquals("74cd8ece-715a-44a4-a736-e17b46c4e7e6", users.get(0).getKey());
+        assertEquals("1417acbe-cbf6-4277-9372-e75e04f97000", users.get(1).getKey());
+        assertFalse(users.get(1).getPlainAttrs().isEmpty());
+
+        assertTrue(userDAO.findByKeys(Collections.<String>emptyList()).isEmpty());
+    }
+
     @Test
     public void findByUsername() {
         User user = userDAO.findByUsername("rossini");
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.jdbc.sql.H2Dictionary;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JDBCRemoteCommitProviderTest {
+
+    private static class TestProvider extends JDBCRemoteCommitProvider {
+
+        private final DataSource dataSource;
+
+        private final List<RemoteCommitEvent> fired = new ArrayList<>();
+
+        private int cleared;
+
+        private boolean initialized;
+
+        TestProvider(final DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        protected synchronized DataSource getDataSource() throws SQLException {
+            if (!initialized) {
+                ensureTable(dataSource, new H2Dictionary());
+                initialized = true;
+            }
+            return dataSource;
+        }
+
+        @Override
+        protected void fireEvent(final RemoteCommitEvent event) {
+            fired.add(event);
+        }
+
+        @Override
+        protected void clearCaches() {
+            cleared++;
+        }
+    }
+
+    private JdbcDataSource dataSource;
+
+    private TestProvider node1;
+
+    private TestProvider node2;
+
+    @Before
+    public void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:remotecommit" + UUID.randomUUID().toString() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+
+        // two providers on the same database, as two core nodes would be
+        node1 = new TestProvider(dataSource);
+        node2 = new TestProvider(dataSource);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
+    }
+
+    private int count() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + JDBCRemoteCommitProvider.TABLE)) {
+
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static RemoteCommitEvent event(final String key) {
+        return new RemoteCommitEvent(
+                RemoteCommitEvent.PAYLOAD_OIDS,
+                null,
+                null,
+                Collections.singletonList(new StringId(JPAUser.class, key)),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void broadcastAndPoll() throws SQLException {
+        node1.broadcast(event("key1"));
+        assertEquals(1, count());
+
+        // own events are not fired
+        node1.poll();
+        assertTrue(node1.fired.isEmpty());
+
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+        assertEquals(
+                new StringId(JPAUser.class, "key1"),
+                node2.fired.get(0).getUpdatedObjectIds().iterator().next());
+
+        // same event is never fired twice
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+
+        node2.broadcast(event("key2"));
+        node1.poll();
+        assertEquals(1, node1.fired.size());
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+        assertEquals(0, node1.cleared + node2.cleared);
+    }
+
+    @Test
+    public void payloadTooLarge() {
+        node1.setMaxPayloadSize(1);
+        node1.broadcast(event("key1"));
+
+        node2.poll();
+        assertTrue(node2.fired.isEmpty());
+        assertEquals(1, node2.cleared);
+    }
+
+    @Test
+    public void unexpectedClassesNotDeserialized() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(new RemoteCommitEvent(
+                    RemoteCommitEvent.PAYLOAD_OIDS,
+                    null,
+                    null,
+                    Collections.singletonList(new File("/")),
+                    Collections.emptyList()));
+        }
+
+        node1.broadcast(event("key1"));
+        try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO " + JDBCRemoteCommitProvider.TABLE + "(ID, NODE, CREATED, PAYLOAD) VALUES (?, ?, ?, ?)")) {
+
+            stmt.setString(1, UUID.randomUUID().toString());
+            stmt.setString(2, UUID.randomUUID().toString());
+            stmt.setLong(3, System.currentTimeMillis());
+            stmt.setBytes(4, baos.toByteArray());
+            stmt.executeUpdate();
+        }
+
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+        assertEquals(1, node2.cleared);
+    }
+
+    @Test
+    public void cleanup() throws Exception {
+        node1.broadcast(event("key1"));
+        node1.broadcast(event("key2"));
+        assertEquals(2, count());
+
+        node2.setRetention(1);
+        Thread.sleep(10);
+
+        node2.poll();
+        assertEquals(2, node2.fired.size());
+        assertEquals(0, count());
+    }
+}
@@ -18,12 +18,20 @@
  */
 package org.apache.syncope.core.persistence.jpa.outer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.Query;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -35,8 +43,13 @@ import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.DynRealmMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.JPADynRealmDAO;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -54,6 +67,9 @@ public class DynRealmTest extends AbstractTest {
     @Autowired
     private UserDAO userDAO;
 
+    @Autowired
+    private ApplicationEventMulticaster multicaster;
+
     @Test
     public void misc() {
         DynRealm dynRealm = entityFactory.newEntity(DynRealm.class);
@@ -93,4 +109,75 @@ public class DynRealmTest extends AbstractTest {
         assertTrue(userDAO.findDynRealms(user.getKey()).contains(actual.getKey()));
     }
 
+    @Test
+    public void refresh() {
+        List<DynMembersChangedEvent> events = new ArrayList<>();
+        ApplicationListener<ApplicationEvent> listener = event -> {
+            if (event instanceof DynMembersChangedEvent) {
+                events.add((DynMembersChangedEvent) event);
+            }
+        };
+        multicaster.addApplicationListener(listener);
+        try {
+            // 1. create dynamic realm: bellini is added
+            DynRealm dynRealm = entityFactory.newEntity(DynRealm.class);
+            dynRealm.setKey("refresh");
+
+            DynRealmMembership memb = entityFactory.newEntity(DynRealmMembership.class);
+            memb.setDynRealm(dynRealm);
+            memb.setAnyType(anyTypeDAO.findUser());
+            memb.setFIQLCond("cool==true");
+            dynRealm.add(memb);
+
+            DynRealm actual = dynRealmDAO.save(dynRealm);
+            dynRealmDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList("c9b2dec2-00a7-4855-97c0-d854842b4b24")),
+                    findDynMembers(actual.getKey()));
+            assertEquals(1, events.size());
+            assertEquals(
+                    new HashSet<>(Arrays.asList("c9b2dec2-00a7-4855-97c0-d854842b4b24")),
+                    events.get(0).getAnyKeys());
+            assertEquals(SyncopeConstants.MASTER_DOMAIN, events.get(0).getDomain());
+
+            // 2. replace the condition: bellini is removed, rossini is added
+            actual.getDynMembership(anyTypeDAO.findUser()).get().setFIQLCond("username==rossini");
+            actual = dynRealmDAO.save(actual);
+            dynRealmDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList("1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    findDynMembers(actual.getKey()));
+            assertEquals(2, events.size());
+            assertEquals(
+                    new HashSet<>(Arrays.asList(
+                            "c9b2dec2-00a7-4855-97c0-d854842b4b24", "1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    events.get(1).getAnyKeys());
+
+            // 3. save again with no change in members: no event is published
+            actual = dynRealmDAO.save(actual);
+            dynRealmDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList("1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    findDynMembers(actual.getKey()));
+            assertEquals(2, events.size());
+        } finally {
+            multicaster.removeApplicationListener(listener);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> findDynMembers(final String dynRealmKey) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT any_id FROM " + JPADynRealmDAO.DYNMEMB_TABLE + " WHERE dynRealm_id=?");
+        query.setParameter(1, dynRealmKey);
+
+        return (Set<String>) query.getResultList().stream().map(resultKey -> resultKey instanceof Object[]
+                ? (String) ((Object[]) resultKey)[0]
+                : ((String) resultKey)).
+                collect(Collectors.toSet());
+    }
+
 }
@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.Query;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -57,8 +58,12 @@ import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.persistence.jpa.dao.JPAGroupDAO;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -91,6 +96,9 @@ public class GroupTest extends AbstractTest {
     @Autowired
     private AnyTypeClassDAO anyTypeClassDAO;
 
+    @Autowired
+    private ApplicationEventMulticaster multicaster;
+
     @Test(expected = InvalidEntityException.class)
     public void saveWithTwoOwners() {
         Group root = groupDAO.findByName("root");
@@ -379,4 +387,88 @@ public class GroupTest extends AbstractTest {
         assertTrue(dynGroupMemberships.isEmpty());
     }
 
+    @Test
+    public void udynMembershipRefresh() {
+        List<DynMembersChangedEvent> events = new ArrayList<>();
+        ApplicationListener<ApplicationEvent> listener = event -> {
+            if (event instanceof DynMembersChangedEvent) {
+                events.add((DynMembersChangedEvent) event);
+            }
+        };
+        multicaster.addApplicationListener(listener);
+        try {
+            // 1. create group with dynamic membership: bellini is added
+            Group group = entityFactory.newEntity(Group.class);
+            group.setRealm(realmDAO.getRoot());
+            group.setName("refresh");
+
+            UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+            dynMembership.setFIQLCond("cool==true");
+            dynMembership.setGroup(group);
+            group.setUDynMembership(dynMembership);
+
+            Group actual = groupDAO.save(group);
+            groupDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList("c9b2dec2-00a7-4855-97c0-d854842b4b24")),
+                    findUDynMembers(actual.getKey()));
+            assertEquals(1, events.size());
+            assertEquals(
+                    new HashSet<>(Arrays.asList("c9b2dec2-00a7-4855-97c0-d854842b4b24")),
+                    events.get(0).getAnyKeys());
+            assertEquals(SyncopeConstants.MASTER_DOMAIN, events.get(0).getDomain());
+
+            // 2. widen the condition: rossini is added, bellini stays
+            actual.getUDynMembership().setFIQLCond("cool==true,username==rossini");
+            actual = groupDAO.save(actual);
+            groupDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList(
+                            "c9b2dec2-00a7-4855-97c0-d854842b4b24", "1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    findUDynMembers(actual.getKey()));
+            assertEquals(2, events.size());
+            assertEquals(
+                    new HashSet<>(Arrays.asList("1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    events.get(1).getAnyKeys());
+
+            // 3. narrow the condition: bellini is removed, rossini stays
+            actual.getUDynMembership().setFIQLCond("username==rossini");
+            actual = groupDAO.save(actual);
+            groupDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList("1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    findUDynMembers(actual.getKey()));
+            assertEquals(3, events.size());
+            assertEquals(
+                    new HashSet<>(Arrays.asList("c9b2dec2-00a7-4855-97c0-d854842b4b24")),
+                    events.get(2).getAnyKeys());
+
+            // 4. save again with no change in members: no event is published
+            actual = groupDAO.save(actual);
+            groupDAO.flush();
+
+            assertEquals(
+                    new HashSet<>(Arrays.asList("1417acbe-cbf6-4277-9372-e75e04f97000")),
+                    findUDynMembers(actual.getKey()));
+            assertEquals(3, events.size());
+        } finally {
+            multicaster.removeApplicationListener(listener);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> findUDynMembers(final String groupKey) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT any_id FROM " + JPAGroupDAO.UDYNMEMB_TABLE + " WHERE group_id=?");
+        query.setParameter(1, groupKey);
+
+        return (Set<String>) query.getResultList().stream().map(resultKey -> resultKey instanceof Object[]
+                ? (String) ((Object[]) resultKey)[0]
+                : ((String) resultKey)).
+                collect(Collectors.toSet());
+    }
+
 }
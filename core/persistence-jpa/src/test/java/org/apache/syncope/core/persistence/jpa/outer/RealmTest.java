@@ -22,6 +22,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
@@ -29,8 +31,10 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.content.XMLContentLoader;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -45,6 +49,12 @@ public class RealmTest extends AbstractTest {
     @Autowired
     private GroupDAO groupDAO;
 
+    @Autowired
+    private DomainsHolder domainsHolder;
+
+    @Autowired
+    private XMLContentLoader contentLoader;
+
     @Test
     public void test() {
         Realm realm = realmDAO.findByFullPath("/odd");
@@ -68,4 +78,26 @@ public class RealmTest extends AbstractTest {
         role = roleDAO.find("User reviewer");
         assertEquals(beforeSize - 1, role.getRealms().size());
     }
+
+    @Test
+    public void refreshFullPaths() {
+        DataSource dataSource = domainsHolder.getDomains().get("Master");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // as for databases created before full paths were stored
+        int nonRoot = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Realm WHERE parent_id IS NOT NULL", Integer.class);
+        assertTrue(nonRoot > 0);
+        jdbcTemplate.update("UPDATE Realm SET fullPath=NULL WHERE parent_id IS NOT NULL");
+
+        assertEquals(nonRoot, contentLoader.refreshRealmFullPaths("Master", dataSource));
+
+        realmDAO.findAll().forEach(realm -> assertEquals(
+                realm.getFullPath(),
+                jdbcTemplate.queryForObject("SELECT fullPath FROM Realm WHERE id=?", String.class, realm.getKey())));
+        assertEquals(nonRoot + 1, realmDAO.findAll().size());
+
+        // nothing left to do
+        assertEquals(0, contentLoader.refreshRealmFullPaths("Master", dataSource));
+    }
 }
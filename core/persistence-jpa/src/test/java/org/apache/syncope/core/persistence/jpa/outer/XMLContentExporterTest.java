@@ -21,9 +21,12 @@ package org.apache.syncope.core.persistence.jpa.outer;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -58,4 +61,17 @@ public class XMLContentExporterTest extends AbstractTest {
         assertTrue(realms.get(3).contains("NAME=\"even\""));
     }
 
+    @Test
+    public void exportGzip() throws Exception {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        exporter.export("Master", plain, null, null, null);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        exporter.export("Master", compressed, true, null, null, null);
+        assertTrue(compressed.size() < plain.size());
+
+        String exported = IOUtils.toString(
+                new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())), StandardCharsets.UTF_8);
+        assertEquals(plain.toString(StandardCharsets.UTF_8), exported);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.List;
+
+/**
+ * In-memory index, per domain, of the audit loggers and notifications subscribed to each event, as built by
+ * {@link org.apache.syncope.common.lib.types.AuditLoggerName#buildEvent}.
+ */
+public interface EventSubscriptionIndex {
+
+    /**
+     * Checks if an enabled audit logger exists for the given event, in the current domain.
+     *
+     * @param event event, including result
+     * @return whether the given event is audited
+     */
+    boolean isAudited(String event);
+
+    /**
+     * Returns the keys of the active notifications including the given event, in the current domain.
+     *
+     * @param event event, including result
+     * @return notification keys, empty if none
+     */
+    List<String> getNotifications(String event);
+
+    /**
+     * Drops the index for the given domain, which will be rebuilt on next access.
+     *
+     * @param domain domain
+     */
+    void invalidate(String domain);
+}
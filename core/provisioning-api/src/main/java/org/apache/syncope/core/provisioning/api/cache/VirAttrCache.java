@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.api.cache;
 
+import org.apache.syncope.common.lib.info.SystemInfo;
+
 /**
  * Virtual Attribute Value cache.
  */
@@ -32,6 +34,13 @@ public interface VirAttrCache {
      */
     void expire(String type, String key, String schemaKey);
 
+    /**
+     * Force expiring of all entries whose values were read from the given external resource.
+     *
+     * @param resource external resource key
+     */
+    void expireAll(String resource);
+
     /**
      * Retrieve cached value. Return null in case of virtual attribute not cached.
      *
@@ -60,4 +69,11 @@ public interface VirAttrCache {
      */
     void put(String type, String key, String schemaName, VirAttrCacheValue value);
 
+    /**
+     * Current cache statistics.
+     *
+     * @return cache statistics
+     */
+    SystemInfo.VirAttrCacheStats getStats();
+
 }
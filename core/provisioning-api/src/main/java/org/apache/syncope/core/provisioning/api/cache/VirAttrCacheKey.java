@@ -18,8 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.cache;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import java.util.Objects;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
@@ -63,12 +62,21 @@ public class VirAttrCacheKey {
 
     @Override
     public boolean equals(final Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj, true);
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof VirAttrCacheKey)) {
+            return false;
+        }
+        VirAttrCacheKey other = (VirAttrCacheKey) obj;
+        return Objects.equals(type, other.type)
+                && Objects.equals(key, other.key)
+                && Objects.equals(virSchema, other.virSchema);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this, true);
+        return Objects.hash(type, key, virSchema);
     }
 
     @Override
@@ -33,6 +33,11 @@ public class VirAttrCacheValue {
      */
     private final List<String> values;
 
+    /**
+     * External resource the values were read from.
+     */
+    private String resource;
+
     /**
      * Entry creation date.
      */
@@ -59,6 +64,14 @@ public class VirAttrCacheValue {
         }
     }
 
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(final String resource) {
+        this.resource = resource;
+    }
+
     public Date getCreationDate() {
         if (creationDate != null) {
             return new Date(creationDate.getTime());
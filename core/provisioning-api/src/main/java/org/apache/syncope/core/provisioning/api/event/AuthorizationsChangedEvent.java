@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Notifies that the authorizations granted to the given user - or to any user of the domain, when no username is
+ * provided - might have changed, as result of updating roles, realms, configuration or access tokens.
+ */
+public class AuthorizationsChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -1858446251383645311L;
+
+    private final String domain;
+
+    private final String username;
+
+    public AuthorizationsChangedEvent(final Object source, final String domain) {
+        this(source, domain, null);
+    }
+
+    public AuthorizationsChangedEvent(final Object source, final String domain, final String username) {
+        super(source);
+        this.domain = domain;
+        this.username = username;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.job;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Storage for report execution results, allowing to stream content in and out without holding it in memory.
+ */
+public interface ReportStore {
+
+    /**
+     * Opens the stream where the XML result of the given report execution will be written; caller is responsible
+     * for closing it.
+     *
+     * @param domain domain
+     * @param execKey report execution key
+     * @return stream for writing the XML result
+     * @throws IOException if the stream cannot be opened
+     */
+    OutputStream write(String domain, String execKey) throws IOException;
+
+    /**
+     * @param domain domain
+     * @param execKey report execution key
+     * @return whether a result was stored for the given report execution
+     */
+    boolean exists(String domain, String execKey);
+
+    /**
+     * Opens the stream for reading the XML result of the given report execution; caller is responsible for
+     * closing it.
+     *
+     * @param domain domain
+     * @param execKey report execution key
+     * @return stream for reading the XML result
+     * @throws IOException if no result was stored or the stream cannot be opened
+     */
+    InputStream read(String domain, String execKey) throws IOException;
+
+    /**
+     * Removes the result of the given report execution, if any.
+     *
+     * @param domain domain
+     * @param execKey report execution key
+     */
+    void delete(String domain, String execKey);
+}
@@ -19,13 +19,12 @@
 package org.apache.syncope.core.provisioning.java;
 
 import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.EventSubscriptionIndex;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
 import org.apache.syncope.common.lib.types.AuditLoggerName;
-import org.apache.syncope.common.lib.types.LoggerLevel;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
-import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,7 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuditManagerImpl implements AuditManager {
 
     @Autowired
-    private LoggerDAO loggerDAO;
+    private EventSubscriptionIndex eventSubscriptionIndex;
 
     @Override
     public boolean auditRequested(
@@ -47,30 +46,10 @@ public class AuditManagerImpl implements AuditManager {
             final String subcategory,
             final String event) {
 
-        AuditEntry auditEntry = new AuditEntry(
-                AuthContextUtils.getUsername(),
-                new AuditLoggerName(type, category, subcategory, event, Result.SUCCESS),
-                null,
-                null,
-                null);
-        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
-                loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        boolean auditRequested = syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG;
-
-        if (auditRequested) {
-            return true;
-        }
-
-        auditEntry = new AuditEntry(
-                AuthContextUtils.getUsername(),
-                new AuditLoggerName(type, category, subcategory, event, Result.FAILURE),
-                null,
-                null,
-                null);
-        syncopeLogger = loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        auditRequested = syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG;
-
-        return auditRequested;
+        return eventSubscriptionIndex.isAudited(
+                AuditLoggerName.buildEvent(type, category, subcategory, event, Result.SUCCESS))
+                || eventSubscriptionIndex.isAudited(
+                        AuditLoggerName.buildEvent(type, category, subcategory, event, Result.FAILURE));
     }
 
     @Override
@@ -97,6 +76,12 @@ public class AuditManagerImpl implements AuditManager {
             final Object output,
             final Object... input) {
 
+        if (!eventSubscriptionIndex.isAudited(
+                AuditLoggerName.buildEvent(type, category, subcategory, event, condition))) {
+
+            return;
+        }
+
         Throwable throwable = null;
         if (output instanceof Throwable) {
             throwable = (Throwable) output;
@@ -109,21 +94,17 @@ public class AuditManagerImpl implements AuditManager {
                 throwable == null ? output : throwable.getMessage(),
                 input);
 
-        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
-                loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        if (syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG) {
-            Logger logger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain()));
-            Logger eventLogger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditEventLoggerName(AuthContextUtils.getDomain(), syncopeLogger.getKey()));
-            String serializedAuditEntry = POJOHelper.serialize(auditEntry);
-            if (throwable == null) {
-                logger.debug(serializedAuditEntry);
-                eventLogger.debug(POJOHelper.serialize(auditEntry));
-            } else {
-                logger.debug(serializedAuditEntry, throwable);
-                eventLogger.debug(serializedAuditEntry, throwable);
-            }
+        Logger logger = LoggerFactory.getLogger(
+                AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain()));
+        Logger eventLogger = LoggerFactory.getLogger(AuditLoggerName.getAuditEventLoggerName(
+                AuthContextUtils.getDomain(), auditEntry.getLogger().toLoggerName()));
+        String serializedAuditEntry = POJOHelper.serialize(auditEntry);
+        if (throwable == null) {
+            logger.debug(serializedAuditEntry);
+            eventLogger.debug(serializedAuditEntry);
+        } else {
+            logger.debug(serializedAuditEntry, throwable);
+            eventLogger.debug(serializedAuditEntry, throwable);
         }
     }
 }
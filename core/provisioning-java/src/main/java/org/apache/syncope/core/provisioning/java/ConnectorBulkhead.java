@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Bounded executor dedicated to the requests sent to a single connector instance, so that a slow or unreachable
+ * backend can only exhaust its own threads and queue.
+ * Requests are handed over to the pool only when a request timeout is to be enforced: otherwise they run on the
+ * caller thread.
+ */
+public class ConnectorBulkhead {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorBulkhead.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final String connector;
+
+    private final String displayName;
+
+    private final int queueCapacity;
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder callerRuns = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder totalLatency = new LongAdder();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public ConnectorBulkhead(
+            final String connector,
+            final String displayName,
+            final int poolSize,
+            final int queueCapacity) {
+
+        this.connector = connector;
+        this.displayName = displayName;
+        this.queueCapacity = queueCapacity;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("connector-" + displayName + "-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        // idle bulkheads do not hold any thread
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public void resize(final int poolSize) {
+        if (poolSize > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(poolSize);
+            executor.setCorePoolSize(poolSize);
+        } else if (poolSize < executor.getMaximumPoolSize()) {
+            executor.setCorePoolSize(poolSize);
+            executor.setMaximumPoolSize(poolSize);
+        }
+    }
+
+    /**
+     * Runs the given operation against the connector.
+     *
+     * @param <T> operation result type
+     * @param operation operation
+     * @param timeout request timeout (seconds): when not positive, the operation runs on the caller thread
+     * @return operation result
+     */
+    public <T> T execute(final Callable<T> operation, final Integer timeout) {
+        long start = System.nanoTime();
+        try {
+            if (timeout == null || timeout <= 0) {
+                callerRuns.increment();
+                return call(operation);
+            }
+
+            return submit(operation, timeout);
+        } finally {
+            long latency = System.nanoTime() - start;
+            executed.increment();
+            totalLatency.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    private <T> T call(final Callable<T> operation) {
+        try {
+            return operation.call();
+        } catch (RuntimeException e) {
+            LOG.error("Connector request execution failure", e);
+            failed.increment();
+            throw e;
+        } catch (Exception e) {
+            LOG.error("Connector request execution failure", e);
+            failed.increment();
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private <T> T submit(final Callable<T> operation, final int timeout) {
+        Future<T> future;
+        try {
+            future = executor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            LOG.error("Too many pending requests for connector {}, rejecting", displayName);
+            throw new TimeoutException("Request rejected: too many pending requests for " + displayName);
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.SECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new TimeoutException("Request timeout");
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+
+            LOG.error("Connector request execution failure", e);
+            failed.increment();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IllegalArgumentException(e.getCause());
+            }
+        }
+    }
+
+    public SystemInfo.ConnectorStats getStats() {
+        SystemInfo.ConnectorStats stats = new SystemInfo.ConnectorStats();
+        stats.setConnector(connector);
+        stats.setDisplayName(displayName);
+        stats.setPoolSize(executor.getMaximumPoolSize());
+        stats.setActiveCount(executor.getActiveCount());
+        stats.setQueueSize(executor.getQueue().size());
+        stats.setQueueCapacity(queueCapacity);
+
+        long count = executed.sum();
+        stats.setExecuted(count);
+        stats.setCallerRuns(callerRuns.sum());
+        stats.setRejected(rejected.sum());
+        stats.setTimedOut(timedOut.sum());
+        stats.setFailed(failed.sum());
+        stats.setMeanLatency(count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency.sum() / count));
+        stats.setMaxLatency(TimeUnit.NANOSECONDS.toMillis(maxLatency.get()));
+        return stats;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Holds one {@link ConnectorBulkhead} per connector instance; the pool size follows the connector's own pooling
+ * configuration, when available.
+ */
+public class ConnectorBulkheads implements DisposableBean {
+
+    /**
+     * Shared by connector instances not yet saved, as used for checking a configuration.
+     */
+    private static final String TRANSIENT = "transient";
+
+    private final Map<String, ConnectorBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private int poolSize = 5;
+
+    private int queueCapacity = 50;
+
+    public void setPoolSize(final int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    private int poolSize(final ConnInstance connInstance) {
+        return connInstance.getPoolConf() != null
+                && connInstance.getPoolConf().getMaxObjects() != null
+                && connInstance.getPoolConf().getMaxObjects() > 0
+                ? connInstance.getPoolConf().getMaxObjects()
+                : poolSize;
+    }
+
+    public ConnectorBulkhead get(final ConnInstance connInstance) {
+        String key = connInstance.getKey() == null ? TRANSIENT : connInstance.getKey();
+        int size = connInstance.getKey() == null ? poolSize : poolSize(connInstance);
+
+        ConnectorBulkhead bulkhead = bulkheads.computeIfAbsent(key, k -> new ConnectorBulkhead(
+                k,
+                connInstance.getKey() == null || connInstance.getDisplayName() == null
+                ? k : connInstance.getDisplayName(),
+                size,
+                queueCapacity));
+        // connector instance might have been updated in the meanwhile
+        if (bulkhead.getPoolSize() != size) {
+            bulkhead.resize(size);
+        }
+        return bulkhead;
+    }
+
+    public void remove(final String key) {
+        ConnectorBulkhead bulkhead = bulkheads.remove(key);
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
+    }
+
+    public List<SystemInfo.ConnectorStats> getStats() {
+        return bulkheads.values().stream().map(ConnectorBulkhead::getStats).collect(Collectors.toList());
+    }
+
+    @Override
+    public void destroy() {
+        bulkheads.values().forEach(ConnectorBulkhead::shutdown);
+        bulkheads.clear();
+    }
+}
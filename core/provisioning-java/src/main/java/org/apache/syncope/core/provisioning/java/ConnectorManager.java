@@ -56,6 +56,9 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private ConnectorBulkheads bulkheads;
+
     private EntityFactory entityFactory;
 
     @Override
@@ -136,7 +139,11 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
 
     @Override
     public Connector createConnector(final ConnInstance connInstance) {
-        Connector connector = new ConnectorFacadeProxy(connInstance);
+        return createConnector(connInstance, bulkheads.get(connInstance));
+    }
+
+    private Connector createConnector(final ConnInstance connInstance, final ConnectorBulkhead bulkhead) {
+        Connector connector = new ConnectorFacadeProxy(connInstance, bulkhead);
         ApplicationContextProvider.getBeanFactory().autowireBean(connector);
 
         return connector;
@@ -148,7 +155,8 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
                 resource.getConnector(),
                 resource.getConfOverride(),
                 resource.isOverrideCapabilities() ? resource.getCapabilitiesOverride() : null);
-        Connector connector = createConnector(connInstance);
+        // the override does not bear any key: all resources on the same connector instance share its bulkhead
+        Connector connector = createConnector(connInstance, bulkheads.get(resource.getConnector()));
         LOG.debug("Connector to be registered: {}", connector);
 
         String beanName = getBeanName(resource);
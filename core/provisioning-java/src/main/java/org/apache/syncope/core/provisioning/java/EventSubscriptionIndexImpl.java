@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.LoggerLevel;
+import org.apache.syncope.common.lib.types.LoggerType;
+import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.entity.Logger;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.provisioning.api.EventSubscriptionIndex;
+import org.apache.syncope.core.provisioning.api.event.EventSubscriptionsChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class EventSubscriptionIndexImpl implements EventSubscriptionIndex {
+
+    private static final String AUDIT_PREFIX = LoggerType.AUDIT.getPrefix() + ".";
+
+    private static class Subscriptions {
+
+        private final Set<String> audits = new HashSet<>();
+
+        private final Map<String, List<String>> notifications = new HashMap<>();
+
+    }
+
+    @Autowired
+    private LoggerDAO loggerDAO;
+
+    @Autowired
+    private NotificationDAO notificationDAO;
+
+    private final Map<String, Subscriptions> subscriptions = new ConcurrentHashMap<>();
+
+    private Subscriptions build() {
+        Subscriptions built = new Subscriptions();
+
+        for (Logger logger : loggerDAO.findAll(LoggerType.AUDIT)) {
+            if (logger.getLevel() == LoggerLevel.DEBUG && logger.getKey().startsWith(AUDIT_PREFIX)) {
+                built.audits.add(StringUtils.substringAfter(logger.getKey(), AUDIT_PREFIX));
+            }
+        }
+
+        for (Notification notification : notificationDAO.findAll()) {
+            if (notification.isActive()) {
+                notification.getEvents().forEach(event -> {
+                    List<String> keys = built.notifications.get(event);
+                    if (keys == null) {
+                        keys = new ArrayList<>();
+                        built.notifications.put(event, keys);
+                    }
+                    keys.add(notification.getKey());
+                });
+            }
+        }
+
+        return built;
+    }
+
+    private Subscriptions get() {
+        return subscriptions.computeIfAbsent(AuthContextUtils.getDomain(), domain -> build());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public boolean isAudited(final String event) {
+        return get().audits.contains(event);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> getNotifications(final String event) {
+        List<String> keys = get().notifications.get(event);
+        return keys == null ? Collections.emptyList() : Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public void invalidate(final String domain) {
+        subscriptions.remove(domain);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final EventSubscriptionsChangedEvent event) {
+        invalidate(event.getDomain());
+    }
+}
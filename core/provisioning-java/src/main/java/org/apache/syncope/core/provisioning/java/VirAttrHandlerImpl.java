@@ -127,6 +127,7 @@ public class VirAttrHandlerImpl implements VirAttrHandler {
                             if (attr != null) {
                                 VirAttrCacheValue virAttrCacheValue = new VirAttrCacheValue();
                                 virAttrCacheValue.setValues(attr.getValue());
+                                virAttrCacheValue.setResource(entry.getKey().getResource().getKey());
                                 virAttrCache.put(
                                         any.getType().getKey(), any.getKey(), schema.getKey(),
                                         virAttrCacheValue);
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.cache;
 
+import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
 
@@ -35,6 +36,11 @@ public class DisabledVirAttrCache implements VirAttrCache {
         // nothing to do
     }
 
+    @Override
+    public void expireAll(final String resource) {
+        // nothing to do
+    }
+
     @Override
     public VirAttrCacheValue get(final String type, final String key, final String schemaKey) {
         return null;
@@ -50,4 +56,9 @@ public class DisabledVirAttrCache implements VirAttrCache {
         // nothing to do
     }
 
+    @Override
+    public SystemInfo.VirAttrCacheStats getStats() {
+        return new SystemInfo.VirAttrCacheStats();
+    }
+
 }
@@ -19,19 +19,24 @@
 package org.apache.syncope.core.provisioning.java.cache;
 
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
 
 /**
- * In-memory (HashMap) virtual attribute value cache implementation.
+ * In-memory virtual attribute value cache implementation.
+ * Entries are spread over a fixed number of independently locked segments, each keeping its entries in access
+ * order, so that lookups on different segments do not contend and the least recently used entry can be evicted
+ * in constant time when a segment is full.
  */
 public class MemoryVirAttrCache implements VirAttrCache {
 
+    private static final int SEGMENTS = 16;
+
     /**
      * Elapsed time in seconds.
      */
@@ -42,14 +47,30 @@ public class MemoryVirAttrCache implements VirAttrCache {
      */
     protected int maxCacheSize;
 
-    /**
-     * Cache entries.
-     */
-    protected final Map<VirAttrCacheKey, VirAttrCacheValue> cache = new HashMap<>();
+    protected final Segment[] segments;
+
+    protected final LongAdder hits = new LongAdder();
+
+    protected final LongAdder misses = new LongAdder();
+
+    protected final LongAdder evictions = new LongAdder();
+
+    protected final LongAdder expirations = new LongAdder();
 
     public MemoryVirAttrCache(final int ttl, final int maxCacheSize) {
         this.ttl = ttl;
         this.maxCacheSize = maxCacheSize;
+
+        int segmentSize = Math.max(1, (maxCacheSize + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            this.segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    protected Segment segment(final VirAttrCacheKey key) {
+        int hash = key.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), SEGMENTS)];
     }
 
     @Override
@@ -59,58 +80,53 @@ public class MemoryVirAttrCache implements VirAttrCache {
             final String schemaKey,
             final VirAttrCacheValue value) {
 
-        synchronized (cache) {
-            // this operations (retrieve cache space and put entry on) have to be thread safe.
-            if (this.cache.size() >= this.maxCacheSize) {
-                free();
-            }
-
-            cache.put(new VirAttrCacheKey(type, key, schemaKey), value);
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segment(cacheKey);
+        synchronized (segment) {
+            segment.put(cacheKey, value);
         }
     }
 
     @Override
     public VirAttrCacheValue get(final String type, final String key, final String schemaKey) {
-        return cache.get(new VirAttrCacheKey(type, key, schemaKey));
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segment(cacheKey);
+
+        VirAttrCacheValue value;
+        synchronized (segment) {
+            value = segment.get(cacheKey);
+            if (value != null && !isValidEntry(value)) {
+                segment.remove(cacheKey);
+                expirations.increment();
+                value = null;
+            }
+        }
+
+        if (value == null) {
+            misses.increment();
+        } else {
+            value.setLastAccessDate(new Date());
+            hits.increment();
+        }
+        return value;
     }
 
     @Override
     public void expire(final String type, final String key, final String schemaKey) {
-        final VirAttrCacheValue value = cache.get(new VirAttrCacheKey(type, key, schemaKey));
-        if (isValidEntry(value)) {
-            synchronized (cache) {
-                value.forceExpiring();
-            }
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segment(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
         }
     }
 
-    /**
-     * Remove expired entries if exist. If required, one entry at least (the latest recently used) will be taken off.
-     * This method is not thread safe: the caller have to take care to synchronize the call.
-     */
-    private void free() {
-        final Set<VirAttrCacheKey> toBeRemoved = new HashSet<>();
-
-        Map.Entry<VirAttrCacheKey, VirAttrCacheValue> latest = null;
-
-        for (Map.Entry<VirAttrCacheKey, VirAttrCacheValue> entry : cache.entrySet()) {
-            if (isValidEntry(entry.getValue())) {
-                final Date date = entry.getValue().getLastAccessDate();
-                if (latest == null || latest.getValue().getLastAccessDate().after(date)) {
-                    latest = entry;
-                }
-            } else {
-                toBeRemoved.add(entry.getKey());
+    @Override
+    public void expireAll(final String resource) {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.values().removeIf(value -> resource.equals(value.getResource()));
             }
         }
-
-        if (toBeRemoved.isEmpty() && latest != null) {
-            // remove the oldest entry
-            cache.remove(latest.getKey());
-        } else {
-            // remove expired entries
-            cache.keySet().removeAll(toBeRemoved);
-        }
     }
 
     /**
@@ -121,7 +137,56 @@ public class MemoryVirAttrCache implements VirAttrCache {
      */
     @Override
     public boolean isValidEntry(final VirAttrCacheValue value) {
-        final Date expiringDate = new Date(value == null ? 0 : value.getCreationDate().getTime() + ttl * 1000);
+        final Date expiringDate = new Date(value == null ? 0 : value.getCreationDate().getTime() + ttl * 1000L);
         return expiringDate.after(new Date());
     }
+
+    @Override
+    public SystemInfo.VirAttrCacheStats getStats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        SystemInfo.VirAttrCacheStats stats = new SystemInfo.VirAttrCacheStats();
+        stats.setSize(size);
+        stats.setMaxSize(maxCacheSize);
+        stats.setHits(hits.sum());
+        stats.setMisses(misses.sum());
+        stats.setEvictions(evictions.sum());
+        stats.setExpirations(expirations.sum());
+        return stats;
+    }
+
+    /**
+     * Access-ordered map evicting its least recently used entry on insertion beyond capacity; not thread safe:
+     * callers have to synchronize on the segment.
+     */
+    protected class Segment extends LinkedHashMap<VirAttrCacheKey, VirAttrCacheValue> {
+
+        private static final long serialVersionUID = -3012471925468731573L;
+
+        private final int capacity;
+
+        public Segment(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<VirAttrCacheKey, VirAttrCacheValue> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+
+            if (isValidEntry(eldest.getValue())) {
+                evictions.increment();
+            } else {
+                expirations.increment();
+            }
+            return true;
+        }
+    }
 }
@@ -51,6 +51,7 @@ import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
 import org.apache.syncope.core.spring.BeanUtils;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.ConfDAO;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceHistoryConfDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -100,6 +101,9 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
     @Autowired
     private ConfDAO confDAO;
 
+    @Autowired
+    private ConnObjectShadowDAO connObjectShadowDAO;
+
     @Autowired
     private EntityFactory entityFactory;
 
@@ -154,6 +158,12 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
 
         resource.setRandomPwdIfNotProvided(resourceTO.isRandomPwdIfNotProvided());
 
+        if (resource.isTrustLocalState() && !resourceTO.isTrustLocalState()) {
+            // last propagated state is not going to be maintained any more
+            connObjectShadowDAO.deleteByResource(resource);
+        }
+        resource.setTrustLocalState(resourceTO.isTrustLocalState());
+
         // 1. add or update all (valid) provisions from TO
         resourceTO.getProvisions().forEach(provisionTO -> {
             AnyType anyType = anyTypeDAO.find(provisionTO.getAnyType());
@@ -563,6 +573,8 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
 
         resourceTO.setRandomPwdIfNotProvided(resource.isRandomPwdIfNotProvided());
 
+        resourceTO.setTrustLocalState(resource.isTrustLocalState());
+
         resourceTO.setCreateTraceLevel(resource.getCreateTraceLevel());
         resourceTO.setUpdateTraceLevel(resource.getUpdateTraceLevel());
         resourceTO.setDeleteTraceLevel(resource.getDeleteTraceLevel());
@@ -21,12 +21,20 @@ package org.apache.syncope.core.provisioning.java.jexl;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.JexlEngine;
@@ -36,6 +44,7 @@ import org.apache.commons.jexl3.JxltEngine;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
@@ -56,8 +65,55 @@ public final class JexlUtils {
 
     private static final String[] IGNORE_FIELDS = { "password", "clearPassword", "serialVersionUID", "class" };
 
+    /**
+     * Maximum number of parsed expressions (cached by the engine) and of parsed templates.
+     */
+    static final int CACHE_SIZE = 512;
+
     private static JexlEngine JEXL_ENGINE;
 
+    private static JxltEngine JXLT_ENGINE;
+
+    private static final Map<String, JxltEngine.Template> TEMPLATES = lruCache();
+
+    /**
+     * Bean property accessors, by class; computed once per class instead of introspecting each object.
+     */
+    private static final ClassValue<List<PropertyAccessor>> ACCESSORS = new ClassValue<List<PropertyAccessor>>() {
+
+        @Override
+        protected List<PropertyAccessor> computeValue(final Class<?> type) {
+            return buildAccessors(type);
+        }
+    };
+
+    private static final class PropertyAccessor {
+
+        private final String name;
+
+        private final boolean date;
+
+        private final MethodHandle getter;
+
+        PropertyAccessor(final String name, final boolean date, final MethodHandle getter) {
+            this.name = name;
+            this.date = date;
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        }
+    }
+
+    private static <V> Map<String, V> lruCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -2873489256382405112L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        });
+    }
+
     private static JexlEngine getEngine() {
         synchronized (LOG) {
             if (JEXL_ENGINE == null) {
@@ -65,7 +121,7 @@ public final class JexlUtils {
                         uberspect(new ClassFreeUberspect()).
                         loader(new EmptyClassLoader()).
                         namespaces(Collections.<String, Object>singletonMap("syncope", new SyncopeJexlFunctions())).
-                        cache(512).
+                        cache(CACHE_SIZE).
                         silent(false).
                         strict(false).
                         create();
@@ -79,10 +135,49 @@ public final class JexlUtils {
         return getEngine().createJxltEngine(false);
     }
 
+    private static JxltEngine getJxltEngine() {
+        synchronized (LOG) {
+            if (JXLT_ENGINE == null) {
+                JXLT_ENGINE = newJxltEngine();
+            }
+        }
+
+        return JXLT_ENGINE;
+    }
+
+    private static JexlExpression getExpression(final String expression) {
+        return getEngine().createExpression(expression);
+    }
+
+    /**
+     * @return source text of the templates currently cached
+     */
+    static Set<String> getCachedTemplates() {
+        synchronized (TEMPLATES) {
+            return new HashSet<>(TEMPLATES.keySet());
+        }
+    }
+
+    /**
+     * Evaluates the given JXLT template; parsed templates are cached, by source text.
+     *
+     * @param template template source
+     * @param jexlContext context
+     * @param writer where to write the evaluation result
+     */
+    public static void evaluateTemplate(final String template, final JexlContext jexlContext, final Writer writer) {
+        JxltEngine.Template jxltTemplate = TEMPLATES.get(template);
+        if (jxltTemplate == null) {
+            jxltTemplate = getJxltEngine().createTemplate(template);
+            TEMPLATES.put(template, jxltTemplate);
+        }
+        jxltTemplate.evaluate(jexlContext, writer);
+    }
+
     public static boolean isExpressionValid(final String expression) {
         boolean result;
         try {
-            getEngine().createExpression(expression);
+            getExpression(expression);
             result = true;
         } catch (JexlException e) {
             LOG.error("Invalid jexl expression: " + expression, e);
@@ -97,7 +192,7 @@ public final class JexlUtils {
 
         if (StringUtils.isNotBlank(expression) && jexlContext != null) {
             try {
-                JexlExpression jexlExpression = getEngine().createExpression(expression);
+                JexlExpression jexlExpression = getExpression(expression);
                 Object evaluated = jexlExpression.evaluate(jexlContext);
                 if (evaluated != null) {
                     result = evaluated.toString();
@@ -112,38 +207,37 @@ public final class JexlUtils {
         return result;
     }
 
-    public static JexlContext addFieldsToContext(final Object object, final JexlContext jexlContext) {
-        JexlContext context = jexlContext == null ? new MapContext() : jexlContext;
+    private static List<PropertyAccessor> buildAccessors(final Class<?> type) {
+        List<PropertyAccessor> accessors = new ArrayList<>();
 
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
         try {
-            for (PropertyDescriptor desc : Introspector.getBeanInfo(object.getClass()).getPropertyDescriptors()) {
-                Class<?> type = desc.getPropertyType();
+            for (PropertyDescriptor desc : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                Class<?> propertyType = desc.getPropertyType();
                 String fieldName = desc.getName();
 
-                if ((!fieldName.startsWith("pc"))
+                if (propertyType != null
+                        && (!fieldName.startsWith("pc"))
                         && (!ArrayUtils.contains(IGNORE_FIELDS, fieldName))
-                        && (!Iterable.class.isAssignableFrom(type))
-                        && (!type.isArray())) {
+                        && (!Iterable.class.isAssignableFrom(propertyType))
+                        && (!propertyType.isArray())) {
 
                     try {
-                        Object fieldValue;
+                        MethodHandle getter;
                         if (desc.getReadMethod() == null) {
-                            final Field field = object.getClass().getDeclaredField(fieldName);
-                            field.setAccessible(true);
-                            fieldValue = field.get(object);
+                            Field field = FieldUtils.getField(type, fieldName, true);
+                            if (field == null) {
+                                throw new NoSuchFieldException(fieldName);
+                            }
+                            getter = lookup.unreflectGetter(field);
                         } else {
-                            fieldValue = desc.getReadMethod().invoke(object);
+                            desc.getReadMethod().setAccessible(true);
+                            getter = lookup.unreflect(desc.getReadMethod());
                         }
 
-                        context.set(fieldName, fieldValue == null
-                                ? StringUtils.EMPTY
-                                : (type.equals(Date.class)
-                                ? FormatUtils.format((Date) fieldValue, false)
-                                : fieldValue));
-
-                        LOG.debug("Add field {} with value {}", fieldName, fieldValue);
-                    } catch (Exception iae) {
-                        LOG.error("Reading '{}' value error", fieldName, iae);
+                        accessors.add(new PropertyAccessor(fieldName, propertyType.equals(Date.class), getter));
+                    } catch (Exception e) {
+                        LOG.error("Reading '{}' value error", fieldName, e);
                     }
                 }
             }
@@ -151,6 +245,28 @@ public final class JexlUtils {
             LOG.error("Reading class attributes error", ie);
         }
 
+        return Collections.unmodifiableList(accessors);
+    }
+
+    public static JexlContext addFieldsToContext(final Object object, final JexlContext jexlContext) {
+        JexlContext context = jexlContext == null ? new MapContext() : jexlContext;
+
+        for (PropertyAccessor accessor : ACCESSORS.get(object.getClass())) {
+            try {
+                Object fieldValue = accessor.getter.invokeExact(object);
+
+                context.set(accessor.name, fieldValue == null
+                        ? StringUtils.EMPTY
+                        : (accessor.date
+                        ? FormatUtils.format((Date) fieldValue, false)
+                        : fieldValue));
+
+                LOG.debug("Add field {} with value {}", accessor.name, fieldValue);
+            } catch (Throwable t) {
+                LOG.error("Reading '{}' value error", accessor.name, t);
+            }
+        }
+
         if (object instanceof Any) {
             Any<?> any = (Any<?>) object;
             if (any.getRealm() != null) {
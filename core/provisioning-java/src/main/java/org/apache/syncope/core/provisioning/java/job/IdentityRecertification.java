@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
@@ -90,8 +91,11 @@ public class IdentityRecertification extends AbstractSchedTaskJobDelegate {
         }
 
         long now = System.currentTimeMillis();
-        for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-            for (User user : userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
+        String after = null;
+        List<User> users;
+        do {
+            users = userDAO.findAll(after, AnyDAO.DEFAULT_PAGE_SIZE);
+            for (User user : users) {
                 LOG.debug("Processing user: {}", user.getUsername());
 
                 if (StringUtils.isNotBlank(user.getWorkflowId()) && isToBeRecertified(user, now)) {
@@ -100,7 +104,11 @@ public class IdentityRecertification extends AbstractSchedTaskJobDelegate {
                     LOG.warn("Workflow for {} is null or empty", user);
                 }
             }
-        }
+
+            if (!users.isEmpty()) {
+                after = users.get(users.size() - 1).getKey();
+            }
+        } while (users.size() == AnyDAO.DEFAULT_PAGE_SIZE);
 
         return "SUCCESS";
     }
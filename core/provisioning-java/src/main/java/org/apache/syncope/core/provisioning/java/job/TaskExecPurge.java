@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.ConfDAO;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Enforces the retention policy configured for task executions, by count and / or by age, for each task type.
+ */
+public class TaskExecPurge extends AbstractSchedTaskJobDelegate {
+
+    @Autowired
+    private ConfDAO confDAO;
+
+    @Override
+    protected String doExecute(final boolean dryRun) throws JobExecutionException {
+        StringBuilder report = new StringBuilder();
+
+        for (TaskType type : TaskType.values()) {
+            String prefix = "tasks.exec.retention." + type.name().toLowerCase();
+            long count = confDAO.find(prefix + ".count", 0L);
+            long days = confDAO.find(prefix + ".days", 0L);
+
+            if (count > 0 || days > 0) {
+                int deleted = 0;
+                if (!dryRun) {
+                    if (count > 0) {
+                        deleted += taskExecDAO.deleteExceeding(type, count);
+                    }
+                    if (days > 0) {
+                        deleted += taskExecDAO.deleteEndedBefore(
+                                type, new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days)));
+                    }
+                }
+                LOG.debug("Deleted {} executions of {} tasks", deleted, type);
+
+                report.append(type).append(": ").append(deleted).append(" deleted\n");
+            }
+        }
+
+        return report.length() == 0
+                ? "No retention configured"
+                : report.toString();
+    }
+
+}
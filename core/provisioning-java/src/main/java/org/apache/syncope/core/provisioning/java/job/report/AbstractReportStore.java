@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.apache.syncope.core.provisioning.api.job.ReportStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base {@link ReportStore}, keeping each report execution result as ZIP content with a single XML entry.
+ */
+public abstract class AbstractReportStore implements ReportStore {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ReportStore.class);
+
+    @FunctionalInterface
+    protected interface ZipCompletion {
+
+        /**
+         * Invoked once the ZIP content has been fully written to the given temporary file, which is removed
+         * afterwards.
+         *
+         * @param temp temporary file holding the ZIP content
+         * @throws IOException if the ZIP content cannot be stored
+         */
+        void complete(Path temp) throws IOException;
+    }
+
+    private int compressionLevel = Deflater.BEST_COMPRESSION;
+
+    /**
+     * @param compressionLevel from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}, or
+     * {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public void setCompressionLevel(final int compressionLevel) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Opens a stream writing ZIP content to the given temporary file; when closed, the given completion is invoked.
+     *
+     * @param temp temporary file
+     * @param execKey report execution key
+     * @param completion what to do with the temporary file, once the ZIP content is fully written
+     * @return stream for writing the XML result
+     * @throws IOException if the stream cannot be opened
+     */
+    protected OutputStream zip(final Path temp, final String execKey, final ZipCompletion completion)
+            throws IOException {
+
+        ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+        zos.setLevel(compressionLevel);
+        zos.putNextEntry(new ZipEntry(execKey + ".xml"));
+
+        return new FilterOutputStream(zos) {
+
+            private boolean closed = false;
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+
+                try {
+                    zos.closeEntry();
+                    zos.close();
+
+                    completion.complete(temp);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        };
+    }
+
+    /**
+     * Opens the given ZIP content for reading its single entry, see {@link #zip(Path, String, ZipCompletion)}.
+     *
+     * @param in ZIP content
+     * @param source description of the ZIP content, for error reporting
+     * @return stream for reading the XML result
+     * @throws IOException if the ZIP content is empty or cannot be read
+     */
+    protected InputStream unzip(final InputStream in, final String source) throws IOException {
+        ZipInputStream zis = new ZipInputStream(in);
+        if (zis.getNextEntry() == null) {
+            zis.close();
+            throw new IOException("No content found in " + source);
+        }
+        return zis;
+    }
+}
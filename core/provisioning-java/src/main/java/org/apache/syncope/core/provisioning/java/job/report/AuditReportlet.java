@@ -18,8 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
-import java.util.List;
-import java.util.Map;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -40,6 +40,8 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(AuditReportletConf.class)
 public class AuditReportlet extends AbstractReportlet {
 
+    private static final int FETCH_SIZE = 100;
+
     @Autowired
     private DomainsHolder domainsHolder;
 
@@ -50,76 +52,85 @@ public class AuditReportlet extends AbstractReportlet {
     private void doExtractConf(final ContentHandler handler) throws SAXException {
         JdbcTemplate jdbcTemplate = new JdbcTemplate(datasource);
         jdbcTemplate.setMaxRows(conf.getSize());
-        List<Map<String, Object>> rows = jdbcTemplate.
-                queryForList("SELECT * FROM SYNCOPEAUDIT ORDER BY EVENT_DATE DESC");
+        jdbcTemplate.setFetchSize(Math.min(conf.getSize(), FETCH_SIZE));
 
         handler.startElement("", "", "events", null);
+        // rows are streamed to the handler one by one, rather than loaded all in memory
+        jdbcTemplate.query("SELECT * FROM SYNCOPEAUDIT ORDER BY EVENT_DATE DESC", (final ResultSet row) -> {
+            try {
+                doExtractEvent(handler, row);
+            } catch (SAXException e) {
+                throw new ReportException(e);
+            }
+        });
+        handler.endElement("", "", "events");
+    }
+
+    private void doExtractEvent(final ContentHandler handler, final ResultSet row)
+            throws SAXException, SQLException {
+
         AttributesImpl atts = new AttributesImpl();
-        for (Map<String, Object> row : rows) {
-            AuditEntry auditEntry = POJOHelper.deserialize(row.get("MESSAGE").toString(), AuditEntry.class);
+        AuditEntry auditEntry = POJOHelper.deserialize(row.getString("MESSAGE"), AuditEntry.class);
 
-            atts.clear();
-            if (StringUtils.isNotBlank(auditEntry.getWho())) {
-                atts.addAttribute("", "", "who", ReportXMLConst.XSD_STRING, auditEntry.getWho());
-            }
-            handler.startElement("", "", "event", atts);
+        if (StringUtils.isNotBlank(auditEntry.getWho())) {
+            atts.addAttribute("", "", "who", ReportXMLConst.XSD_STRING, auditEntry.getWho());
+        }
+        handler.startElement("", "", "event", atts);
 
-            atts.clear();
-            if (StringUtils.isNotBlank(auditEntry.getLogger().getCategory())) {
-                atts.addAttribute("", "", "category",
-                        ReportXMLConst.XSD_STRING, auditEntry.getLogger().getCategory());
-            }
-            if (StringUtils.isNotBlank(auditEntry.getLogger().getSubcategory())) {
-                atts.addAttribute("", "", "subcategory",
-                        ReportXMLConst.XSD_STRING, auditEntry.getLogger().getSubcategory());
-            }
-            if (StringUtils.isNotBlank(auditEntry.getLogger().getEvent())) {
-                atts.addAttribute("", "", "event",
-                        ReportXMLConst.XSD_STRING, auditEntry.getLogger().getEvent());
-            }
-            if (auditEntry.getLogger().getResult() != null) {
-                atts.addAttribute("", "", "result",
-                        ReportXMLConst.XSD_STRING, auditEntry.getLogger().getResult().name());
-            }
-            handler.startElement("", "", "logger", atts);
-            handler.endElement("", "", "logger");
-
-            if (auditEntry.getBefore() != null) {
-                char[] before = ToStringBuilder.reflectionToString(
-                        auditEntry.getBefore(), ToStringStyle.JSON_STYLE).toCharArray();
-                handler.startElement("", "", "before", null);
-                handler.characters(before, 0, before.length);
-                handler.endElement("", "", "before");
-            }
+        atts.clear();
+        if (StringUtils.isNotBlank(auditEntry.getLogger().getCategory())) {
+            atts.addAttribute("", "", "category",
+                    ReportXMLConst.XSD_STRING, auditEntry.getLogger().getCategory());
+        }
+        if (StringUtils.isNotBlank(auditEntry.getLogger().getSubcategory())) {
+            atts.addAttribute("", "", "subcategory",
+                    ReportXMLConst.XSD_STRING, auditEntry.getLogger().getSubcategory());
+        }
+        if (StringUtils.isNotBlank(auditEntry.getLogger().getEvent())) {
+            atts.addAttribute("", "", "event",
+                    ReportXMLConst.XSD_STRING, auditEntry.getLogger().getEvent());
+        }
+        if (auditEntry.getLogger().getResult() != null) {
+            atts.addAttribute("", "", "result",
+                    ReportXMLConst.XSD_STRING, auditEntry.getLogger().getResult().name());
+        }
+        handler.startElement("", "", "logger", atts);
+        handler.endElement("", "", "logger");
+
+        if (auditEntry.getBefore() != null) {
+            char[] before = ToStringBuilder.reflectionToString(
+                    auditEntry.getBefore(), ToStringStyle.JSON_STYLE).toCharArray();
+            handler.startElement("", "", "before", null);
+            handler.characters(before, 0, before.length);
+            handler.endElement("", "", "before");
+        }
 
-            if (auditEntry.getInput() != null) {
-                handler.startElement("", "", "inputs", null);
-                for (Object inputObj : auditEntry.getInput()) {
-                    char[] input = ToStringBuilder.reflectionToString(
-                            inputObj, ToStringStyle.JSON_STYLE).toCharArray();
-                    handler.startElement("", "", "input", null);
-                    handler.characters(input, 0, input.length);
-                    handler.endElement("", "", "input");
-                }
-                handler.endElement("", "", "inputs");
+        if (auditEntry.getInput() != null) {
+            handler.startElement("", "", "inputs", null);
+            for (Object inputObj : auditEntry.getInput()) {
+                char[] input = ToStringBuilder.reflectionToString(
+                        inputObj, ToStringStyle.JSON_STYLE).toCharArray();
+                handler.startElement("", "", "input", null);
+                handler.characters(input, 0, input.length);
+                handler.endElement("", "", "input");
             }
+            handler.endElement("", "", "inputs");
+        }
 
-            if (auditEntry.getOutput() != null) {
-                char[] output = ToStringBuilder.reflectionToString(
-                        auditEntry.getOutput(), ToStringStyle.JSON_STYLE).toCharArray();
-                handler.startElement("", "", "output", null);
-                handler.characters(output, 0, output.length);
-                handler.endElement("", "", "output");
-            }
+        if (auditEntry.getOutput() != null) {
+            char[] output = ToStringBuilder.reflectionToString(
+                    auditEntry.getOutput(), ToStringStyle.JSON_STYLE).toCharArray();
+            handler.startElement("", "", "output", null);
+            handler.characters(output, 0, output.length);
+            handler.endElement("", "", "output");
+        }
 
-            handler.startElement("", "", "throwable", null);
-            char[] throwable = row.get("THROWABLE").toString().toCharArray();
-            handler.characters(throwable, 0, throwable.length);
-            handler.endElement("", "", "throwable");
+        handler.startElement("", "", "throwable", null);
+        char[] throwable = StringUtils.defaultString(row.getString("THROWABLE")).toCharArray();
+        handler.characters(throwable, 0, throwable.length);
+        handler.endElement("", "", "throwable");
 
-            handler.endElement("", "", "event");
-        }
-        handler.endElement("", "", "events");
+        handler.endElement("", "", "event");
     }
 
     @Override
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * {@link org.apache.syncope.core.provisioning.api.job.ReportStore} keeping each report execution result as ZIP
+ * content (with a single XML entry) in the report execution itself, hence in the database of the current domain.
+ *
+ * The result is written to a temporary file while being generated, and moved to the database once complete; this
+ * must happen within the transaction where the report execution is saved.
+ */
+public class DBReportStore extends AbstractReportStore {
+
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
+    @Override
+    public OutputStream write(final String domain, final String execKey) throws IOException {
+        return zip(Files.createTempFile(execKey, ".tmp"), execKey, temp -> {
+            ReportExec exec = reportExecDAO.find(execKey);
+            if (exec == null) {
+                throw new FileNotFoundException("Report execution " + execKey);
+            }
+            exec.setExecResult(Files.readAllBytes(temp));
+            LOG.debug("Report execution result stored for {}", execKey);
+        });
+    }
+
+    @Override
+    public boolean exists(final String domain, final String execKey) {
+        ReportExec exec = reportExecDAO.find(execKey);
+        return exec != null && exec.getExecResult() != null;
+    }
+
+    @Override
+    public InputStream read(final String domain, final String execKey) throws IOException {
+        ReportExec exec = reportExecDAO.find(execKey);
+        if (exec == null || exec.getExecResult() == null) {
+            throw new FileNotFoundException("Report execution result for " + execKey);
+        }
+
+        return unzip(new ByteArrayInputStream(exec.getExecResult()), "report execution " + execKey);
+    }
+
+    @Override
+    public void delete(final String domain, final String execKey) {
+        ReportExec exec = reportExecDAO.find(execKey);
+        if (exec != null) {
+            exec.setExecResult(null);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link org.apache.syncope.core.provisioning.api.job.ReportStore} keeping each report execution result as ZIP file
+ * (with a single XML entry) under {@code <directory>/<domain>/}.
+ *
+ * With more than one Core node, the directory must be on storage shared by all of them, as report execution results
+ * are read by the node serving the export request, which is not necessarily the one running the report.
+ */
+public class FileSystemReportStore extends AbstractReportStore {
+
+    private static final String SUFFIX = ".zip";
+
+    private Path directory;
+
+    public void setDirectory(final String directory) {
+        if (StringUtils.isBlank(directory)) {
+            throw new IllegalArgumentException("Report store directory is required");
+        }
+        this.directory = Paths.get(directory);
+    }
+
+    private Path path(final String domain, final String execKey) {
+        if (directory == null) {
+            throw new IllegalStateException("Report store directory was not set");
+        }
+        return directory.resolve(domain).resolve(execKey + SUFFIX);
+    }
+
+    @Override
+    public OutputStream write(final String domain, final String execKey) throws IOException {
+        Path target = path(domain, execKey);
+        Files.createDirectories(target.getParent());
+
+        // write to a temporary file first, so that readers never see partial content
+        return zip(Files.createTempFile(target.getParent(), execKey, ".tmp"), execKey, temp -> {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Report execution result stored at {}", target);
+        });
+    }
+
+    @Override
+    public boolean exists(final String domain, final String execKey) {
+        return Files.isRegularFile(path(domain, execKey));
+    }
+
+    @Override
+    public InputStream read(final String domain, final String execKey) throws IOException {
+        Path source = path(domain, execKey);
+        if (!Files.isRegularFile(source)) {
+            throw new FileNotFoundException(source.toString());
+        }
+
+        return unzip(new BufferedInputStream(Files.newInputStream(source)), source.toString());
+    }
+
+    @Override
+    public void delete(final String domain, final String execKey) {
+        try {
+            Files.deleteIfExists(path(domain, execKey));
+        } catch (IOException e) {
+            LOG.error("While deleting result for report execution {}", execKey, e);
+        }
+    }
+}
@@ -39,24 +39,25 @@ import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportletConfClass;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
-import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
@@ -98,6 +99,12 @@ public class ReconciliationReportlet extends AbstractReportlet {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
+    @Autowired
+    private ConnObjectShadowDAO connObjectShadowDAO;
+
+    @Autowired
+    private ConnObjectUtils connObjectUtils;
+
     private ReconciliationReportletConf conf;
 
     private String getAnyElementName(final AnyTypeKind anyTypeKind) {
@@ -291,12 +298,20 @@ public class ReconciliationReportlet extends AbstractReportlet {
                         ? mappingManager.getConnObjectKeyValue(any, provision).get()
                         : StringUtils.EMPTY;
                 if (provision != null && connObjectKeyItem.isPresent() && StringUtils.isNotBlank(connObjectKeyValue)) {
-                    // 1. read from the underlying connector
-                    Connector connector = connFactory.getConnector(resource);
-                    ConnectorObject connectorObject = connector.getObject(
-                            provision.getObjectClass(),
-                            AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
-                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()));
+                    // 1. read from the last state propagated, if trusted, or from the underlying connector
+                    ConnObjectShadow shadow = resource.isTrustLocalState()
+                            ? connObjectShadowDAO.find(resource, provision.getObjectClass(), connObjectKeyValue)
+                            : null;
+                    ConnectorObject connectorObject;
+                    if (shadow == null) {
+                        Connector connector = connFactory.getConnector(resource);
+                        connectorObject = connector.getObject(
+                                provision.getObjectClass(),
+                                AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
+                                MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()));
+                    } else {
+                        connectorObject = connObjectUtils.getConnectorObject(shadow);
+                    }
 
                     if (connectorObject == null) {
                         // 2. not found on resource?
@@ -366,21 +381,34 @@ public class ReconciliationReportlet extends AbstractReportlet {
         }
     }
 
-    private void doExtract(
-            final ContentHandler handler, final int count, final SearchCond cond, final AnyTypeKind anyTypeKind)
+    private void doExtract(final ContentHandler handler, final SearchCond cond, final AnyTypeKind anyTypeKind)
             throws SAXException {
 
-        for (int page = 1; page <= (count / PAGE_SIZE) + 1; page++) {
-            List<AnyObject> anys = searchDAO.search(
-                    SyncopeConstants.FULL_ADMIN_REALMS,
-                    cond,
-                    page,
-                    PAGE_SIZE,
-                    Collections.<OrderByClause>emptyList(),
-                    anyTypeKind);
+        String after = null;
+        List<Any<?>> anys;
+        do {
+            anys = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS, cond, after, PAGE_SIZE, anyTypeKind);
 
             doExtract(handler, anys);
-        }
+
+            if (!anys.isEmpty()) {
+                after = anys.get(anys.size() - 1).getKey();
+            }
+        } while (anys.size() == PAGE_SIZE);
+    }
+
+    private void doExtract(final ContentHandler handler, final AnyDAO<?> anyDAO) throws SAXException {
+        String after = null;
+        List<? extends Any<?>> anys;
+        do {
+            anys = anyDAO.findAll(after, PAGE_SIZE);
+
+            doExtract(handler, anys);
+
+            if (!anys.isEmpty()) {
+                after = anys.get(anys.size() - 1).getKey();
+            }
+        } while (anys.size() == PAGE_SIZE);
     }
 
     @Override
@@ -397,9 +425,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(userDAO.count()));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                doExtract(handler, userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            doExtract(handler, userDAO);
         } else {
             SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
@@ -407,7 +433,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            doExtract(handler, count, cond, AnyTypeKind.USER);
+            doExtract(handler, cond, AnyTypeKind.USER);
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + "s");
 
@@ -416,9 +442,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(groupDAO.count()));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-            for (int page = 1; page <= (groupDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                doExtract(handler, groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            doExtract(handler, groupDAO);
         } else {
             SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
@@ -426,7 +450,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-            doExtract(handler, count, cond, AnyTypeKind.GROUP);
+            doExtract(handler, cond, AnyTypeKind.GROUP);
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s");
 
@@ -447,7 +471,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
                 atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
                 handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s", atts);
 
-                doExtract(handler, count, cond, AnyTypeKind.ANY_OBJECT);
+                doExtract(handler, cond, AnyTypeKind.ANY_OBJECT);
 
                 handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s");
             }
@@ -18,21 +18,18 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.zip.Deflater;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
-import org.apache.commons.io.IOUtils;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.apache.syncope.common.lib.types.ReportExecStatus;
+import org.apache.syncope.core.provisioning.api.job.ReportStore;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.ImplementationLookup;
@@ -42,6 +39,7 @@ import org.apache.syncope.core.persistence.api.dao.Reportlet;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +72,9 @@ public class ReportJobDelegate {
     @Autowired
     private ImplementationLookup implementationLookup;
 
+    @Autowired
+    private ReportStore reportStore;
+
     @Transactional
     public void execute(final String reportKey) throws JobExecutionException {
         Report report = reportDAO.find(reportKey);
@@ -99,9 +100,12 @@ public class ReportJobDelegate {
         // 2. define a SAX handler for generating result as XML
         TransformerHandler handler;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
-        zos.setLevel(Deflater.BEST_COMPRESSION);
+        OutputStream os;
+        try {
+            os = reportStore.write(AuthContextUtils.getDomain(), execution.getKey());
+        } catch (IOException e) {
+            throw new JobExecutionException("While opening report store for " + execution.getKey(), e, true);
+        }
         try {
             SAXTransformerFactory tFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
             tFactory.setFeature(javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -110,12 +114,15 @@ public class ReportJobDelegate {
             serializer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
             serializer.setOutputProperty(OutputKeys.INDENT, "yes");
 
-            // a single ZipEntry in the ZipOutputStream
-            zos.putNextEntry(new ZipEntry(report.getName()));
-
-            // streaming SAX handler in a compressed byte array stream
-            handler.setResult(new StreamResult(zos));
+            // streaming SAX handler straight to the report store
+            handler.setResult(new StreamResult(os));
         } catch (Exception e) {
+            try {
+                os.close();
+            } catch (IOException ioe) {
+                LOG.error("While closing report store stream", ioe);
+            }
+            reportStore.delete(AuthContextUtils.getDomain(), execution.getKey());
             throw new JobExecutionException("While configuring for SAX generation", e, true);
         }
 
@@ -182,14 +189,17 @@ public class ReportJobDelegate {
             throw new JobExecutionException(e, true);
         } finally {
             try {
-                zos.closeEntry();
-                IOUtils.closeQuietly(zos);
-                IOUtils.closeQuietly(baos);
+                os.close();
             } catch (IOException e) {
                 LOG.error("While closing StreamResult's backend", e);
+
+                execution.setStatus(ReportExecStatus.FAILURE);
+                reportExecutionMessage.append(ExceptionUtils2.getFullStackTrace(e));
+            }
+            if (!ReportExecStatus.SUCCESS.name().equals(execution.getStatus())) {
+                reportStore.delete(AuthContextUtils.getDomain(), execution.getKey());
             }
 
-            execution.setExecResult(baos.toByteArray());
             execution.setMessage(reportExecutionMessage.toString());
             execution.setEnd(new Date());
             reportExecDAO.save(execution);
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.util.zip.Deflater;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.provisioning.api.job.ReportStore;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+
+/**
+ * Provides {@link FileSystemReportStore} when a directory is configured, {@link DBReportStore} otherwise.
+ */
+public class ReportStoreFactoryBean implements FactoryBean<ReportStore> {
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    private String directory;
+
+    private int compressionLevel = Deflater.BEST_COMPRESSION;
+
+    private ReportStore reportStore;
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    public void setCompressionLevel(final int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public synchronized ReportStore getObject() {
+        if (reportStore == null) {
+            AbstractReportStore store;
+            if (StringUtils.isBlank(directory)) {
+                store = new DBReportStore();
+                beanFactory.autowireBean(store);
+            } else {
+                FileSystemReportStore fsStore = new FileSystemReportStore();
+                fsStore.setDirectory(directory);
+                store = fsStore;
+            }
+            store.setCompressionLevel(compressionLevel);
+            reportStore = store;
+        }
+        return reportStore;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return ReportStore.class;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+}
@@ -68,6 +68,7 @@ import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.EventSubscriptionIndex;
 import org.apache.syncope.core.provisioning.java.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
@@ -100,6 +101,9 @@ public class NotificationManagerImpl implements NotificationManager {
     @Autowired
     private NotificationDAO notificationDAO;
 
+    @Autowired
+    private EventSubscriptionIndex eventSubscriptionIndex;
+
     /**
      * Configuration DAO.
      */
@@ -249,9 +253,7 @@ public class NotificationManagerImpl implements NotificationManager {
 
     private String evaluate(final String template, final Map<String, Object> jexlVars) {
         StringWriter writer = new StringWriter();
-        JexlUtils.newJxltEngine().
-                createTemplate(template).
-                evaluate(new MapContext(jexlVars), writer);
+        JexlUtils.evaluateTemplate(template, new MapContext(jexlVars), writer);
         return writer.toString();
     }
 
@@ -262,12 +264,10 @@ public class NotificationManagerImpl implements NotificationManager {
             final String subcategory,
             final String event) {
 
-        final String successEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, Result.SUCCESS);
-        final String failureEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, Result.FAILURE);
-        return notificationDAO.findAll().stream().
-                anyMatch(notification -> notification.isActive()
-                && (notification.getEvents().contains(successEvent)
-                || notification.getEvents().contains(failureEvent)));
+        return !eventSubscriptionIndex.getNotifications(
+                AuditLoggerName.buildEvent(type, category, subcategory, event, Result.SUCCESS)).isEmpty()
+                || !eventSubscriptionIndex.getNotifications(
+                        AuditLoggerName.buildEvent(type, category, subcategory, event, Result.FAILURE)).isEmpty();
     }
 
     @Override
@@ -294,6 +294,13 @@ public class NotificationManagerImpl implements NotificationManager {
             final Object output,
             final Object... input) {
 
+        String currentEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, condition);
+        List<String> notificationKeys = eventSubscriptionIndex.getNotifications(currentEvent);
+        if (notificationKeys.isEmpty()) {
+            LOG.debug("No notifications found for event {}", currentEvent);
+            return new ArrayList<>();
+        }
+
         Any<?> any = null;
 
         if (before instanceof UserTO) {
@@ -330,7 +337,13 @@ public class NotificationManagerImpl implements NotificationManager {
         LOG.debug("Search notification for [{}]{}", anyType, any);
 
         List<NotificationTask> notifications = new ArrayList<>();
-        for (Notification notification : notificationDAO.findAll()) {
+        for (String notificationKey : notificationKeys) {
+            Notification notification = notificationDAO.find(notificationKey);
+            if (notification == null) {
+                LOG.debug("Notification {} not found, task will not be created", notificationKey);
+                continue;
+            }
+
             if (LOG.isDebugEnabled()) {
                 notification.getAbouts().forEach(about -> {
                     LOG.debug("Notification about {} defined: {}", about.getAnyType(), about.get());
@@ -338,7 +351,6 @@ public class NotificationManagerImpl implements NotificationManager {
             }
 
             if (notification.isActive()) {
-                String currentEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, condition);
                 if (!notification.getEvents().contains(currentEvent)) {
                     LOG.debug("No events found about {}", any);
                 } else if (anyType == null || any == null
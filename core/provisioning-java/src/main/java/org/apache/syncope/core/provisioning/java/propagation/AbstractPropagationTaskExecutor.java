@@ -22,9 +22,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.collections.IteratorChain;
@@ -35,6 +37,7 @@ import org.apache.syncope.common.lib.types.AuditElements.Result;
 import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -53,7 +56,9 @@ import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.Item;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
@@ -65,7 +70,9 @@ import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.identityconnectors.framework.common.exceptions.AlreadyExistsException;
 import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.exceptions.UnknownUidException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.AttributeUtil;
@@ -73,6 +80,7 @@ import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationalAttributes;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -127,6 +135,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
     @Autowired
     protected VirSchemaDAO virSchemaDAO;
 
+    @Autowired
+    protected ConnObjectShadowDAO connObjectShadowDAO;
+
     /**
      * Notification Manager.
      */
@@ -356,17 +367,33 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         Uid uid = null;
         Connector connector = null;
         Result result;
+        boolean localBeforeObj = false;
+        ConnObjectShadow shadow = null;
         try {
             provision = task.getResource().getProvision(new ObjectClass(task.getObjectClassName())).orElse(null);
             orgUnit = task.getResource().getOrgUnit();
             connector = connFactory.getConnector(task.getResource());
 
-            // Try to read remote object BEFORE any actual operation
-            beforeObj = provision == null && orgUnit == null
-                    ? null
-                    : orgUnit == null
-                            ? getRemoteObject(task, connector, provision, false)
-                            : getRemoteObject(task, connector, orgUnit, false);
+            if (task.getResource().isTrustLocalState() && (provision != null || orgUnit != null)) {
+                // Try to figure out the remote object from local state, without any connector round trip
+                shadow = getShadow(task);
+                if (shadow != null) {
+                    beforeObj = connObjectUtils.getConnectorObject(shadow);
+                } else if (task.getOperation() != ResourceOperation.CREATE) {
+                    beforeObj = orgUnit == null
+                            ? getLocalObject(task, MappingUtils.getConnObjectKeyItem(provision))
+                            : getLocalObject(task, orgUnit.getConnObjectKeyItem());
+                }
+                localBeforeObj = beforeObj != null || task.getOperation() == ResourceOperation.CREATE;
+            }
+            if (!localBeforeObj) {
+                // Try to read remote object BEFORE any actual operation
+                beforeObj = provision == null && orgUnit == null
+                        ? null
+                        : orgUnit == null
+                                ? getRemoteObject(task, connector, provision, false)
+                                : getRemoteObject(task, connector, orgUnit, false);
+            }
 
             for (PropagationActions action : actions) {
                 action.before(task, beforeObj);
@@ -375,16 +402,51 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             switch (task.getOperation()) {
                 case CREATE:
                 case UPDATE:
-                    uid = createOrUpdate(task, beforeObj, connector, propagationAttempted);
+                    if (shadow != null
+                            && AttributeUtil.find(OperationalAttributes.PASSWORD_NAME, task.getAttributes()) == null
+                            && shadow.isAlignedWith(getShadowAttributes(task.getAttributes()))) {
+
+                        LOG.debug("Don't need to propagate anything: {} is aligned with last propagation to {}",
+                                task.getConnObjectKey(), resource);
+                        uid = beforeObj.getUid();
+                        break;
+                    }
+
+                    try {
+                        uid = createOrUpdate(task, beforeObj, connector, propagationAttempted);
+                    } catch (AlreadyExistsException | UnknownUidException e) {
+                        if (!localBeforeObj) {
+                            throw e;
+                        }
+
+                        LOG.debug("Local state is not aligned with {}, reading remote object", resource, e);
+                        beforeObj = orgUnit == null
+                                ? getRemoteObject(task, connector, provision, false)
+                                : getRemoteObject(task, connector, orgUnit, false);
+                        uid = createOrUpdate(task, beforeObj, connector, propagationAttempted);
+                    }
                     break;
 
                 case DELETE:
-                    uid = delete(task, beforeObj, connector, propagationAttempted);
+                    try {
+                        uid = delete(task, beforeObj, connector, propagationAttempted);
+                    } catch (UnknownUidException e) {
+                        if (!localBeforeObj) {
+                            throw e;
+                        }
+
+                        LOG.debug("{} not found on external resource: ignoring delete", task.getConnObjectKey());
+                        deleteShadow(task);
+                    }
                     break;
 
                 default:
             }
 
+            if (task.getResource().isTrustLocalState() && propagationAttempted[0]) {
+                updateShadow(task, shadow, uid);
+            }
+
             execution.setStatus(propagationAttempted[0]
                     ? PropagationTaskExecStatus.SUCCESS.name()
                     : PropagationTaskExecStatus.NOT_ATTEMPTED.name());
@@ -419,15 +481,23 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
             propagationAttempted[0] = true;
 
+            if (task.getResource().isTrustLocalState()) {
+                // remote state is unknown after failure: next propagation will need to read it
+                deleteShadow(task);
+            }
+
             actions.forEach(action -> {
                 action.onError(task, execution, e);
             });
         } finally {
-            // Try to read remote object AFTER any actual operation
-            if (connector != null) {
-                if (uid != null) {
-                    task.setConnObjectKey(uid.getUidValue());
-                }
+            // Try to read remote object AFTER any actual operation, unless local state is trusted and no failure
+            // was reported
+            boolean failed = !PropagationTaskExecStatus.SUCCESS.name().equals(execution.getStatus())
+                    && !PropagationTaskExecStatus.NOT_ATTEMPTED.name().equals(execution.getStatus());
+            if (uid != null) {
+                task.setConnObjectKey(uid.getUidValue());
+            }
+            if (connector != null && (failed || !task.getResource().isTrustLocalState())) {
                 try {
                     afterObj = provision == null && orgUnit == null
                             ? null
@@ -565,6 +635,113 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         return result;
     }
 
+    /**
+     * Get the attributes to be recorded as last propagated, e.g. without any operational or password attribute.
+     *
+     * @param attributes propagated attributes
+     * @return attributes to be recorded as last propagated
+     */
+    protected Set<Attribute> getShadowAttributes(final Set<Attribute> attributes) {
+        return attributes.stream().
+                filter(attr -> !Uid.NAME.equals(attr.getName())
+                && !OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                && !MANDATORY_MISSING_ATTR_NAME.equals(attr.getName())
+                && !MANDATORY_NULL_OR_EMPTY_ATTR_NAME.equals(attr.getName())).
+                collect(Collectors.toSet());
+    }
+
+    /**
+     * Get the last state propagated for the connector object of given task, if any.
+     *
+     * @param task current propagation task.
+     * @return last state propagated, or {@code NULL} if not available
+     */
+    protected ConnObjectShadow getShadow(final PropagationTask task) {
+        String connObjectKey = task.getOldConnObjectKey() == null
+                ? task.getConnObjectKey()
+                : task.getOldConnObjectKey();
+
+        return connObjectKey == null
+                ? null
+                : connObjectShadowDAO.find(
+                        task.getResource(), new ObjectClass(task.getObjectClassName()), connObjectKey);
+    }
+
+    /**
+     * Record the state just propagated for the connector object of given task.
+     *
+     * @param task current propagation task.
+     * @param shadow last state propagated, if any
+     * @param uid connector object uid as returned by the connector
+     */
+    protected void updateShadow(final PropagationTask task, final ConnObjectShadow shadow, final Uid uid) {
+        if (task.getOperation() == ResourceOperation.DELETE || uid == null || task.getConnObjectKey() == null) {
+            // either deleted or not enough information to know what is on the resource
+            deleteShadow(task);
+            return;
+        }
+
+        ConnObjectShadow current = shadow;
+        Map<String, Attribute> attrs = new HashMap<>();
+        if (current == null) {
+            current = entityFactory.newEntity(ConnObjectShadow.class);
+            current.setResource(task.getResource());
+            current.setObjectClass(new ObjectClass(task.getObjectClassName()));
+        } else {
+            current.getAttributes().forEach(attr -> attrs.put(attr.getName(), attr));
+        }
+        getShadowAttributes(task.getAttributes()).forEach(attr -> attrs.put(attr.getName(), attr));
+
+        current.setConnObjectKey(task.getConnObjectKey());
+        current.setUid(uid.getUidValue());
+        current.setAttributes(new HashSet<>(attrs.values()));
+        current.setLastPropagation(new Date());
+        connObjectShadowDAO.save(current);
+    }
+
+    /**
+     * Forget any state propagated for the connector object of given task.
+     *
+     * @param task current propagation task.
+     */
+    protected void deleteShadow(final PropagationTask task) {
+        ObjectClass objectClass = new ObjectClass(task.getObjectClassName());
+        if (task.getOldConnObjectKey() != null) {
+            connObjectShadowDAO.delete(task.getResource(), objectClass, task.getOldConnObjectKey());
+        }
+        if (task.getConnObjectKey() != null) {
+            connObjectShadowDAO.delete(task.getResource(), objectClass, task.getConnObjectKey());
+        }
+    }
+
+    /**
+     * Build the remote object for given task from local state only, e.g. without any connector round trip: this is
+     * only possible when the connector object key is mapped onto the connector's {@link Uid}.
+     *
+     * @param task current propagation task.
+     * @param connObjectKeyItem connector object key mapping item.
+     * @return remote connector object as expected from local state, or {@code NULL} if it cannot be built.
+     */
+    protected ConnectorObject getLocalObject(
+            final PropagationTask task,
+            final Optional<? extends Item> connObjectKeyItem) {
+
+        String connObjectKey = task.getOldConnObjectKey() == null
+                ? task.getConnObjectKey()
+                : task.getOldConnObjectKey();
+        if (connObjectKey == null || !connObjectKeyItem.isPresent()
+                || !Uid.NAME.equals(connObjectKeyItem.get().getExtAttrName())) {
+
+            return null;
+        }
+
+        return new ConnectorObjectBuilder().
+                setObjectClass(new ObjectClass(task.getObjectClassName())).
+                setUid(connObjectKey).
+                setName(connObjectKey).
+                build();
+    }
+
     /**
      * Get remote object for given task.
      *
@@ -606,6 +783,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 } else {
                     VirAttrCacheValue cacheValue = new VirAttrCacheValue();
                     cacheValue.setValues(attr.getValue());
+                    cacheValue.setResource(task.getResource().getKey());
                     virAttrCache.put(task.getAnyType(), task.getEntityKey(), item.getIntAttrName(), cacheValue);
                 }
             }
@@ -35,6 +35,7 @@ import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
@@ -54,6 +55,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
+import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
@@ -83,9 +85,15 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected VirAttrCache virAttrCache;
 
+    @Autowired
+    protected ConnObjectShadowDAO connObjectShadowDAO;
+
     protected SyncopePullExecutor executor;
 
-    protected Result latestResult;
+    /**
+     * Result of the latest delta handled by the current thread.
+     */
+    protected final ThreadLocal<Result> latestResult = new ThreadLocal<>();
 
     protected abstract String getName(AnyTO anyTO);
 
@@ -137,11 +145,8 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
                 return true;
             }
 
-            boolean shouldContinue;
-            synchronized (this) {
-                shouldContinue = latestResult == Result.SUCCESS;
-                this.latestResult = null;
-            }
+            boolean shouldContinue = latestResult.get() == Result.SUCCESS;
+            latestResult.remove();
             if (shouldContinue) {
                 executor.setLatestSyncToken(delta.getObjectClass(), delta.getToken());
             }
@@ -692,6 +697,25 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
         return result;
     }
 
+    /**
+     * Forget the last state propagated for the connector object in the given SyncDelta, as it was changed on the
+     * resource.
+     *
+     * @param delta returned by the underlying profile.getConnector()
+     * @param provision provisioning info
+     */
+    protected void forgetShadow(final SyncDelta delta, final Provision provision) {
+        MappingUtils.getConnObjectKeyItem(provision).ifPresent(connObjectKeyItem -> {
+            Attribute connObjectKey = delta.getObject().getAttributeByName(connObjectKeyItem.getExtAttrName());
+            if (connObjectKey != null && connObjectKey.getValue() != null) {
+                connObjectKey.getValue().stream().filter(value -> value != null).forEach(value -> {
+                    connObjectShadowDAO.delete(
+                            profile.getTask().getResource(), provision.getObjectClass(), value.toString());
+                });
+            }
+        });
+    }
+
     /**
      * Look into SyncDelta and take necessary profile.getActions() (create / update / delete) on any object(s).
      *
@@ -705,6 +729,10 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
         LOG.debug("Process {} for {} as {}",
                 delta.getDeltaType(), delta.getUid().getUidValue(), delta.getObject().getObjectClass());
 
+        if (profile.getTask().getResource().isTrustLocalState()) {
+            forgetShadow(delta, provision);
+        }
+
         String uid = delta.getPreviousUid() == null
                 ? delta.getUid().getUidValue()
                 : delta.getPreviousUid().getUidValue();
@@ -763,6 +791,7 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
                             } else {
                                 VirAttrCacheValue cacheValue = new VirAttrCacheValue();
                                 cacheValue.setValues(attr.getValue());
+                                cacheValue.setResource(provision.getResource().getKey());
                                 virAttrCache.put(
                                         provision.getAnyType().getKey(),
                                         anyKey,
@@ -822,9 +851,7 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
             final SyncDelta delta,
             final Object... furtherInput) {
 
-        synchronized (this) {
-            this.latestResult = result;
-        }
+        latestResult.set(result);
 
         notificationManager.createTasks(AuditElements.EventCategoryType.PULL,
                 getAnyUtils().getAnyTypeKind().name().toLowerCase(),
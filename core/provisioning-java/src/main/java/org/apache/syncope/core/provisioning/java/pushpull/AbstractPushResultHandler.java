@@ -37,6 +37,7 @@ import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningReport;
@@ -44,6 +45,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
 import org.apache.syncope.core.persistence.api.entity.resource.Item;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
@@ -56,6 +58,7 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.java.job.AfterHandlingJob;
+import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
@@ -87,6 +90,12 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected SchedulerFactoryBean scheduler;
 
+    @Autowired
+    protected ConnObjectShadowDAO connObjectShadowDAO;
+
+    @Autowired
+    protected ConnObjectUtils connObjectUtils;
+
     protected abstract String getName(Any<?> any);
 
     protected void reportPropagation(final ProvisioningReport result, final PropagationReporter reporter) {
@@ -217,6 +226,35 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         return obj;
     }
 
+    /**
+     * Get the connector object from the last state propagated, if the resource trusts local state and such state is
+     * available; read it from the resource otherwise.
+     *
+     * @param provision provision information
+     * @param connObjectKey connector object key attribute name
+     * @param connObjectKeyValue connector object key value
+     * @return connector object
+     */
+    protected ConnectorObject getLocalOrRemoteObject(
+            final Provision provision,
+            final String connObjectKey,
+            final String connObjectKeyValue) {
+
+        if (profile.getTask().getResource().isTrustLocalState()) {
+            ConnObjectShadow shadow = connObjectShadowDAO.find(
+                    profile.getTask().getResource(), provision.getObjectClass(), connObjectKeyValue);
+            if (shadow != null) {
+                return connObjectUtils.getConnectorObject(shadow);
+            }
+        }
+
+        return getRemoteObject(
+                provision.getObjectClass(),
+                connObjectKey,
+                connObjectKeyValue,
+                provision.getMapping().getItems().iterator());
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final String anyKey) {
@@ -266,11 +304,10 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         Optional<MappingItem> connObjectKey = MappingUtils.getConnObjectKeyItem(provision.get());
         Optional<String> connObjecKeyValue = mappingManager.getConnObjectKeyValue(any, provision.get());
 
-        ConnectorObject beforeObj = getRemoteObject(
-                provision.get().getObjectClass(),
+        ConnectorObject beforeObj = getLocalOrRemoteObject(
+                provision.get(),
                 connObjectKey.get().getExtAttrName(),
-                connObjecKeyValue.get(),
-                provision.get().getMapping().getItems().iterator());
+                connObjecKeyValue.get());
 
         Boolean status = profile.getTask().isSyncStatus() ? enabled : null;
 
@@ -435,11 +472,13 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                     result.setStatus(ProvisioningReport.Status.SUCCESS);
                 }
                 resultStatus = AuditElements.Result.SUCCESS;
-                output = getRemoteObject(
-                        provision.get().getObjectClass(),
-                        connObjectKey.get().getExtAttrName(),
-                        connObjecKeyValue.get(),
-                        provision.get().getMapping().getItems().iterator());
+                if (notificationsAvailable || auditRequested) {
+                    // read AFTER object only if needed by notifications or audit
+                    output = getLocalOrRemoteObject(
+                            provision.get(),
+                            connObjectKey.get().getExtAttrName(),
+                            connObjecKeyValue.get());
+                }
             } catch (IgnoreProvisionException e) {
                 throw e;
             } catch (Exception e) {
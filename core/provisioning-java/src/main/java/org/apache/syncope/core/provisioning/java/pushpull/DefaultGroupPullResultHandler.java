@@ -46,7 +46,7 @@ public class DefaultGroupPullResultHandler extends AbstractPullResultHandler imp
     @Autowired
     private GroupProvisioningManager groupProvisioningManager;
 
-    private final Map<String, String> groupOwnerMap = new HashMap<>();
+    private final Map<String, String> groupOwnerMap = Collections.synchronizedMap(new HashMap<>());
 
     @Override
     public Map<String, String> getGroupOwnerMap() {
@@ -56,6 +56,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.UserPullResultHandler;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 
 public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> implements SyncopePullExecutor {
@@ -267,6 +268,15 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         handler = ahandler;
                 }
 
+                // when parallelism is configured, reading from the connector is decoupled from handling
+                PullPipeline pipeline = pullTask.getParallelism() > 1
+                        ? new PullPipeline(handler, this, provision.getObjectClass(), pullTask.getParallelism(),
+                                "PullJob-" + pullTask.getKey() + "-")
+                        : null;
+                SyncResultsHandler resultsHandler = pipeline == null ? handler : pipeline;
+                if (pipeline != null) {
+                    handler.setPullExecutor(pipeline);
+                }
                 try {
                     Set<MappingItem> linkinMappingItems = new HashSet<>();
                     virSchemaDAO.findByProvision(provision).forEach(virSchema -> {
@@ -286,8 +296,11 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                             connector.sync(
                                     provision.getObjectClass(),
                                     provision.getSyncToken(),
-                                    handler,
+                                    resultsHandler,
                                     options);
+                            if (pipeline != null) {
+                                pipeline.close();
+                            }
 
                             if (!dryRun) {
                                 provision.setSyncToken(latestSyncTokens.get(provision.getObjectClass()));
@@ -303,19 +316,24 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                                     AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
                             connector.filteredReconciliation(provision.getObjectClass(),
                                     filterBuilder,
-                                    handler,
+                                    resultsHandler,
                                     options);
                             break;
 
                         case FULL_RECONCILIATION:
                         default:
                             connector.fullReconciliation(provision.getObjectClass(),
-                                    handler,
+                                    resultsHandler,
                                     options);
                             break;
                     }
                 } catch (Throwable t) {
                     throw new JobExecutionException("While pulling from connector", t);
+                } finally {
+                    if (pipeline != null) {
+                        pipeline.close();
+                        handler.setPullExecutor(this);
+                    }
                 }
             }
         }
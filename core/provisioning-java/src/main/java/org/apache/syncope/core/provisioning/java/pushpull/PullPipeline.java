@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Decouples reading from the connector and handling what was read: deltas are queued towards a bounded pool of
+ * workers, partitioned by connector object uid so that changes to the same object are handled in order.
+ * The latest sync token is advanced only up to the last delta for which all previous deltas were handled.
+ */
+public class PullPipeline implements SyncResultsHandler, SyncopePullExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PullPipeline.class);
+
+    /**
+     * How many deltas can be waiting for each worker before reading from the connector is blocked.
+     */
+    public static final int QUEUE_CAPACITY = 100;
+
+    private static final class Entry {
+
+        private final long seq;
+
+        private final SyncDelta delta;
+
+        private Entry(final long seq, final SyncDelta delta) {
+            this.seq = seq;
+            this.delta = delta;
+        }
+    }
+
+    private static final Entry END = new Entry(-1, null);
+
+    private final SyncopePullResultHandler handler;
+
+    private final SyncopePullExecutor executor;
+
+    private final ObjectClass objectClass;
+
+    private final List<BlockingQueue<Entry>> queues = new ArrayList<>();
+
+    private final ExecutorService workers;
+
+    private final List<Future<?>> futures = new ArrayList<>();
+
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+
+    private final Map<Long, SyncToken> handled = new HashMap<>();
+
+    private long seq = 0;
+
+    private long nextToCommit = 0;
+
+    private SyncToken latestSyncToken;
+
+    private boolean closed = false;
+
+    public PullPipeline(
+            final SyncopePullResultHandler handler,
+            final SyncopePullExecutor executor,
+            final ObjectClass objectClass,
+            final int parallelism,
+            final String threadNamePrefix) {
+
+        this.handler = handler;
+        this.executor = executor;
+        this.objectClass = objectClass;
+
+        this.workers = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory(threadNamePrefix));
+
+        String domain = AuthContextUtils.getDomain();
+        for (int i = 0; i < parallelism; i++) {
+            BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            queues.add(queue);
+            futures.add(workers.submit(() -> AuthContextUtils.execWithAuthContext(domain, () -> {
+                work(queue);
+                return null;
+            })));
+        }
+    }
+
+    private void work(final BlockingQueue<Entry> queue) {
+        try {
+            for (Entry entry = queue.take(); entry != END; entry = queue.take()) {
+                boolean success = false;
+                // once any delta failed, just drain the queue: reading from the connector is going to stop
+                if (!failed.get()) {
+                    try {
+                        success = handler.handle(entry.delta);
+                    } catch (RuntimeException e) {
+                        LOG.error("While handling {}", entry.delta, e);
+                    }
+                    if (!success) {
+                        failed.set(true);
+                    }
+                }
+                if (success) {
+                    handled(entry);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+        }
+    }
+
+    private void handled(final Entry entry) {
+        synchronized (handled) {
+            handled.put(entry.seq, entry.delta.getToken());
+            while (handled.containsKey(nextToCommit)) {
+                SyncToken token = handled.remove(nextToCommit);
+                if (token != null) {
+                    latestSyncToken = token;
+                }
+                nextToCommit++;
+            }
+        }
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta) {
+        if (failed.get()) {
+            return false;
+        }
+
+        int partition = Math.floorMod(delta.getUid().getUidValue().hashCode(), queues.size());
+        try {
+            queues.get(partition).put(new Entry(seq++, delta));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Sync tokens are tracked by the pipeline, as deltas are handled out of order: nothing to do here.
+     *
+     * @param objectClass object class
+     * @param latestSyncToken latest sync token
+     */
+    @Override
+    public void setLatestSyncToken(final ObjectClass objectClass, final SyncToken latestSyncToken) {
+        // ignore
+    }
+
+    /**
+     * Waits for all queued deltas to be handled, then reports the latest sync token which can be safely committed.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            for (BlockingQueue<Entry> queue : queues) {
+                queue.put(END);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+        } catch (ExecutionException e) {
+            LOG.error("While waiting for pull workers", e);
+            failed.set(true);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        synchronized (handled) {
+            if (latestSyncToken != null) {
+                executor.setLatestSyncToken(objectClass, latestSyncToken);
+            }
+        }
+    }
+}
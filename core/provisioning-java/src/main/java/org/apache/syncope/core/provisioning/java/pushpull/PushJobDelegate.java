@@ -21,7 +21,15 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
@@ -32,7 +40,6 @@ import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
-import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -48,9 +55,11 @@ import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.RealmPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
 
@@ -88,6 +97,13 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
 
     protected GroupPushResultHandler ghandler;
 
+    /**
+     * Bounded pool of workers, only available when push task's parallelism is greater than 1.
+     */
+    protected ExecutorService workers;
+
+    protected final List<Future<?>> partitions = new ArrayList<>();
+
     protected AnyDAO<?> getAnyDAO(final AnyTypeKind anyTypeKind) {
         AnyDAO<?> result;
         switch (anyTypeKind) {
@@ -113,13 +129,65 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
             final ExternalResource resource)
             throws JobExecutionException {
 
-        for (Any<?> any : anys) {
-            try {
-                handler.handle(any.getKey());
-            } catch (Exception e) {
-                LOG.warn("Failure pushing '{}' on '{}'", any, resource, e);
-                throw new JobExecutionException("While pushing " + any + " on " + resource, e);
+        if (workers == null) {
+            for (Any<?> any : anys) {
+                try {
+                    handler.handle(any.getKey());
+                } catch (Exception e) {
+                    LOG.warn("Failure pushing '{}' on '{}'", any, resource, e);
+                    throw new JobExecutionException("While pushing " + any + " on " + resource, e);
+                }
             }
+            return;
+        }
+
+        // fail fast if any partition already completed with errors
+        for (Iterator<Future<?>> itor = partitions.iterator(); itor.hasNext();) {
+            Future<?> partition = itor.next();
+            if (partition.isDone()) {
+                awaitPartition(partition, resource);
+                itor.remove();
+            }
+        }
+
+        // each partition is pushed by a worker, within its own authentication context; every any is then handled
+        // within its own transaction by the handler
+        List<String> keys = anys.stream().map(Any::getKey).collect(Collectors.toList());
+        String domain = AuthContextUtils.getDomain();
+        partitions.add(workers.submit(() -> AuthContextUtils.execWithAuthContext(domain, () -> {
+            keys.forEach(key -> {
+                try {
+                    handler.handle(key);
+                } catch (RuntimeException e) {
+                    LOG.warn("Failure pushing '{}' on '{}'", key, resource, e);
+                    throw e;
+                }
+            });
+            return null;
+        })));
+    }
+
+    protected void awaitPartition(final Future<?> partition, final ExternalResource resource)
+            throws JobExecutionException {
+
+        try {
+            partition.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("Interrupted while pushing on " + resource, e);
+        } catch (ExecutionException e) {
+            partitions.forEach(other -> other.cancel(true));
+            throw new JobExecutionException("While pushing on " + resource, e.getCause());
+        }
+    }
+
+    protected void awaitPartitions(final ExternalResource resource) throws JobExecutionException {
+        try {
+            for (Future<?> partition : partitions) {
+                awaitPartition(partition, resource);
+            }
+        } finally {
+            partitions.clear();
         }
     }
 
@@ -187,6 +255,40 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
             }
         }
 
+        if (pushTask.getParallelism() > 1) {
+            // bounded queue: when all workers are busy and the queue is full, the current thread pushes
+            workers = new ThreadPoolExecutor(
+                    pushTask.getParallelism(),
+                    pushTask.getParallelism(),
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(pushTask.getParallelism()),
+                    new CustomizableThreadFactory("PushJob-" + pushTask.getKey() + "-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        try {
+            doPush(pushTask);
+        } finally {
+            if (workers != null) {
+                workers.shutdownNow();
+                workers = null;
+            }
+            partitions.clear();
+        }
+
+        if (!profile.isDryRun()) {
+            for (PushActions action : actions) {
+                action.afterAll(profile);
+            }
+        }
+
+        String result = createReport(profile.getResults(), pushTask.getResource(), dryRun);
+        LOG.debug("Push result: {}", result);
+        return result;
+    }
+
+    protected void doPush(final PushTask pushTask) throws JobExecutionException {
+
         // First realms...
         if (pushTask.getResource().getOrgUnit() != null) {
             rhandler = buildRealmHandler();
@@ -235,31 +337,25 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
                 SearchCond cond = StringUtils.isBlank(filter)
                         ? anyDAO.getAllMatchingCond()
                         : SearchCondConverter.convert(filter);
-                int count = searchDAO.count(
-                        Collections.singleton(profile.getTask().getSourceRealm().getFullPath()),
-                        cond,
-                        provision.getAnyType().getKind());
-                for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    List<? extends Any<?>> anys = searchDAO.search(
+                String after = null;
+                List<? extends Any<?>> anys;
+                do {
+                    anys = searchDAO.search(
                             Collections.singleton(profile.getTask().getSourceRealm().getFullPath()),
                             cond,
-                            page,
+                            after,
                             AnyDAO.DEFAULT_PAGE_SIZE,
-                            Collections.<OrderByClause>emptyList(),
                             provision.getAnyType().getKind());
                     doHandle(anys, handler, pushTask.getResource());
-                }
-            }
-        }
 
-        if (!profile.isDryRun()) {
-            for (PushActions action : actions) {
-                action.afterAll(profile);
+                    if (!anys.isEmpty()) {
+                        after = anys.get(anys.size() - 1).getKey();
+                    }
+                } while (anys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+
+                // complete current any type before moving to the next, as later ones might depend on it
+                awaitPartitions(pushTask.getResource());
             }
         }
-
-        String result = createReport(profile.getResults(), pushTask.getResource(), dryRun);
-        LOG.debug("Push result: {}", result);
-        return result;
     }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.java.utils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.AnyOperations;
 import org.apache.syncope.common.lib.patch.AnyPatch;
@@ -40,6 +41,7 @@ import org.apache.syncope.core.spring.security.PasswordGenerator;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
@@ -49,7 +51,11 @@ import org.identityconnectors.common.Base64;
 import org.identityconnectors.common.security.GuardedByteArray;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.common.security.SecurityUtil;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.Name;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -305,4 +311,24 @@ public class ConnObjectUtils {
 
         return connObjectTO;
     }
+
+    /**
+     * Build a connector object out of the last state propagated to the resource.
+     *
+     * @param shadow last propagated connector object state
+     * @return connector object as expected on the resource
+     */
+    public ConnectorObject getConnectorObject(final ConnObjectShadow shadow) {
+        Set<Attribute> attributes = shadow.getAttributes();
+
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder().
+                setObjectClass(shadow.getObjectClass()).
+                setUid(shadow.getUid() == null ? shadow.getConnObjectKey() : shadow.getUid()).
+                addAttributes(attributes);
+        if (AttributeUtil.find(Name.NAME, attributes) == null) {
+            builder.setName(shadow.getConnObjectKey());
+        }
+
+        return builder.build();
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConnectorBulkheadTest {
+
+    private ConnectorBulkhead bulkhead;
+
+    @Before
+    public void before() {
+        bulkhead = new ConnectorBulkhead("key", "test", 1, 1);
+    }
+
+    @After
+    public void after() {
+        bulkhead.shutdown();
+    }
+
+    @Test
+    public void callerRuns() {
+        Thread caller = Thread.currentThread();
+
+        assertEquals(caller, bulkhead.execute(() -> Thread.currentThread(), 0));
+        assertEquals(caller, bulkhead.execute(() -> Thread.currentThread(), null));
+        assertNotEquals(caller, bulkhead.execute(() -> Thread.currentThread(), 10));
+
+        SystemInfo.ConnectorStats stats = bulkhead.getStats();
+        assertEquals(3, stats.getExecuted());
+        assertEquals(2, stats.getCallerRuns());
+    }
+
+    @Test
+    public void failure() {
+        try {
+            bulkhead.execute(() -> {
+                throw new IllegalStateException();
+            }, 10);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(1, bulkhead.getStats().getFailed());
+        }
+    }
+
+    @Test
+    public void timeout() {
+        try {
+            bulkhead.execute(() -> {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                return null;
+            }, 1);
+            fail();
+        } catch (TimeoutException e) {
+            assertEquals(1, bulkhead.getStats().getTimedOut());
+        }
+    }
+
+    private Thread background(final CountDownLatch latch) {
+        Thread thread = new Thread(() -> {
+            try {
+                bulkhead.execute(() -> latch.await(1, TimeUnit.MINUTES), 60);
+            } catch (RuntimeException e) {
+                // ignore
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    public void rejection() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // occupy the only thread and the only queue slot
+        Thread running = background(latch);
+        Thread queued = background(latch);
+        long start = System.currentTimeMillis();
+        while (bulkhead.getStats().getQueueSize() + bulkhead.getStats().getActiveCount() < 2
+                && System.currentTimeMillis() - start < 5000) {
+            Thread.sleep(10);
+        }
+
+        try {
+            bulkhead.execute(() -> "rejected", 1);
+            fail();
+        } catch (TimeoutException e) {
+            assertEquals(1, bulkhead.getStats().getRejected());
+        } finally {
+            latch.countDown();
+            running.join();
+            queued.join();
+        }
+    }
+}
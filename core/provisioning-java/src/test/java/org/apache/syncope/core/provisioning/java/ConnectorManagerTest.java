@@ -41,11 +41,15 @@ public class ConnectorManagerTest extends AbstractTest {
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private ConnectorBulkheads bulkheads;
+
     @Before
     public void before() {
         connManager = new ConnectorManager();
         ReflectionTestUtils.setField(connManager, "connIdBundleManager", connIdBundleManager);
         ReflectionTestUtils.setField(connManager, "resourceDAO", resourceDAO);
+        ReflectionTestUtils.setField(connManager, "bulkheads", bulkheads);
 
         // Remove any other connector instance bean set up by standard ConnectorManager.load()
         connManager.unload();
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AuditElements;
+import org.apache.syncope.common.lib.types.AuditLoggerName;
+import org.apache.syncope.core.provisioning.api.EventSubscriptionIndex;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class EventSubscriptionIndexTest extends AbstractTest {
+
+    @Autowired
+    private EventSubscriptionIndex eventSubscriptionIndex;
+
+    @Test
+    public void audit() {
+        eventSubscriptionIndex.invalidate(SyncopeConstants.MASTER_DOMAIN);
+
+        assertTrue(eventSubscriptionIndex.isAudited(AuditLoggerName.buildEvent(
+                AuditElements.EventCategoryType.LOGIC, "SyncopeLogic", null, "isSelfRegAllowed",
+                AuditElements.Result.SUCCESS)));
+        assertFalse(eventSubscriptionIndex.isAudited(AuditLoggerName.buildEvent(
+                AuditElements.EventCategoryType.LOGIC, "SyncopeLogic", null, "isSelfRegAllowed",
+                AuditElements.Result.FAILURE)));
+    }
+
+    @Test
+    public void notifications() {
+        eventSubscriptionIndex.invalidate(SyncopeConstants.MASTER_DOMAIN);
+
+        assertEquals(
+                Collections.singletonList("9e2b911c-25de-4c77-bcea-b86ed9451050"),
+                eventSubscriptionIndex.getNotifications("[CUSTOM]:[]:[]:[unexisting2]:[SUCCESS]"));
+        assertTrue(eventSubscriptionIndex.getNotifications("[CUSTOM]:[]:[]:[unexisting2]:[FAILURE]").isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+import org.junit.Test;
+
+public class MemoryVirAttrCacheTest {
+
+    private static VirAttrCacheValue value(final String resource, final String value) {
+        VirAttrCacheValue cacheValue = new VirAttrCacheValue();
+        cacheValue.setValues(Collections.<Object>singletonList(value));
+        cacheValue.setResource(resource);
+        return cacheValue;
+    }
+
+    @Test
+    public void getAndStats() {
+        MemoryVirAttrCache cache = new MemoryVirAttrCache(60, 100);
+
+        cache.put("USER", "key1", "virtualdata", value("resource-db-virattr", "value1"));
+        VirAttrCacheValue cached = cache.get("USER", "key1", "virtualdata");
+        assertNotNull(cached);
+        assertEquals(Collections.singletonList("value1"), cached.getValues());
+        assertNull(cache.get("USER", "key2", "virtualdata"));
+
+        SystemInfo.VirAttrCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getSize());
+        assertEquals(100, stats.getMaxSize());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    public void expired() {
+        MemoryVirAttrCache cache = new MemoryVirAttrCache(60, 100);
+
+        VirAttrCacheValue cacheValue = value("resource-db-virattr", "value1");
+        cacheValue.forceExpiring();
+        cache.put("USER", "key1", "virtualdata", cacheValue);
+
+        assertNull(cache.get("USER", "key1", "virtualdata"));
+        assertEquals(0, cache.getStats().getSize());
+        assertEquals(1, cache.getStats().getExpirations());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        MemoryVirAttrCache cache = new MemoryVirAttrCache(60, 16);
+
+        for (int i = 0; i < 200; i++) {
+            cache.put("USER", "key" + i, "virtualdata", value("resource-db-virattr", "value" + i));
+        }
+
+        SystemInfo.VirAttrCacheStats stats = cache.getStats();
+        assertEquals(200 - stats.getSize(), stats.getEvictions());
+        assertTrue(stats.getSize() <= 16);
+    }
+
+    @Test
+    public void expireAll() {
+        MemoryVirAttrCache cache = new MemoryVirAttrCache(60, 100);
+
+        cache.put("USER", "key1", "virtualdata", value("resource-db-virattr", "value1"));
+        cache.put("USER", "key2", "virtualdata", value("resource-db-virattr", "value2"));
+        cache.put("USER", "key1", "othervirtualdata", value("ws-target-resource-1", "value3"));
+
+        cache.expireAll("resource-db-virattr");
+
+        assertNull(cache.get("USER", "key1", "virtualdata"));
+        assertNull(cache.get("USER", "key2", "virtualdata"));
+        assertNotNull(cache.get("USER", "key1", "othervirtualdata"));
+    }
+}
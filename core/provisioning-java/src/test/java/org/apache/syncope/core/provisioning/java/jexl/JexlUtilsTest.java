@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.jexl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.Set;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.MapContext;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
+import org.junit.Test;
+
+public class JexlUtilsTest {
+
+    @Test
+    public void addFieldsToContext() {
+        Date creationDate = new Date();
+
+        UserTO userTO = new UserTO();
+        userTO.setUsername("rossini");
+        userTO.setPassword("password123");
+        userTO.setCreationDate(creationDate);
+
+        for (int i = 0; i < 2; i++) {
+            JexlContext jexlContext = JexlUtils.addFieldsToContext(userTO, null);
+
+            assertEquals("rossini", jexlContext.get("username"));
+            assertEquals(FormatUtils.format(creationDate, false), jexlContext.get("creationDate"));
+            assertEquals("", jexlContext.get("status"));
+            assertFalse(jexlContext.has("password"));
+            assertFalse(jexlContext.has("plainAttrs"));
+        }
+    }
+
+    @Test
+    public void evaluate() {
+        String expression = "firstname + '.' + surname";
+
+        JexlContext jexlContext = new MapContext();
+        jexlContext.set("firstname", "Gioacchino");
+        jexlContext.set("surname", "Rossini");
+        assertEquals("Gioacchino.Rossini", JexlUtils.evaluate(expression, jexlContext));
+
+        jexlContext.set("firstname", "Giuseppe");
+        jexlContext.set("surname", "Verdi");
+        assertEquals("Giuseppe.Verdi", JexlUtils.evaluate(expression, jexlContext));
+
+        assertTrue(JexlUtils.isExpressionValid(expression));
+        assertFalse(JexlUtils.isExpressionValid("firstname + "));
+    }
+
+    @Test
+    public void templateCacheEviction() {
+        MapContext jexlContext = new MapContext();
+        jexlContext.set("surname", "Rossini");
+
+        // more distinct templates than cached: the least recently used are dropped
+        for (int i = 0; i <= JexlUtils.CACHE_SIZE; i++) {
+            StringWriter writer = new StringWriter();
+            JexlUtils.evaluateTemplate("${surname}" + i, jexlContext, writer);
+            assertEquals("Rossini" + i, writer.toString());
+        }
+
+        Set<String> cached = JexlUtils.getCachedTemplates();
+        assertEquals(JexlUtils.CACHE_SIZE, cached.size());
+        assertFalse(cached.contains("${surname}0"));
+        assertTrue(cached.contains("${surname}1"));
+        assertTrue(cached.contains("${surname}" + JexlUtils.CACHE_SIZE));
+
+        // once evicted, a template is parsed and cached again
+        StringWriter writer = new StringWriter();
+        JexlUtils.evaluateTemplate("${surname}0", jexlContext, writer);
+        assertEquals("Rossini0", writer.toString());
+        assertTrue(JexlUtils.getCachedTemplates().contains("${surname}0"));
+        assertFalse(JexlUtils.getCachedTemplates().contains("${surname}1"));
+    }
+
+    @Test
+    public void evaluateTemplate() {
+        String template = "Hi ${user.username}, welcome";
+
+        UserTO userTO = new UserTO();
+        userTO.setUsername("rossini");
+        MapContext jexlContext = new MapContext();
+        jexlContext.set("user", userTO);
+
+        StringWriter writer = new StringWriter();
+        JexlUtils.evaluateTemplate(template, jexlContext, writer);
+        assertEquals("Hi rossini, welcome", writer.toString());
+
+        userTO.setUsername("verdi");
+        writer = new StringWriter();
+        JexlUtils.evaluateTemplate(template, jexlContext, writer);
+        assertEquals("Hi verdi, welcome", writer.toString());
+    }
+}
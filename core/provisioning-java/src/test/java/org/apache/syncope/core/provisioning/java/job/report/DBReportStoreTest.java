@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.io.IOUtils;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.provisioning.api.job.ReportStore;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class DBReportStoreTest extends AbstractTest {
+
+    private static final String EXEC_KEY = "c13f39c5-0d35-4bff-ba79-3cd5de940369";
+
+    @Autowired
+    private ReportStore reportStore;
+
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
+    @Test
+    public void writeReadDelete() throws IOException {
+        // no directory configured: results are kept in the database
+        assertTrue(reportStore instanceof DBReportStore);
+
+        String domain = AuthContextUtils.getDomain();
+        String content = "<report name=\"test\"><users/></report>";
+
+        assertFalse(reportStore.exists(domain, EXEC_KEY));
+
+        try (OutputStream os = reportStore.write(domain, EXEC_KEY)) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        assertTrue(reportStore.exists(domain, EXEC_KEY));
+        assertNotNull(reportExecDAO.find(EXEC_KEY).getExecResult());
+
+        try (InputStream is = reportStore.read(domain, EXEC_KEY)) {
+            assertEquals(content, IOUtils.toString(is, StandardCharsets.UTF_8));
+        }
+
+        reportStore.delete(domain, EXEC_KEY);
+        assertFalse(reportStore.exists(domain, EXEC_KEY));
+    }
+}
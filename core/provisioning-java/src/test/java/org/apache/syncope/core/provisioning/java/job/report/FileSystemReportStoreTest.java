@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemReportStoreTest {
+
+    private static final String DOMAIN = "Master";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FileSystemReportStore store;
+
+    @Before
+    public void setUp() {
+        store = new FileSystemReportStore();
+        store.setDirectory(folder.getRoot().getAbsolutePath());
+        store.setCompressionLevel(1);
+    }
+
+    @Test
+    public void writeReadDelete() throws IOException {
+        String execKey = UUID.randomUUID().toString();
+        String content = "<report name=\"test\"><users/></report>";
+
+        OutputStream os = store.write(DOMAIN, execKey);
+        os.write(content.getBytes(StandardCharsets.UTF_8));
+        // nothing visible until the stream is closed
+        assertFalse(store.exists(DOMAIN, execKey));
+        os.close();
+        assertTrue(store.exists(DOMAIN, execKey));
+
+        try (InputStream is = store.read(DOMAIN, execKey)) {
+            assertEquals(content, IOUtils.toString(is, StandardCharsets.UTF_8));
+        }
+
+        store.delete(DOMAIN, execKey);
+        assertFalse(store.exists(DOMAIN, execKey));
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void readMissing() throws IOException {
+        store.read(DOMAIN, UUID.randomUUID().toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCompressionLevel() {
+        store.setCompressionLevel(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void blankDirectory() {
+        new FileSystemReportStore().setDirectory(" ");
+    }
+}
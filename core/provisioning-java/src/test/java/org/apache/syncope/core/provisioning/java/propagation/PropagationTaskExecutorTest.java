@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.dao.ConnObjectShadowDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.resource.ConnObjectShadow;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorFactory;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class PropagationTaskExecutorTest extends AbstractTest {
+
+    private static final String CONN_OBJECT_KEY = "vivaldi";
+
+    private static final String REMOTE_UID = "remote-vivaldi";
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private ConnObjectShadowDAO connObjectShadowDAO;
+
+    private PriorityPropagationTaskExecutor executor;
+
+    private ExternalResource resource;
+
+    /**
+     * Names of the connector methods invoked, in order.
+     */
+    private final List<String> calls = new ArrayList<>();
+
+    /**
+     * What the connector returns when asked to read the remote object.
+     */
+    private ConnectorObject remoteObj;
+
+    /**
+     * What the connector throws on create or update, if any.
+     */
+    private RuntimeException failure;
+
+    @Before
+    public void before() {
+        calls.clear();
+        remoteObj = null;
+        failure = null;
+
+        Connector connector = (Connector) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { Connector.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+
+                        case "equals":
+                            return proxy == args[0];
+
+                        case "toString":
+                            return "test connector";
+
+                        case "getObject":
+                            calls.add(method.getName());
+                            return remoteObj;
+
+                        case "create":
+                        case "update":
+                            calls.add(method.getName());
+                            ((Boolean[]) args[args.length - 1])[0] = true;
+                            if (failure != null) {
+                                throw failure;
+                            }
+                            return new Uid(REMOTE_UID);
+
+                        default:
+                            calls.add(method.getName());
+                            return null;
+                    }
+                });
+        ConnectorFactory connFactory = (ConnectorFactory) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { ConnectorFactory.class }, (proxy, method, args) -> {
+                    return "getConnector".equals(method.getName()) ? connector : null;
+                });
+
+        executor = new PriorityPropagationTaskExecutor();
+        ApplicationContextProvider.getBeanFactory().autowireBean(executor);
+        ReflectionTestUtils.setField(executor, "connFactory", connFactory);
+
+        resource = resourceDAO.find("resource-testdb");
+        assertNotNull(resource);
+    }
+
+    private PropagationTask buildTask(final ResourceOperation operation, final String surname) {
+        PropagationTask task = entityFactory.newEntity(PropagationTask.class);
+        task.setResource(resource);
+        task.setObjectClassName(ObjectClass.ACCOUNT_NAME);
+        task.setAnyTypeKind(AnyTypeKind.USER);
+        task.setAnyType(AnyTypeKind.USER.name());
+        task.setEntityKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        task.setOperation(operation);
+        task.setConnObjectKey(CONN_OBJECT_KEY);
+        task.setAttributes(new HashSet<>(Arrays.asList(
+                new Name(CONN_OBJECT_KEY), AttributeBuilder.build("SURNAME", surname))));
+        return task;
+    }
+
+    private ConnObjectShadow findShadow() {
+        return connObjectShadowDAO.find(resource, ObjectClass.ACCOUNT, CONN_OBJECT_KEY);
+    }
+
+    @Test
+    public void trustedSuccess() {
+        resource.setTrustLocalState(true);
+
+        PropagationTask task = buildTask(ResourceOperation.CREATE, "Vivaldi");
+        TaskExec exec = executor.execute(task);
+
+        assertEquals(PropagationTaskExecStatus.SUCCESS.name(), exec.getStatus());
+        // no remote read, neither before nor after
+        assertEquals(Collections.singletonList("create"), calls);
+        // the key returned by the connector is recorded anyway
+        assertEquals(REMOTE_UID, task.getConnObjectKey());
+
+        ConnObjectShadow shadow = findShadow();
+        assertNotNull(shadow);
+        assertEquals(REMOTE_UID, shadow.getUid());
+    }
+
+    @Test
+    public void trustedFailure() {
+        resource.setTrustLocalState(true);
+
+        ConnObjectShadow shadow = entityFactory.newEntity(ConnObjectShadow.class);
+        shadow.setResource(resource);
+        shadow.setObjectClass(ObjectClass.ACCOUNT);
+        shadow.setConnObjectKey(CONN_OBJECT_KEY);
+        shadow.setUid(CONN_OBJECT_KEY);
+        shadow.setAttributes(new HashSet<>(Arrays.asList(
+                new Name(CONN_OBJECT_KEY), AttributeBuilder.build("SURNAME", "Old"))));
+        shadow.setLastPropagation(new Date());
+        connObjectShadowDAO.save(shadow);
+
+        failure = new ConnectorException("remote failure");
+
+        PropagationTask task = buildTask(ResourceOperation.UPDATE, "Vivaldi");
+        TaskExec exec = executor.execute(task);
+
+        assertEquals(PropagationTaskExecStatus.FAILURE.name(), exec.getStatus());
+        // before object from shadow, remote read after failure
+        assertEquals(Arrays.asList("update", "getObject"), calls);
+        // remote state is unknown: shadow was removed
+        assertNull(findShadow());
+    }
+
+    @Test
+    public void untrusted() {
+        resource.setTrustLocalState(false);
+
+        remoteObj = new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid(CONN_OBJECT_KEY).
+                setName(CONN_OBJECT_KEY).
+                addAttribute(AttributeBuilder.build("SURNAME", "Old")).
+                build();
+
+        PropagationTask task = buildTask(ResourceOperation.UPDATE, "Vivaldi");
+        TaskExec exec = executor.execute(task);
+
+        assertEquals(PropagationTaskExecStatus.SUCCESS.name(), exec.getStatus());
+        // remote read before and after update
+        assertEquals(Arrays.asList("getObject", "update", "getObject"), calls);
+        assertEquals(REMOTE_UID, task.getConnObjectKey());
+        // no shadow is kept
+        assertNull(findShadow());
+    }
+}
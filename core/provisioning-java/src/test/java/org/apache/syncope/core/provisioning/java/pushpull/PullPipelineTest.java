@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.Test;
+
+public class PullPipelineTest extends AbstractTest {
+
+    // with two workers, deltas for "a" and "b" are handled by different workers
+    private static final String FIRST_PARTITION = "b";
+
+    private static final String SECOND_PARTITION = "a";
+
+    private static SyncDelta delta(final String uid, final int token) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.DELETE).
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid(new Uid(uid)).
+                setToken(new SyncToken(token)).
+                build();
+    }
+
+    private final List<Object> handled = new CopyOnWriteArrayList<>();
+
+    private final AtomicReference<SyncToken> committed = new AtomicReference<>();
+
+    private PullPipeline pipeline(final int parallelism, final Predicate<SyncDelta> handle) {
+        SyncopePullResultHandler handler = (SyncopePullResultHandler) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { SyncopePullResultHandler.class },
+                (proxy, method, args) -> {
+                    if ("handle".equals(method.getName())) {
+                        SyncDelta delta = (SyncDelta) args[0];
+                        boolean result = handle.test(delta);
+                        if (result) {
+                            handled.add(delta.getToken().getValue());
+                        }
+                        return result;
+                    }
+                    return null;
+                });
+        SyncopePullExecutor executor = (objectClass, latestSyncToken) -> committed.set(latestSyncToken);
+
+        return new PullPipeline(handler, executor, ObjectClass.ACCOUNT, parallelism, "pullPipelineTest-");
+    }
+
+    @Test
+    public void allHandled() {
+        CountDownLatch secondDone = new CountDownLatch(2);
+        PullPipeline pipeline = pipeline(2, delta -> {
+            if (FIRST_PARTITION.equals(delta.getUid().getUidValue())) {
+                // let later deltas on the other worker complete first
+                try {
+                    secondDone.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                secondDone.countDown();
+            }
+            return true;
+        });
+
+        assertTrue(pipeline.handle(delta(FIRST_PARTITION, 0)));
+        assertTrue(pipeline.handle(delta(SECOND_PARTITION, 1)));
+        assertTrue(pipeline.handle(delta(SECOND_PARTITION, 2)));
+        pipeline.close();
+
+        assertEquals(3, handled.size());
+        assertEquals(new SyncToken(2), committed.get());
+    }
+
+    @Test
+    public void tokenOnlyUpToLastContiguous() {
+        CountDownLatch secondDone = new CountDownLatch(2);
+        PullPipeline pipeline = pipeline(2, delta -> {
+            int token = (Integer) delta.getToken().getValue();
+            if (token == 2) {
+                // fail only once the deltas following on the other worker were handled
+                try {
+                    secondDone.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+            if (SECOND_PARTITION.equals(delta.getUid().getUidValue())) {
+                secondDone.countDown();
+            }
+            return true;
+        });
+
+        assertTrue(pipeline.handle(delta(FIRST_PARTITION, 0)));
+        assertTrue(pipeline.handle(delta(FIRST_PARTITION, 1)));
+        assertTrue(pipeline.handle(delta(FIRST_PARTITION, 2)));
+        assertTrue(pipeline.handle(delta(SECOND_PARTITION, 3)));
+        assertTrue(pipeline.handle(delta(SECOND_PARTITION, 4)));
+        pipeline.close();
+
+        // 3 and 4 were handled, but 2 was not: only up to 1 can be committed
+        assertTrue(handled.contains(3));
+        assertTrue(handled.contains(4));
+        assertFalse(handled.contains(2));
+        assertEquals(new SyncToken(1), committed.get());
+    }
+
+    @Test
+    public void failureStopsPipeline() throws InterruptedException {
+        PullPipeline pipeline = pipeline(1, delta -> false);
+
+        assertTrue(pipeline.handle(delta(FIRST_PARTITION, 0)));
+
+        // reading from the connector is stopped as soon as the failure is noticed
+        long deadline = System.currentTimeMillis() + 5000;
+        boolean accepted = true;
+        while (accepted && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            accepted = pipeline.handle(delta(FIRST_PARTITION, 1));
+        }
+        assertFalse(accepted);
+        pipeline.close();
+
+        assertTrue(handled.isEmpty());
+        assertNull(committed.get());
+    }
+}
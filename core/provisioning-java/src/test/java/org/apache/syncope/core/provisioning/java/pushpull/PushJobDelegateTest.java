@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.Mapping;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyObjectPushResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.GroupPushResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class PushJobDelegateTest extends AbstractTest {
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private AnyTypeDAO anyTypeDAO;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private AnySearchDAO searchDAO;
+
+    /**
+     * Keys successfully handled, mapped to the name of the thread which handled them.
+     */
+    private final Map<String, String> handled = new ConcurrentHashMap<>();
+
+    /**
+     * Key on which the handler fails, if any.
+     */
+    private String failOn;
+
+    /**
+     * All group keys, in the same order in which the push pages through them.
+     */
+    private List<String> groupKeys;
+
+    private PushJobDelegate delegate;
+
+    @Before
+    public void before() {
+        handled.clear();
+        failOn = null;
+
+        groupKeys = searchDAO.search(
+                Collections.singleton(realmDAO.getRoot().getFullPath()),
+                groupDAO.getAllMatchingCond(),
+                null,
+                Integer.MAX_VALUE,
+                AnyTypeKind.GROUP).stream().map(Any::getKey).collect(Collectors.toList());
+        // more than one partition is needed
+        assertTrue(groupKeys.size() > AnyDAO.DEFAULT_PAGE_SIZE);
+
+        GroupPushResultHandler ghandler = (GroupPushResultHandler) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { GroupPushResultHandler.class },
+                (proxy, method, args) -> {
+                    if ("handle".equals(method.getName())) {
+                        String key = (String) args[0];
+                        if (key.equals(failOn)) {
+                            throw new IllegalStateException("failure pushing " + key);
+                        }
+                        // a key pushed twice means overlapping partitions: this fails the push
+                        assertNull(handled.put(key, Thread.currentThread().getName()));
+                        return true;
+                    }
+                    return null;
+                });
+
+        delegate = new PushJobDelegate() {
+
+            @Override
+            protected AnyObjectPushResultHandler buildAnyObjectHandler() {
+                return null;
+            }
+
+            @Override
+            protected UserPushResultHandler buildUserHandler() {
+                return null;
+            }
+
+            @Override
+            protected GroupPushResultHandler buildGroupHandler() {
+                return ghandler;
+            }
+        };
+        ApplicationContextProvider.getBeanFactory().autowireBean(delegate);
+    }
+
+    private PushTask buildTask(final int parallelism) {
+        ExternalResource resource = entityFactory.newEntity(ExternalResource.class);
+        resource.setKey("push-partitions");
+        resource.setProvisioningTraceLevel(TraceLevel.NONE);
+
+        Provision provision = entityFactory.newEntity(Provision.class);
+        provision.setResource(resource);
+        provision.setAnyType(anyTypeDAO.findGroup());
+        resource.add(provision);
+
+        Mapping mapping = entityFactory.newEntity(Mapping.class);
+        mapping.setProvision(provision);
+        provision.setMapping(mapping);
+
+        PushTask task = entityFactory.newEntity(PushTask.class);
+        task.setResource(resource);
+        task.setSourceRealm(realmDAO.getRoot());
+        task.setParallelism(parallelism);
+        return task;
+    }
+
+    @Test
+    public void partitions() throws JobExecutionException {
+        delegate.doExecuteProvisioning(buildTask(2), null, false);
+
+        // every key is pushed, exactly once
+        assertEquals(new HashSet<>(groupKeys), handled.keySet());
+
+        // each page is a partition, pushed as a whole by a single worker
+        for (int i = 0; i < groupKeys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            Set<String> threads = groupKeys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, groupKeys.size())).
+                    stream().map(handled::get).collect(Collectors.toSet());
+            assertEquals(1, threads.size());
+            assertTrue(threads.iterator().next().startsWith("PushJob-"));
+        }
+    }
+
+    @Test
+    public void sequential() throws JobExecutionException {
+        delegate.doExecuteProvisioning(buildTask(1), null, false);
+
+        assertEquals(new HashSet<>(groupKeys), handled.keySet());
+        assertEquals(
+                Collections.singleton(Thread.currentThread().getName()),
+                new HashSet<>(handled.values()));
+    }
+
+    @Test
+    public void failureWithinPartition() {
+        // fail on the second key of the second partition
+        failOn = groupKeys.get(AnyDAO.DEFAULT_PAGE_SIZE + 1);
+
+        try {
+            delegate.doExecuteProvisioning(buildTask(2), null, false);
+            fail();
+        } catch (JobExecutionException e) {
+            assertNotNull(e.getCause());
+        }
+
+        // the first partition is fully pushed...
+        groupKeys.subList(0, AnyDAO.DEFAULT_PAGE_SIZE).forEach(key -> assertTrue(handled.containsKey(key)));
+        // ...the failing one only up to the failure, and nothing beyond
+        assertTrue(handled.containsKey(groupKeys.get(AnyDAO.DEFAULT_PAGE_SIZE)));
+        groupKeys.subList(AnyDAO.DEFAULT_PAGE_SIZE + 1, Math.min(2 * AnyDAO.DEFAULT_PAGE_SIZE, groupKeys.size())).
+                forEach(key -> assertFalse(handled.containsKey(key)));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.syncope.common.lib.to.BatchItemResult;
+import org.apache.syncope.common.lib.to.BulkActionResult;
+import org.apache.syncope.common.lib.to.ErrorTO;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Executes batch requests: operations are read one per line as newline-delimited JSON, and submitted to a pool
+ * shared by all batch requests as soon as read; results are written back, one per line, as soon as available.
+ * Each request can keep at most {@code parallelism} operations in the pool at the same time, so that reading
+ * proceeds at the pace of execution.
+ */
+public class BatchProcessor implements InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchProcessor.class);
+
+    private static final ObjectMapper MAPPER = new UnwrappedObjectMapper();
+
+    private static final long POLL_MILLIS = 100L;
+
+    @Autowired
+    private RestServiceExceptionMapper exceptionMapper;
+
+    private int poolSize = 10;
+
+    private ExecutorService executor;
+
+    public void setPoolSize(final int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("batch-");
+        threadFactory.setDaemon(true);
+
+        ThreadPoolExecutor tpe = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        tpe.allowCoreThreadTimeOut(true);
+        executor = tpe;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reads operations from the given input, runs them and writes results to the given output.
+     *
+     * @param <I> operation type
+     * @param in newline-delimited JSON operations
+     * @param out newline-delimited JSON results
+     * @param parallelism maximum number of operations running at the same time, capped by pool size
+     * @param itemClass operation type
+     * @param keyOf provides the key to report for the given operation, if failed
+     * @param operation runs the given operation, returning the key of the affected entity
+     * @throws IOException if reading or writing fails
+     */
+    public <I> void process(
+            final InputStream in,
+            final OutputStream out,
+            final int parallelism,
+            final Class<I> itemClass,
+            final Function<I, String> keyOf,
+            final Function<I, String> operation) throws IOException {
+
+        int permits = Math.max(1, Math.min(parallelism, poolSize));
+        Semaphore semaphore = new Semaphore(permits);
+        BlockingQueue<BatchItemResult> results = new LinkedBlockingQueue<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            long index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (StringUtils.isBlank(line)) {
+                    continue;
+                }
+                long current = index++;
+
+                I item;
+                try {
+                    item = MAPPER.readValue(line, itemClass);
+                } catch (IOException e) {
+                    LOG.error("Could not parse batch item #{}", current, e);
+
+                    ErrorTO error = new ErrorTO();
+                    error.setStatus(ClientExceptionType.RESTValidation.getResponseStatus().getStatusCode());
+                    error.setType(ClientExceptionType.RESTValidation);
+                    error.getElements().add(ExceptionUtils.getRootCauseMessage(e));
+                    results.add(result(current, null, Collections.singletonList(error)));
+                    continue;
+                }
+
+                // wait for a slot, meanwhile reporting what has completed
+                while (!semaphore.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    write(results, writer);
+                }
+                write(results, writer);
+
+                executor.execute(new DelegatingSecurityContextRunnable(() -> {
+                    try {
+                        results.add(result(current, operation.apply(item), Collections.emptyList()));
+                    } catch (Exception e) {
+                        LOG.error("While running batch item #{}", current, e);
+                        results.add(result(current, keyOf.apply(item), errors(e)));
+                    } finally {
+                        semaphore.release();
+                    }
+                }));
+            }
+
+            // wait for all operations to complete
+            while (!semaphore.tryAcquire(permits, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                write(results, writer);
+            }
+            write(results, writer);
+
+            LOG.debug("Batch request completed: {} operations", index);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Batch request interrupted");
+        }
+    }
+
+    private BatchItemResult result(final long index, final String key, final List<ErrorTO> errors) {
+        BatchItemResult result = new BatchItemResult();
+        result.setIndex(index);
+        result.setKey(key);
+        result.setStatus(errors.isEmpty() ? BulkActionResult.Status.SUCCESS : BulkActionResult.Status.FAILURE);
+        result.getErrors().addAll(errors);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ErrorTO> errors(final Exception e) {
+        Response response = exceptionMapper.toResponse(e);
+        if (response == null) {
+            // access denied
+            ErrorTO error = new ErrorTO();
+            error.setStatus(Response.Status.FORBIDDEN.getStatusCode());
+            error.setType(ClientExceptionType.DelegatedAdministration);
+            error.getElements().add(ExceptionUtils.getRootCauseMessage(e));
+            return Collections.singletonList(error);
+        }
+
+        if (response.getEntity() instanceof ErrorTO) {
+            return Collections.singletonList((ErrorTO) response.getEntity());
+        }
+        if (response.getEntity() instanceof List) {
+            return (List<ErrorTO>) response.getEntity();
+        }
+
+        ErrorTO error = new ErrorTO();
+        error.setStatus(response.getStatus());
+        error.setType(ClientExceptionType.Unknown);
+        error.getElements().add(ExceptionUtils.getRootCauseMessage(e));
+        return Collections.singletonList(error);
+    }
+
+    private void write(final BlockingQueue<BatchItemResult> results, final Writer writer) throws IOException {
+        List<BatchItemResult> available = new ArrayList<>();
+        results.drainTo(available);
+        if (!available.isEmpty()) {
+            for (BatchItemResult result : available) {
+                writer.write(MAPPER.writeValueAsString(result));
+                writer.write('\n');
+            }
+            writer.flush();
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,7 @@ import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.AnyOperations;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.AssociationPatch;
@@ -42,6 +44,7 @@ import org.apache.syncope.common.lib.to.BulkAction;
 import org.apache.syncope.common.lib.to.BulkActionResult;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceAssociationAction;
 import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
@@ -141,15 +144,41 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
                 ? null
                 : getSearchCond(anyQuery.getFiql(), realm);
 
+        if (anyQuery.getAfter() != null) {
+            if (StringUtils.isNotBlank(anyQuery.getOrderBy())) {
+                SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+                sce.getElements().add(PARAM_AFTER + " cannot be used together with " + PARAM_ORDERBY);
+                throw sce;
+            }
+
+            Pair<Integer, List<TO>> result = getAnyLogic().search(
+                    searchCond,
+                    1,
+                    anyQuery.getSize(),
+                    Collections.emptyList(),
+                    decodeAfter(anyQuery.getAfter()),
+                    isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
+                    anyQuery.getDetails());
+
+            return buildKeysetPagedResult(result.getRight(), anyQuery.getSize(), result.getLeft());
+        }
+
         Pair<Integer, List<TO>> result = getAnyLogic().search(
                 searchCond,
                 anyQuery.getPage(),
                 anyQuery.getSize(),
                 getOrderByClauses(anyQuery.getOrderBy()),
+                null,
                 isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
                 anyQuery.getDetails());
 
-        return buildPagedResult(result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
+        PagedResult<TO> pagedResult = buildPagedResult(
+                result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
+        // when ordered by key, allow switching to keyset pagination from any page
+        if (StringUtils.isBlank(anyQuery.getOrderBy()) && result.getRight().size() == anyQuery.getSize()) {
+            pagedResult.setAfter(encodeAfter(result.getRight().get(result.getRight().size() - 1).getKey()));
+        }
+        return pagedResult;
     }
 
     @Override
@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -189,6 +191,72 @@ abstract class AbstractServiceImpl implements JAXRSService {
         return result;
     }
 
+    /**
+     * Encodes the given key as opaque token for keyset pagination.
+     *
+     * @param key key of the last item in the current page
+     * @return URL-safe token
+     */
+    protected String encodeAfter(final String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the given keyset pagination token.
+     *
+     * @param after token as returned by {@link #encodeAfter(java.lang.String)}
+     * @return key of the last item in the previous page
+     */
+    protected String decodeAfter(final String after) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            LOG.error("Invalid after token: {}", after, e);
+
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+            sce.getElements().add("Invalid " + PARAM_AFTER + ": " + after);
+            throw sce;
+        }
+    }
+
+    /**
+     * Builds the paged result for keyset pagination: the next page, if any, is addressed by the key of the last
+     * item in the given list, rather than by page number.
+     *
+     * @param <T> entity type
+     * @param list items in the current page
+     * @param size page size
+     * @param totalCount total number of items
+     * @return paged result
+     */
+    protected <T extends EntityTO> PagedResult<T> buildKeysetPagedResult(
+            final List<T> list, final int size, final int totalCount) {
+
+        PagedResult<T> result = new PagedResult<>();
+        result.getResult().addAll(list);
+
+        result.setPage(1);
+        result.setSize(result.getResult().size());
+        result.setTotalCount(totalCount);
+
+        if (result.getSize() == size && size > 0) {
+            result.setAfter(encodeAfter(list.get(list.size() - 1).getKey()));
+
+            UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+            MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+            for (Map.Entry<String, List<String>> queryParam : queryParams.entrySet()) {
+                builder.queryParam(queryParam.getKey(), queryParam.getValue().toArray());
+            }
+            result.setNext(builder.
+                    replaceQueryParam(PARAM_PAGE).
+                    replaceQueryParam(PARAM_AFTER, result.getAfter()).
+                    replaceQueryParam(PARAM_SIZE, size).
+                    build());
+        }
+
+        return result;
+    }
+
     /**
      * Builds a paged result out of a list of items and additional information.
      *
@@ -18,17 +18,24 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import java.io.InputStream;
 import java.util.Date;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.patch.StatusPatch;
 import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.to.UserBatchItem;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.core.logic.AbstractAnyLogic;
 import org.apache.syncope.core.logic.UserLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.rest.cxf.BatchProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -41,6 +48,9 @@ public class UserServiceImpl extends AbstractAnyService<UserTO, UserPatch> imple
     @Autowired
     private UserLogic logic;
 
+    @Autowired
+    private BatchProcessor batchProcessor;
+
     @Override
     protected AnyDAO<?> getAnyDAO() {
         return userDAO;
@@ -72,4 +82,63 @@ public class UserServiceImpl extends AbstractAnyService<UserTO, UserPatch> imple
         ProvisioningResult<UserTO> updated = logic.status(statusPatch, isNullPriorityAsync());
         return modificationResponse(updated);
     }
+
+    private static String keyOf(final UserBatchItem item) {
+        if (item.getOperation() == null) {
+            return null;
+        }
+
+        switch (item.getOperation()) {
+            case CREATE:
+                return item.getUser() == null ? null : item.getUser().getKey();
+
+            case UPDATE:
+                return item.getPatch() == null ? null : item.getPatch().getKey();
+
+            case DELETE:
+            default:
+                return item.getKey();
+        }
+    }
+
+    private String execute(final UserBatchItem item, final boolean nullPriorityAsync) {
+        String required = null;
+        if (item.getOperation() == null) {
+            required = "operation";
+        } else if (item.getOperation() == UserBatchItem.Operation.CREATE && item.getUser() == null) {
+            required = "user";
+        } else if (item.getOperation() == UserBatchItem.Operation.UPDATE && item.getPatch() == null) {
+            required = "patch";
+        } else if (item.getOperation() == UserBatchItem.Operation.DELETE && item.getKey() == null) {
+            required = "key";
+        }
+        if (required != null) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.RequiredValuesMissing);
+            sce.getElements().add(required);
+            throw sce;
+        }
+
+        switch (item.getOperation()) {
+            case CREATE:
+                return logic.create(item.getUser(), item.isStorePassword(), nullPriorityAsync).getEntity().getKey();
+
+            case UPDATE:
+                return logic.update(item.getPatch(), nullPriorityAsync).getEntity().getKey();
+
+            case DELETE:
+            default:
+                return logic.delete(item.getKey(), nullPriorityAsync).getEntity().getKey();
+        }
+    }
+
+    @Override
+    public Response batch(final int parallelism, final InputStream items) {
+        // read request headers while still on the request thread
+        boolean nullPriorityAsync = isNullPriorityAsync();
+
+        StreamingOutput sout = os -> batchProcessor.process(
+                items, os, parallelism, UserBatchItem.class,
+                UserServiceImpl::keyOf, item -> execute(item, nullPriorityAsync));
+        return Response.ok(sout).type(RESTHeaders.MEDIATYPE_APPLICATION_NDJSON).build();
+    }
 }
@@ -133,6 +133,9 @@ public class AuthDataAccessor {
     @Autowired
     protected ImplementationLookup implementationLookup;
 
+    @Autowired
+    protected JWTAuthorizationCache jwtAuthorizationCache;
+
     private Map<String, JWTSSOProvider> jwtSSOProviders;
 
     public JWTSSOProvider getJWTSSOProvider(final String issuer) {
@@ -372,6 +375,9 @@ public class AuthDataAccessor {
 
     @Transactional
     public Pair<String, Set<SyncopeGrantedAuthority>> authenticate(final JWTAuthentication authentication) {
+        long generation = jwtAuthorizationCache.getGeneration();
+
+        String userKey = null;
         String username;
         Set<SyncopeGrantedAuthority> authorities;
 
@@ -394,6 +400,7 @@ public class AuthDataAccessor {
             }
 
             User user = resolved.getLeft();
+            userKey = user.getKey();
             username = user.getUsername();
             authorities = resolved.getRight() == null ? Collections.emptySet() : resolved.getRight();
             LOG.debug("JWT {} issued by {} resolved to User {} with authorities {}",
@@ -417,6 +424,9 @@ public class AuthDataAccessor {
             }
         }
 
+        jwtAuthorizationCache.put(
+                generation, AuthContextUtils.getDomain(), authentication.getClaims(), userKey, username, authorities);
+
         return Pair.of(username, authorities);
     }
 
@@ -37,16 +37,27 @@ public class JWTAuthenticationProvider implements AuthenticationProvider {
     @Autowired
     private AuthDataAccessor dataAccessor;
 
+    @Autowired
+    private JWTAuthorizationCache authorizationCache;
+
     @Override
     public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
         final JWTAuthentication jwtAuthentication = (JWTAuthentication) authentication;
 
-        AuthContextUtils.execWithAuthContext(jwtAuthentication.getDetails().getDomain(), () -> {
-            Pair<String, Set<SyncopeGrantedAuthority>> authenticated = dataAccessor.authenticate(jwtAuthentication);
-            jwtAuthentication.setUsername(authenticated.getLeft());
-            jwtAuthentication.getAuthorities().addAll(authenticated.getRight());
-            return null;
-        });
+        Pair<String, Set<SyncopeGrantedAuthority>> cached = authorizationCache.get(
+                jwtAuthentication.getDetails().getDomain(), jwtAuthentication.getClaims());
+        if (cached == null) {
+            AuthContextUtils.execWithAuthContext(jwtAuthentication.getDetails().getDomain(), () -> {
+                Pair<String, Set<SyncopeGrantedAuthority>> authenticated =
+                        dataAccessor.authenticate(jwtAuthentication);
+                jwtAuthentication.setUsername(authenticated.getLeft());
+                jwtAuthentication.getAuthorities().addAll(authenticated.getRight());
+                return null;
+            });
+        } else {
+            jwtAuthentication.setUsername(cached.getLeft());
+            jwtAuthentication.getAuthorities().addAll(cached.getRight());
+        }
 
         JwtClaims claims = jwtAuthentication.getClaims();
         Long referenceTime = new Date().getTime();
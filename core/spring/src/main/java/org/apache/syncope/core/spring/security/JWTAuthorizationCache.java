@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationsChangedEvent;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded cache of the username and authorities resolved for each JWT, so that requests carrying an already seen
+ * token only need signature verification.
+ * Entries live for at most the configured TTL, never beyond token expiry, and are dropped as soon as any change
+ * possibly affecting the authorizations of the related user is committed.
+ */
+public class JWTAuthorizationCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JWTAuthorizationCache.class);
+
+    private static class Entry {
+
+        private final String domain;
+
+        private final String userKey;
+
+        private final String username;
+
+        private final Set<SyncopeGrantedAuthority> authorities;
+
+        private final long expiresAt;
+
+        Entry(
+                final String domain,
+                final String userKey,
+                final String username,
+                final Set<SyncopeGrantedAuthority> authorities,
+                final long expiresAt) {
+
+            this.domain = domain;
+            this.userKey = userKey;
+            this.username = username;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final long ttl;
+
+    /**
+     * Bumped by every invalidation, so that authorizations resolved while a change was being committed are not
+     * cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<String, Entry> entries;
+
+    public JWTAuthorizationCache(final long ttl, final int maxSize) {
+        this.ttl = ttl * 1000L;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 4619271640830539563L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static String key(final String domain, final JwtClaims claims) {
+        return domain + '|' + claims.getIssuer() + '|' + claims.getTokenId();
+    }
+
+    public Pair<String, Set<SyncopeGrantedAuthority>> get(final String domain, final JwtClaims claims) {
+        if (ttl <= 0 || claims.getTokenId() == null) {
+            return null;
+        }
+
+        String key = key(domain, claims);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+
+            return Pair.of(entry.username, entry.authorities);
+        }
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the authorizations resolved for the given token, unless any invalidation occurred since the given
+     * generation was read.
+     *
+     * @param generation value of {@link #getGeneration()} read before resolving authorizations
+     * @param domain domain
+     * @param claims token claims
+     * @param userKey key of the user the token was resolved to, {@code null} for admin
+     * @param username username
+     * @param authorities authorities
+     */
+    public void put(
+            final long generation,
+            final String domain,
+            final JwtClaims claims,
+            final String userKey,
+            final String username,
+            final Set<SyncopeGrantedAuthority> authorities) {
+
+        if (ttl <= 0 || claims.getTokenId() == null || claims.getExpiryTime() == null) {
+            return;
+        }
+
+        long expiresAt = Math.min(System.currentTimeMillis() + ttl, claims.getExpiryTime() * 1000L);
+        Entry entry = new Entry(domain, userKey, username, Collections.unmodifiableSet(authorities), expiresAt);
+        synchronized (entries) {
+            if (this.generation.get() == generation) {
+                entries.put(key(domain, claims), entry);
+            }
+        }
+    }
+
+    public void invalidate(final String domain) {
+        LOG.debug("Invalidating cached JWT authorizations for domain {}", domain);
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.values().removeIf(entry -> entry.domain.equals(domain));
+        }
+    }
+
+    public void invalidate(final String domain, final Set<String> userKeys, final String username) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.values().removeIf(entry -> entry.domain.equals(domain)
+                    && ((entry.userKey != null && userKeys.contains(entry.userKey))
+                    || (username != null && username.equals(entry.username))));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyCreatedUpdatedEvent<Any<?>> event) {
+        if (event.getAny() instanceof User) {
+            invalidate(
+                    event.getDomain(),
+                    Collections.singleton(event.getAny().getKey()),
+                    ((User) event.getAny()).getUsername());
+        } else if (event.getAny() instanceof Group) {
+            // group ownership grants entitlements
+            invalidate(event.getDomain());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyDeletedEvent event) {
+        if (event.getAnyTypeKind() == AnyTypeKind.USER) {
+            invalidate(event.getDomain(), Collections.singleton(event.getAnyKey()), null);
+        } else if (event.getAnyTypeKind() == AnyTypeKind.GROUP) {
+            invalidate(event.getDomain());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final DynMembersChangedEvent event) {
+        invalidate(event.getDomain(), event.getAnyKeys(), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AuthorizationsChangedEvent event) {
+        if (event.getUsername() == null) {
+            invalidate(event.getDomain());
+        } else {
+            invalidate(event.getDomain(), Collections.emptySet(), event.getUsername());
+        }
+    }
+}
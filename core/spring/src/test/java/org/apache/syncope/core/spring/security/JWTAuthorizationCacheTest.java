@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.StandardEntitlement;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationsChangedEvent;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
+import org.junit.Test;
+
+public class JWTAuthorizationCacheTest {
+
+    private static final Set<SyncopeGrantedAuthority> AUTHORITIES =
+            Collections.singleton(new SyncopeGrantedAuthority(StandardEntitlement.USER_READ, "/"));
+
+    private static JwtClaims claims(final long expiryTime) {
+        JwtClaims claims = new JwtClaims();
+        claims.setTokenId(UUID.randomUUID().toString());
+        claims.setIssuer("ApacheSyncope");
+        claims.setSubject("rossini");
+        claims.setExpiryTime(expiryTime);
+        return claims;
+    }
+
+    @Test
+    public void hit() {
+        JWTAuthorizationCache cache = new JWTAuthorizationCache(60, 10);
+        JwtClaims claims = claims(System.currentTimeMillis() / 1000L + 3600);
+
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        cache.put(cache.getGeneration(), SyncopeConstants.MASTER_DOMAIN, claims, "userKey", "rossini", AUTHORITIES);
+        Pair<String, Set<SyncopeGrantedAuthority>> cached = cache.get(SyncopeConstants.MASTER_DOMAIN, claims);
+        assertNotNull(cached);
+        assertEquals("rossini", cached.getLeft());
+        assertEquals(AUTHORITIES, cached.getRight());
+
+        assertNull(cache.get("Two", claims));
+    }
+
+    @Test
+    public void cappedAtTokenExpiry() {
+        JWTAuthorizationCache cache = new JWTAuthorizationCache(60, 10);
+        JwtClaims claims = claims(System.currentTimeMillis() / 1000L - 1);
+
+        cache.put(cache.getGeneration(), SyncopeConstants.MASTER_DOMAIN, claims, "userKey", "rossini", AUTHORITIES);
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+    }
+
+    @Test
+    public void invalidation() {
+        JWTAuthorizationCache cache = new JWTAuthorizationCache(60, 10);
+        JwtClaims claims = claims(System.currentTimeMillis() / 1000L + 3600);
+
+        long generation = cache.getGeneration();
+        cache.after(new AuthorizationsChangedEvent(this, SyncopeConstants.MASTER_DOMAIN));
+        // resolved before invalidation: not cached
+        cache.put(generation, SyncopeConstants.MASTER_DOMAIN, claims, "userKey", "rossini", AUTHORITIES);
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        cache.put(cache.getGeneration(), SyncopeConstants.MASTER_DOMAIN, claims, "userKey", "rossini", AUTHORITIES);
+        cache.after(new DynMembersChangedEvent(
+                this, Collections.singleton("otherKey"), SyncopeConstants.MASTER_DOMAIN));
+        assertNotNull(cache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        cache.after(new DynMembersChangedEvent(
+                this, Collections.singleton("userKey"), SyncopeConstants.MASTER_DOMAIN));
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        cache.put(cache.getGeneration(), SyncopeConstants.MASTER_DOMAIN, claims, "userKey", "rossini", AUTHORITIES);
+        cache.after(new AuthorizationsChangedEvent(this, SyncopeConstants.MASTER_DOMAIN, "rossini"));
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+    }
+}
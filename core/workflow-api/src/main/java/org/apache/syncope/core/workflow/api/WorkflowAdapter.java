@@ -18,9 +18,12 @@
  */
 package org.apache.syncope.core.workflow.api;
 
+import java.util.Date;
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.to.WorkflowFormTO;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.provisioning.api.WorkflowResult;
 
 public interface WorkflowAdapter {
@@ -31,11 +34,21 @@ public interface WorkflowAdapter {
     String getPrefix();
 
     /**
-     * Get all defined forms for current workflow process instances.
+     * Get the forms defined for current workflow process instances, available to the caller and matching the given
+     * conditions; only the forms in the requested page are built.
      *
-     * @return list of defined forms
+     * @param page search page
+     * @param size search page size
+     * @param orderByClauses ordering clauses
+     * @param candidateGroup (optional) candidate group
+     * @param formKey (optional) form key
+     * @param createdAfter (optional) lower bound for creation time
+     * @param createdBefore (optional) upper bound for creation time
+     * @return total number of matching forms, and forms in the requested page
      */
-    List<WorkflowFormTO> getForms();
+    Pair<Integer, List<WorkflowFormTO>> getForms(
+            int page, int size, List<OrderByClause> orderByClauses,
+            String candidateGroup, String formKey, Date createdAfter, Date createdBefore);
 
     /**
      * Get form for given workflowId (if present).
@@ -26,10 +26,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Resource;
@@ -51,6 +53,7 @@ import org.apache.syncope.core.spring.BeanUtils;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.WorkflowResult;
 import org.apache.syncope.core.workflow.flowable.spring.DomainProcessEngine;
@@ -59,10 +62,10 @@ import org.apache.syncope.core.workflow.api.WorkflowException;
 import org.apache.syncope.core.workflow.java.AbstractUserWorkflowAdapter;
 import org.flowable.bpmn.converter.BpmnXMLConverter;
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.UserTask;
 import org.flowable.editor.constants.ModelDataJsonConstants;
 import org.flowable.editor.language.json.converter.BpmnJsonConverter;
 import org.flowable.engine.common.api.FlowableException;
-import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.form.FormProperty;
 import org.flowable.engine.form.FormType;
 import org.flowable.engine.form.TaskFormData;
@@ -74,6 +77,8 @@ import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Task;
+import org.flowable.engine.task.TaskInfo;
+import org.flowable.engine.task.TaskQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -594,43 +599,118 @@ public class FlowableUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
         return formTO;
     }
 
+    /**
+     * Finds the user task declaring the given form key in the main process definition.
+     *
+     * @param formKey form key
+     * @return key of the user task declaring the given form key, if found
+     */
+    protected Optional<String> getTaskDefinitionKey(final String formKey) {
+        BpmnModel model = engine.getRepositoryService().
+                getBpmnModel(getProcessDefinitionByKey(WF_PROCESS_ID).getId());
+        return model.getMainProcess().findFlowElementsOfType(UserTask.class).stream().
+                filter(userTask -> formKey.equals(userTask.getFormKey())).
+                map(UserTask::getId).
+                findFirst();
+    }
+
+    protected void setOrderBy(final TaskQuery query, final List<OrderByClause> orderByClauses) {
+        boolean ordered = false;
+        for (OrderByClause clause : orderByClauses) {
+            boolean valid = true;
+            switch (clause.getField().trim()) {
+                case "createTime":
+                    query.orderByTaskCreateTime();
+                    break;
+
+                case "dueDate":
+                    query.orderByTaskDueDate();
+                    break;
+
+                case "taskId":
+                    query.orderByTaskId();
+                    break;
+
+                case "owner":
+                    query.orderByTaskOwner();
+                    break;
+
+                default:
+                    LOG.warn("Form sort request by {}: unsupported, ignoring", clause.getField().trim());
+                    valid = false;
+            }
+            if (valid) {
+                if (clause.getDirection() == OrderByClause.Direction.ASC) {
+                    query.asc();
+                } else {
+                    query.desc();
+                }
+                ordered = true;
+            }
+        }
+
+        if (!ordered) {
+            query.orderByTaskCreateTime().asc();
+        }
+    }
+
     @Transactional(readOnly = true)
     @Override
-    public List<WorkflowFormTO> getForms() {
-        List<WorkflowFormTO> forms = new ArrayList<>();
+    public Pair<Integer, List<WorkflowFormTO>> getForms(
+            final int page, final int size, final List<OrderByClause> orderByClauses,
+            final String candidateGroup, final String formKey, final Date createdAfter, final Date createdBefore) {
+
+        TaskQuery query = engine.getTaskService().createTaskQuery().
+                taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE);
 
         String authUser = AuthContextUtils.getUsername();
-        if (adminUser.equals(authUser)) {
-            forms.addAll(getForms(engine.getTaskService().createTaskQuery().
-                    taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE)));
-        } else {
+        if (!adminUser.equals(authUser)) {
             User user = userDAO.findByUsername(authUser);
             if (user == null) {
                 throw new NotFoundException("Syncope User " + authUser);
             }
 
-            forms.addAll(getForms(engine.getTaskService().createTaskQuery().
-                    taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE).
-                    taskCandidateOrAssigned(user.getKey())));
-
-            List<String> candidateGroups = new ArrayList<>();
-            userDAO.findAllGroupNames(user).forEach(group -> {
-                candidateGroups.add(group);
-            });
-            if (!candidateGroups.isEmpty()) {
-                forms.addAll(getForms(engine.getTaskService().createTaskQuery().
-                        taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE).
-                        taskCandidateGroupIn(candidateGroups)));
+            List<String> candidateGroups = new ArrayList<>(userDAO.findAllGroupNames(user));
+            if (candidateGroups.isEmpty()) {
+                query.taskCandidateOrAssigned(user.getKey());
+            } else {
+                query.or().
+                        taskCandidateOrAssigned(user.getKey()).
+                        taskCandidateGroupIn(candidateGroups).
+                        endOr();
             }
         }
 
-        return forms;
+        if (StringUtils.isNotBlank(candidateGroup)) {
+            query.taskCandidateGroup(candidateGroup);
+        }
+        if (StringUtils.isNotBlank(formKey)) {
+            Optional<String> taskDefinitionKey = getTaskDefinitionKey(formKey);
+            if (!taskDefinitionKey.isPresent()) {
+                return Pair.of(0, Collections.<WorkflowFormTO>emptyList());
+            }
+            query.taskDefinitionKey(taskDefinitionKey.get());
+        }
+        if (createdAfter != null) {
+            query.taskCreatedAfter(createdAfter);
+        }
+        if (createdBefore != null) {
+            query.taskCreatedBefore(createdBefore);
+        }
+
+        int count = (int) query.count();
+
+        setOrderBy(query, orderByClauses);
+        // page starts from 1, while listPage() starts from 0
+        List<WorkflowFormTO> forms = getForms(query.listPage(size * (page <= 0 ? 0 : page - 1), size));
+
+        return Pair.of(count, forms);
     }
 
-    protected <T extends Query<?, ?>, U extends Object> List<WorkflowFormTO> getForms(final Query<T, U> query) {
+    protected List<WorkflowFormTO> getForms(final List<? extends TaskInfo> tasks) {
         List<WorkflowFormTO> forms = new ArrayList<>();
 
-        query.list().forEach(obj -> {
+        tasks.forEach(obj -> {
             try {
                 if (obj instanceof HistoricTaskInstance) {
                     forms.add(getFormTO((HistoricTaskInstance) obj));
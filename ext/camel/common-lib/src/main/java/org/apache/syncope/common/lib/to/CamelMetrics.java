@@ -61,8 +61,128 @@ public class CamelMetrics extends AbstractBaseBean {
 
     }
 
+    @XmlRootElement(name = "routeStats")
+    @XmlType
+    public static class RouteStats extends AbstractBaseBean {
+
+        private static final long serialVersionUID = 5246137932146290474L;
+
+        private String routeId;
+
+        private String state;
+
+        private long exchangesCompleted;
+
+        private long exchangesFailed;
+
+        private int exchangesInflight;
+
+        private long minProcessingTime;
+
+        private long meanProcessingTime;
+
+        private long maxProcessingTime;
+
+        private long lastProcessingTime;
+
+        private double meanRate;
+
+        private double oneMinuteRate;
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public void setRouteId(final String routeId) {
+            this.routeId = routeId;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public void setState(final String state) {
+            this.state = state;
+        }
+
+        public long getExchangesCompleted() {
+            return exchangesCompleted;
+        }
+
+        public void setExchangesCompleted(final long exchangesCompleted) {
+            this.exchangesCompleted = exchangesCompleted;
+        }
+
+        public long getExchangesFailed() {
+            return exchangesFailed;
+        }
+
+        public void setExchangesFailed(final long exchangesFailed) {
+            this.exchangesFailed = exchangesFailed;
+        }
+
+        public int getExchangesInflight() {
+            return exchangesInflight;
+        }
+
+        public void setExchangesInflight(final int exchangesInflight) {
+            this.exchangesInflight = exchangesInflight;
+        }
+
+        public long getMinProcessingTime() {
+            return minProcessingTime;
+        }
+
+        public void setMinProcessingTime(final long minProcessingTime) {
+            this.minProcessingTime = minProcessingTime;
+        }
+
+        public long getMeanProcessingTime() {
+            return meanProcessingTime;
+        }
+
+        public void setMeanProcessingTime(final long meanProcessingTime) {
+            this.meanProcessingTime = meanProcessingTime;
+        }
+
+        public long getMaxProcessingTime() {
+            return maxProcessingTime;
+        }
+
+        public void setMaxProcessingTime(final long maxProcessingTime) {
+            this.maxProcessingTime = maxProcessingTime;
+        }
+
+        public long getLastProcessingTime() {
+            return lastProcessingTime;
+        }
+
+        public void setLastProcessingTime(final long lastProcessingTime) {
+            this.lastProcessingTime = lastProcessingTime;
+        }
+
+        public double getMeanRate() {
+            return meanRate;
+        }
+
+        public void setMeanRate(final double meanRate) {
+            this.meanRate = meanRate;
+        }
+
+        public double getOneMinuteRate() {
+            return oneMinuteRate;
+        }
+
+        public void setOneMinuteRate(final double oneMinuteRate) {
+            this.oneMinuteRate = oneMinuteRate;
+        }
+
+    }
+
     private final List<MeanRate> responseMeanRates = new ArrayList<>();
 
+    private final List<RouteStats> routeStats = new ArrayList<>();
+
     @XmlElementWrapper(name = "responseMeanRates")
     @XmlElement(name = "meanRate")
     @JsonProperty("responseMeanRates")
@@ -70,4 +190,11 @@ public class CamelMetrics extends AbstractBaseBean {
         return responseMeanRates;
     }
 
+    @XmlElementWrapper(name = "routeStats")
+    @XmlElement(name = "routeStats")
+    @JsonProperty("routeStats")
+    public List<RouteStats> getRouteStats() {
+        return routeStats;
+    }
+
 }
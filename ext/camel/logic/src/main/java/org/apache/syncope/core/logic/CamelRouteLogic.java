@@ -19,12 +19,18 @@
 package org.apache.syncope.core.logic;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.api.management.mbean.ManagedRouteMBean;
 import org.apache.camel.component.metrics.routepolicy.MetricsRegistryService;
+import org.apache.camel.spring.SpringCamelContext;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.CamelMetrics;
@@ -92,7 +98,13 @@ public class CamelRouteLogic extends AbstractTransactionalLogic<CamelRouteTO> {
         } catch (CamelException e) {
             // if an exception was thrown while updating the context, restore the former route definition
             LOG.debug("Update of route {} failed, reverting", routeTO.getKey());
-            context.restoreRoute(routeTO.getKey(), originalContent);
+            try {
+                context.restoreRoute(routeTO.getKey(), originalContent);
+            } catch (RuntimeException re) {
+                // keep reporting the update failure, which is what the caller needs to know about
+                LOG.error("Could not restore route {}", routeTO.getKey(), re);
+                e.addSuppressed(re);
+            }
 
             throw e;
         }
@@ -107,17 +119,22 @@ public class CamelRouteLogic extends AbstractTransactionalLogic<CamelRouteTO> {
     public CamelMetrics metrics() {
         CamelMetrics metrics = new CamelMetrics();
 
-        MetricsRegistryService registryService = context.getContext().hasService(MetricsRegistryService.class);
+        SpringCamelContext camelContext = context.getContext();
+
+        Map<String, Timer> timers = new HashMap<>();
+        MetricsRegistryService registryService = camelContext.hasService(MetricsRegistryService.class);
         if (registryService == null) {
             LOG.warn("Camel metrics not available");
         } else {
             MetricRegistry registry = registryService.getMetricsRegistry();
-            registry.getTimers().entrySet().stream().map(entry -> {
+            registry.getTimers().forEach((key, timer) -> {
+                timers.put(StringUtils.substringBetween(key, ".", "."), timer);
+            });
+
+            timers.forEach((routeId, timer) -> {
                 CamelMetrics.MeanRate meanRate = new CamelMetrics.MeanRate();
-                meanRate.setRouteId(StringUtils.substringBetween(entry.getKey(), ".", "."));
-                meanRate.setValue(entry.getValue().getMeanRate());
-                return meanRate;
-            }).forEachOrdered(meanRate -> {
+                meanRate.setRouteId(routeId);
+                meanRate.setValue(timer.getMeanRate());
                 metrics.getResponseMeanRates().add(meanRate);
             });
 
@@ -126,6 +143,35 @@ public class CamelRouteLogic extends AbstractTransactionalLogic<CamelRouteTO> {
                             compare(o1.getValue(), o2.getValue()));
         }
 
+        camelContext.getRoutes().forEach(route -> {
+            CamelMetrics.RouteStats stats = new CamelMetrics.RouteStats();
+            stats.setRouteId(route.getId());
+
+            ManagedRouteMBean managed = camelContext.getManagedRoute(route.getId(), ManagedRouteMBean.class);
+            if (managed == null) {
+                ServiceStatus status = camelContext.getRouteStatus(route.getId());
+                stats.setState(status == null ? null : status.name());
+            } else {
+                stats.setState(managed.getState());
+                stats.setExchangesCompleted(managed.getExchangesCompleted());
+                stats.setExchangesFailed(managed.getExchangesFailed());
+                stats.setExchangesInflight(managed.getInflightExchanges());
+                stats.setMinProcessingTime(managed.getMinProcessingTime());
+                stats.setMeanProcessingTime(managed.getMeanProcessingTime());
+                stats.setMaxProcessingTime(managed.getMaxProcessingTime());
+                stats.setLastProcessingTime(managed.getLastProcessingTime());
+            }
+
+            Timer timer = timers.get(route.getId());
+            if (timer != null) {
+                stats.setMeanRate(timer.getMeanRate());
+                stats.setOneMinuteRate(timer.getOneMinuteRate());
+            }
+
+            metrics.getRouteStats().add(stats);
+        });
+        Collections.sort(metrics.getRouteStats(), Comparator.comparing(CamelMetrics.RouteStats::getRouteId));
+
         return metrics;
     }
 
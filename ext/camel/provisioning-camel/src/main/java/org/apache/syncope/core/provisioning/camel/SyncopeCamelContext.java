@@ -22,11 +22,13 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.Unmarshaller;
+import org.apache.camel.ServiceStatus;
 import org.apache.camel.component.metrics.routepolicy.MetricsRoutePolicyFactory;
 import org.apache.camel.model.Constants;
 import org.apache.camel.model.RouteDefinition;
@@ -47,6 +49,10 @@ import org.w3c.dom.ls.DOMImplementationLS;
 import org.w3c.dom.ls.LSInput;
 import org.w3c.dom.ls.LSParser;
 
+/**
+ * Holds the Camel context for provisioning; routes are loaded on first access, then swapped one by one as they
+ * change, so that exchanges flowing through other routes are never interrupted.
+ */
 @Component
 public class SyncopeCamelContext {
 
@@ -57,6 +63,11 @@ public class SyncopeCamelContext {
 
     private SpringCamelContext camelContext;
 
+    /**
+     * Content of the routes currently loaded, by route key.
+     */
+    private final Map<String, String> loaded = new ConcurrentHashMap<>();
+
     public SpringCamelContext getContext() {
         synchronized (this) {
             if (camelContext == null) {
@@ -65,24 +76,25 @@ public class SyncopeCamelContext {
                 camelContext.setAllowUseOriginalMessage(false);
                 camelContext.addRoutePolicyFactory(new MetricsRoutePolicyFactory());
             }
-        }
 
-        if (camelContext.getRouteDefinitions().isEmpty()) {
-            List<CamelRoute> routes = routeDAO.findAll();
-            LOG.debug("{} route(s) are going to be loaded ", routes.size());
-            loadContext(routes.stream().map(input -> input.getContent()).collect(Collectors.toList()));
-            try {
-                camelContext.start();
-            } catch (Exception e) {
-                LOG.error("While starting Camel context", e);
-                throw new CamelException(e);
+            if (camelContext.getRouteDefinitions().isEmpty()) {
+                List<CamelRoute> routes = routeDAO.findAll();
+                LOG.debug("{} route(s) are going to be loaded ", routes.size());
+                loadContext(routes);
+                try {
+                    camelContext.start();
+                } catch (Exception e) {
+                    LOG.error("While starting Camel context", e);
+                    throw new CamelException(e);
+                }
             }
         }
 
         return camelContext;
     }
 
-    private void loadContext(final Collection<String> routes) {
+    private RouteDefinition parse(final String route) {
+        InputStream input = null;
         try {
             DOMImplementationRegistry reg = DOMImplementationRegistry.newInstance();
             DOMImplementationLS domImpl = (DOMImplementationLS) reg.getDOMImplementation("LS");
@@ -90,57 +102,138 @@ public class SyncopeCamelContext {
 
             JAXBContext jaxbContext = JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES);
             Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+
+            input = IOUtils.toInputStream(route, StandardCharsets.UTF_8);
+            LSInput lsinput = domImpl.createLSInput();
+            lsinput.setByteStream(input);
+
+            Node routeElement = parser.parse(lsinput).getDocumentElement();
+            return unmarshaller.unmarshal(routeElement, RouteDefinition.class).getValue();
+        } catch (Exception e) {
+            LOG.error("While parsing Camel route {}", route, e);
+            throw new CamelException(e);
+        } finally {
+            IOUtils.closeQuietly(input);
+        }
+    }
+
+    private void loadContext(final Collection<CamelRoute> routes) {
+        try {
             List<RouteDefinition> routeDefs = new ArrayList<>();
-            for (String route : routes) {
-                InputStream input = null;
-                try {
-                    input = IOUtils.toInputStream(route, StandardCharsets.UTF_8);
-                    LSInput lsinput = domImpl.createLSInput();
-                    lsinput.setByteStream(input);
-
-                    Node routeElement = parser.parse(lsinput).getDocumentElement();
-                    routeDefs.add(unmarshaller.unmarshal(routeElement, RouteDefinition.class).getValue());
-                } finally {
-                    IOUtils.closeQuietly(input);
-                }
+            for (CamelRoute route : routes) {
+                routeDefs.add(parse(route.getContent()));
             }
             camelContext.addRouteDefinitions(routeDefs);
+
+            routes.forEach(route -> loaded.put(route.getKey(), route.getContent()));
+        } catch (CamelException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("While loading Camel context {}", e);
             throw new CamelException(e);
         }
     }
 
-    @Transactional(propagation = Propagation.SUPPORTS)
-    public void updateContext(final String routeKey) {
-        if (camelContext == null) {
-            getContext();
-        } else if (!camelContext.getRouteDefinitions().isEmpty()) {
-            camelContext.getRouteDefinitions().remove(camelContext.getRouteDefinition(routeKey));
-            loadContext(Collections.singletonList(routeDAO.find(routeKey).getContent()));
+    /**
+     * Replaces the given route, if its content has changed; only such route is stopped and restarted.
+     *
+     * @param routeKey route key
+     * @param routeContent new route content
+     * @param force whether to replace the route even if its content looks unchanged
+     */
+    private void swapRoute(final String routeKey, final String routeContent, final boolean force) {
+        if (!force && routeContent.equals(loaded.get(routeKey))) {
+            LOG.debug("Route {} unchanged, nothing to do", routeKey);
+            return;
         }
-    }
 
-    public void restoreRoute(final String routeKey, final String routeContent) {
+        // parse first, so that invalid content does not affect the running route
+        RouteDefinition routeDef = parse(routeContent);
         try {
-            camelContext.getRouteDefinitions().remove(camelContext.getRouteDefinition(routeKey));
-            loadContext(Collections.singletonList(routeContent));
+            loaded.remove(routeKey);
 
-            camelContext.start();
+            RouteDefinition current = camelContext.getRouteDefinition(routeKey);
+            if (current != null) {
+                camelContext.removeRouteDefinition(current);
+            }
+            camelContext.addRouteDefinition(routeDef);
+
+            loaded.put(routeKey, routeContent);
+            LOG.debug("Route {} successfully {}", routeKey, current == null ? "added" : "replaced");
         } catch (Exception e) {
-            LOG.error("While restoring Camel route {}", routeKey, e);
+            LOG.error("While replacing Camel route {}", routeKey, e);
             throw new CamelException(e);
         }
     }
 
-    public void restartContext() {
+    private void removeRoute(final String routeKey) {
         try {
-            camelContext.stop();
-            camelContext.start();
+            RouteDefinition current = camelContext.getRouteDefinition(routeKey);
+            if (current != null) {
+                camelContext.removeRouteDefinition(current);
+            }
+            loaded.remove(routeKey);
+            LOG.debug("Route {} successfully removed", routeKey);
         } catch (Exception e) {
-            LOG.error("While restarting Camel context", e);
+            LOG.error("While removing Camel route {}", routeKey, e);
             throw new CamelException(e);
         }
     }
 
+    private boolean isRouteStarted(final String routeKey) {
+        ServiceStatus status = camelContext.getRouteStatus(routeKey);
+        return status != null && status.isStarted();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void updateContext(final String routeKey) {
+        synchronized (this) {
+            if (camelContext == null) {
+                getContext();
+            } else if (!camelContext.getRouteDefinitions().isEmpty()) {
+                swapRoute(routeKey, routeDAO.find(routeKey).getContent(), false);
+            }
+        }
+    }
+
+    public void restoreRoute(final String routeKey, final String routeContent) {
+        synchronized (this) {
+            swapRoute(routeKey, routeContent, true);
+        }
+    }
+
+    /**
+     * Aligns the running routes with the stored ones: added, updated and removed routes are handled one by one,
+     * without restarting the whole context; any loaded route which is not started is started again.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void restartContext() {
+        synchronized (this) {
+            if (camelContext == null || camelContext.getRouteDefinitions().isEmpty()) {
+                getContext();
+                return;
+            }
+
+            Map<String, String> stored = routeDAO.findAll().stream().
+                    collect(Collectors.toMap(CamelRoute::getKey, CamelRoute::getContent));
+
+            new ArrayList<>(loaded.keySet()).stream().
+                    filter(routeKey -> !stored.containsKey(routeKey)).
+                    forEach(this::removeRoute);
+
+            // unchanged routes which were stopped or failed to start are replaced as well, so that they get started
+            boolean contextStarted = camelContext.getStatus().isStarted();
+            stored.forEach((routeKey, routeContent) -> swapRoute(
+                    routeKey, routeContent, contextStarted && !isRouteStarted(routeKey)));
+
+            if (!contextStarted) {
+                try {
+                    camelContext.start();
+                } catch (Exception e) {
+                    LOG.error("While starting Camel context", e);
+                    throw new CamelException(e);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.camel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.camel.Route;
+import org.apache.camel.spring.SpringCamelContext;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.CamelRouteDAO;
+import org.apache.syncope.core.persistence.api.entity.CamelRoute;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SyncopeCamelContextTest {
+
+    private static class TestCamelRoute implements CamelRoute {
+
+        private static final long serialVersionUID = -7461270716519488017L;
+
+        private String key;
+
+        private AnyTypeKind anyTypeKind = AnyTypeKind.USER;
+
+        private String content;
+
+        TestCamelRoute(final String key, final String content) {
+            this.key = key;
+            this.content = content;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public void setKey(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public AnyTypeKind getAnyTypeKind() {
+            return anyTypeKind;
+        }
+
+        @Override
+        public void setAnyTypeKind(final AnyTypeKind anyTypeKind) {
+            this.anyTypeKind = anyTypeKind;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public void setContent(final String routeContent) {
+            this.content = routeContent;
+        }
+    }
+
+    private static class TestCamelRouteDAO implements CamelRouteDAO {
+
+        private final Map<String, CamelRoute> routes = new ConcurrentHashMap<>();
+
+        @Override
+        public CamelRoute find(final String key) {
+            return routes.get(key);
+        }
+
+        @Override
+        public List<CamelRoute> find(final AnyTypeKind anyTypeKind) {
+            return routes.values().stream().
+                    filter(route -> route.getAnyTypeKind() == anyTypeKind).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<CamelRoute> findAll() {
+            return new ArrayList<>(routes.values());
+        }
+
+        @Override
+        public CamelRoute save(final CamelRoute route) {
+            routes.put(route.getKey(), route);
+            return route;
+        }
+
+        @Override
+        public void delete(final String key) {
+            routes.remove(key);
+        }
+
+        @Override
+        public void refresh(final CamelRoute entity) {
+            // nothing to do
+        }
+
+        @Override
+        public void detach(final CamelRoute entity) {
+            // nothing to do
+        }
+
+        @Override
+        public void flush() {
+            // nothing to do
+        }
+
+        @Override
+        public void clear() {
+            // nothing to do
+        }
+    }
+
+    private static String route(final String key, final String reply) {
+        return "<route id=\"" + key + "\">\n"
+                + "  <from uri=\"direct:" + key + "\"/>\n"
+                + "  <transform><constant>" + reply + "</constant></transform>\n"
+                + "</route>";
+    }
+
+    private StaticApplicationContext ctx;
+
+    private TestCamelRouteDAO routeDAO;
+
+    private SyncopeCamelContext syncopeCamelContext;
+
+    @Before
+    public void setUp() {
+        ctx = new StaticApplicationContext();
+        ctx.refresh();
+        new ApplicationContextProvider().setApplicationContext(ctx);
+
+        routeDAO = new TestCamelRouteDAO();
+        routeDAO.save(new TestCamelRoute("first", route("first", "one")));
+        routeDAO.save(new TestCamelRoute("second", route("second", "two")));
+
+        syncopeCamelContext = new SyncopeCamelContext();
+        ReflectionTestUtils.setField(syncopeCamelContext, "routeDAO", routeDAO);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        syncopeCamelContext.getContext().stop();
+        ctx.close();
+    }
+
+    private String call(final String key) {
+        return syncopeCamelContext.getContext().createProducerTemplate().
+                requestBody("direct:" + key, "request", String.class);
+    }
+
+    @Test
+    public void load() {
+        SpringCamelContext camelContext = syncopeCamelContext.getContext();
+        assertTrue(camelContext.getStatus().isStarted());
+        assertEquals(2, camelContext.getRoutes().size());
+        assertEquals("one", call("first"));
+        assertEquals("two", call("second"));
+    }
+
+    @Test
+    public void addRoute() {
+        SpringCamelContext camelContext = syncopeCamelContext.getContext();
+        Route first = camelContext.getRoute("first");
+        Route second = camelContext.getRoute("second");
+
+        routeDAO.save(new TestCamelRoute("third", route("third", "three")));
+        syncopeCamelContext.restartContext();
+
+        assertTrue(camelContext.getRouteStatus("third").isStarted());
+        assertEquals("three", call("third"));
+
+        // other routes were left untouched
+        assertSame(first, camelContext.getRoute("first"));
+        assertSame(second, camelContext.getRoute("second"));
+    }
+
+    @Test
+    public void updateRoute() {
+        SpringCamelContext camelContext = syncopeCamelContext.getContext();
+        Route first = camelContext.getRoute("first");
+        Route second = camelContext.getRoute("second");
+
+        routeDAO.find("second").setContent(route("second", "deux"));
+        syncopeCamelContext.updateContext("second");
+
+        assertNotSame(second, camelContext.getRoute("second"));
+        assertTrue(camelContext.getRouteStatus("second").isStarted());
+        assertEquals("deux", call("second"));
+        assertSame(first, camelContext.getRoute("first"));
+
+        // unchanged content: nothing is replaced
+        second = camelContext.getRoute("second");
+        syncopeCamelContext.updateContext("second");
+        assertSame(second, camelContext.getRoute("second"));
+    }
+
+    @Test(expected = CamelException.class)
+    public void updateRouteWithInvalidContent() {
+        SpringCamelContext camelContext = syncopeCamelContext.getContext();
+        Route second = camelContext.getRoute("second");
+
+        routeDAO.find("second").setContent("<route id=\"second\">");
+        try {
+            syncopeCamelContext.updateContext("second");
+        } finally {
+            // the running route is kept as is
+            assertSame(second, camelContext.getRoute("second"));
+            assertEquals("two", call("second"));
+        }
+    }
+
+    @Test
+    public void removeRoute() {
+        SpringCamelContext camelContext = syncopeCamelContext.getContext();
+        Route first = camelContext.getRoute("first");
+
+        routeDAO.delete("second");
+        syncopeCamelContext.restartContext();
+
+        assertNull(camelContext.getRoute("second"));
+        assertNull(camelContext.getRouteDefinition("second"));
+        assertSame(first, camelContext.getRoute("first"));
+        assertEquals("one", call("first"));
+    }
+
+    @Test
+    public void restartStoppedRoute() throws Exception {
+        SpringCamelContext camelContext = syncopeCamelContext.getContext();
+        Route second = camelContext.getRoute("second");
+
+        camelContext.stopRoute("first");
+        assertNotNull(camelContext.getRouteStatus("first"));
+        assertTrue(camelContext.getRouteStatus("first").isStopped());
+
+        syncopeCamelContext.restartContext();
+
+        assertTrue(camelContext.getRouteStatus("first").isStarted());
+        assertEquals("one", call("first"));
+        assertSame(second, camelContext.getRoute("second"));
+    }
+}
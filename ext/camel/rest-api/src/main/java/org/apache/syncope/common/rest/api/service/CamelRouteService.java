@@ -71,14 +71,15 @@ public interface CamelRouteService extends JAXRSService {
     void update(@NotNull CamelRouteTO route);
 
     /**
-     * Restart the underlying Apache Camel context.
+     * Aligns the underlying Apache Camel context with the stored routes: only added, updated or removed routes
+     * are affected, the context itself is not restarted.
      */
     @POST
     @Path("restartContext")
     void restartContext();
 
     /**
-     * Provides Camel metrics.
+     * Provides Camel metrics: mean response rates and per-route statistics.
      *
      * @return Camel metrics
      */
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.elasticsearch.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.rest.RestStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BulkProcessor.Listener} logging outcome of each bulk request and counting failed actions; version conflicts
+ * are counted apart, as they are expected when creating documents which might have been already indexed.
+ */
+public class ElasticsearchBulkListener implements BulkProcessor.Listener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkListener.class);
+
+    private final AtomicLong succeeded = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong conflicts = new AtomicLong();
+
+    @Override
+    public void beforeBulk(final long executionId, final BulkRequest request) {
+        LOG.debug("Executing bulk #{} with {} actions", executionId, request.numberOfActions());
+    }
+
+    @Override
+    public void afterBulk(final long executionId, final BulkRequest request, final BulkResponse response) {
+        if (response.hasFailures()) {
+            long failures = Arrays.stream(response.getItems()).filter(item -> item.isFailed()).count();
+            long conflicting = Arrays.stream(response.getItems()).
+                    filter(item -> item.isFailed() && item.getFailure().getStatus() == RestStatus.CONFLICT).count();
+            failed.addAndGet(failures - conflicting);
+            conflicts.addAndGet(conflicting);
+            succeeded.addAndGet(request.numberOfActions() - failures);
+
+            if (failures > conflicting) {
+                LOG.error("Bulk #{} completed with {} failures: {}",
+                        executionId, failures - conflicting, response.buildFailureMessage());
+            } else {
+                LOG.debug("Bulk #{} completed with {} version conflicts", executionId, conflicting);
+            }
+        } else {
+            succeeded.addAndGet(request.numberOfActions());
+
+            LOG.debug("Bulk #{} successfully completed in {}", executionId, response.getTook());
+        }
+    }
+
+    @Override
+    public void afterBulk(final long executionId, final BulkRequest request, final Throwable failure) {
+        failed.addAndGet(request.numberOfActions());
+
+        LOG.error("Bulk #{} with {} actions failed", executionId, request.numberOfActions(), failure);
+    }
+
+    public long getSucceeded() {
+        return succeeded.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getConflicts() {
+        return conflicts.get();
+    }
+}
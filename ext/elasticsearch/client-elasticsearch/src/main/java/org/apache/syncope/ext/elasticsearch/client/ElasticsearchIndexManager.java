@@ -19,75 +19,202 @@
 package org.apache.syncope.ext.elasticsearch.client;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
 import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.apache.syncope.core.provisioning.api.event.DynMembersChangedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
-import org.elasticsearch.action.delete.DeleteResponse;
-import org.elasticsearch.action.get.GetResponse;
-import org.elasticsearch.action.index.IndexResponse;
-import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.client.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listen to any create / update and delete in order to keep the Elasticsearch indexes consistent.
+ * Documents are built in the committing thread, then queued to a {@link BulkProcessor} which sends them to
+ * Elasticsearch in batches.
+ *
+ * While an index is being rebuilt for a domain, each action is also sent to the new index, and the keys of deleted
+ * anys are recorded, so that they can be replayed once the new index is fully populated.
  */
-public class ElasticsearchIndexManager {
+public class ElasticsearchIndexManager implements DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchIndexManager.class);
 
+    private static final int BULK_SIZE = 500;
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
     @Autowired
     private Client client;
 
     @Autowired
     private ElasticsearchUtils elasticsearchUtils;
 
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
+    private final ElasticsearchBulkListener listener = new ElasticsearchBulkListener();
+
+    private BulkProcessor bulkProcessor;
+
+    private final Map<String, Reindexing> reindexing = new ConcurrentHashMap<>();
+
+    private synchronized BulkProcessor getBulkProcessor() {
+        if (bulkProcessor == null) {
+            bulkProcessor = elasticsearchUtils.bulkProcessor(client, listener);
+        }
+        return bulkProcessor;
+    }
+
+    /**
+     * Single create-or-replace request: no need to check whether the document already exists.
+     *
+     * @param any user, group or any object to index
+     * @return index request for the given any
+     * @throws IOException in case of errors while building the document
+     */
+    private IndexRequest indexRequest(final Any<?> any) throws IOException {
+        return client.prepareIndex(
+                AuthContextUtils.getDomain().toLowerCase(),
+                any.getType().getKind().name(),
+                any.getKey()).
+                setSource(elasticsearchUtils.builder(any)).
+                request();
+    }
+
+    private void add(final IndexRequest request) {
+        getBulkProcessor().add(request);
+
+        Reindexing current = reindexing.get(AuthContextUtils.getDomain());
+        if (current != null) {
+            getBulkProcessor().add(new IndexRequest(current.index, request.type(), request.id()).
+                    source(request.source(), request.getContentType()));
+        }
+    }
+
+    private void add(final DeleteRequest request) {
+        getBulkProcessor().add(request);
+
+        Reindexing current = reindexing.get(AuthContextUtils.getDomain());
+        if (current != null) {
+            current.deleted.add(Pair.of(request.type(), request.id()));
+            getBulkProcessor().add(new DeleteRequest(current.index, request.type(), request.id()));
+        }
+    }
+
+    /**
+     * Starts sending each action for the current domain also to the given index.
+     *
+     * @param index index being rebuilt
+     */
+    public void startReindex(final String index) {
+        reindexing.put(AuthContextUtils.getDomain(), new Reindexing(index));
+    }
+
+    /**
+     * Returns the deletions recorded since {@link #startReindex(java.lang.String)} for the current domain; as the
+     * index being rebuilt might have been populated with some of such anys after they were deleted, these need
+     * to be deleted again from there.
+     *
+     * @return type and key of each any deleted since the rebuild started
+     */
+    public Set<Pair<String, String>> getReindexDeleted() {
+        Reindexing current = reindexing.get(AuthContextUtils.getDomain());
+        return current == null ? Collections.<Pair<String, String>>emptySet() : new HashSet<>(current.deleted);
+    }
+
+    /**
+     * Stops sending each action for the current domain also to the index being rebuilt.
+     */
+    public void stopReindex() {
+        reindexing.remove(AuthContextUtils.getDomain());
+    }
+
     @TransactionalEventListener
     public void after(final AnyCreatedUpdatedEvent<Any<?>> event) throws IOException {
-        GetResponse getResponse = client.prepareGet(AuthContextUtils.getDomain().toLowerCase(),
-                event.getAny().getType().getKind().name(),
-                event.getAny().getKey()).
-                get();
-        if (getResponse.isExists()) {
-            LOG.debug("About to update index for {}", event.getAny());
-
-            UpdateResponse response = client.prepareUpdate(
-                    AuthContextUtils.getDomain().toLowerCase(),
-                    event.getAny().getType().getKind().name(),
-                    event.getAny().getKey()).
-                    setRetryOnConflict(elasticsearchUtils.getRetryOnConflict()).
-                    setDoc(elasticsearchUtils.builder(event.getAny())).
-                    get();
-            LOG.debug("Index successfully updated for {}: {}", event.getAny(), response);
-        } else {
-            LOG.debug("About to create index for {}", event.getAny());
-
-            IndexResponse response = client.prepareIndex(
-                    AuthContextUtils.getDomain().toLowerCase(),
-                    event.getAny().getType().getKind().name(),
-                    event.getAny().getKey()).
-                    setSource(elasticsearchUtils.builder(event.getAny())).
-                    get();
-
-            LOG.debug("Index successfully created for {}: {}", event.getAny(), response);
+        LOG.debug("About to queue index update for {}", event.getAny());
+
+        add(indexRequest(event.getAny()));
+    }
+
+    @TransactionalEventListener
+    public void after(final DynMembersChangedEvent event) throws IOException {
+        LOG.debug("About to queue index update for {} dynamic members", event.getAnyKeys().size());
+
+        List<String> keys = new ArrayList<>(event.getAnyKeys());
+        for (int i = 0; i < keys.size(); i += BULK_SIZE) {
+            // the event does not tell users, groups and any objects apart
+            Set<String> chunk = new HashSet<>(keys.subList(i, Math.min(i + BULK_SIZE, keys.size())));
+            List<Any<?>> anys = new ArrayList<>(userDAO.findByKeys(chunk));
+            anys.forEach(any -> chunk.remove(any.getKey()));
+            if (!chunk.isEmpty()) {
+                anys.addAll(groupDAO.findByKeys(chunk));
+                anys.forEach(any -> chunk.remove(any.getKey()));
+            }
+            if (!chunk.isEmpty()) {
+                anys.addAll(anyObjectDAO.findByKeys(chunk));
+            }
+
+            for (Any<?> any : anys) {
+                add(indexRequest(any));
+            }
         }
     }
 
     @TransactionalEventListener
     public void after(final AnyDeletedEvent event) {
-        LOG.debug("About to delete index for {}[{}]", event.getAnyTypeKind(), event.getAnyKey());
+        LOG.debug("About to queue index delete for {}[{}]", event.getAnyTypeKind(), event.getAnyKey());
 
-        DeleteResponse response = client.prepareDelete(
+        add(new DeleteRequest(
                 AuthContextUtils.getDomain().toLowerCase(),
                 event.getAnyTypeKind().name(),
-                event.getAnyKey()).
-                get();
+                event.getAnyKey()));
+    }
 
-        LOG.debug("Index successfully deleted for {}[{}]: {}",
-                event.getAnyTypeKind(), event.getAnyKey(), response);
+    @Override
+    public void destroy() throws Exception {
+        synchronized (this) {
+            if (bulkProcessor != null) {
+                if (!bulkProcessor.awaitClose(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOG.warn("Pending bulk requests not completed within {} seconds", CLOSE_TIMEOUT_SECONDS);
+                }
+                LOG.debug("Index actions: {} succeeded, {} failed", listener.getSucceeded(), listener.getFailed());
+            }
+        }
+    }
+
+    private static class Reindexing {
+
+        private final String index;
+
+        private final Set<Pair<String, String>> deleted = ConcurrentHashMap.newKeySet();
+
+        Reindexing(final String index) {
+            this.index = index;
+        }
     }
 }
@@ -32,6 +32,12 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.client.Client;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,7 +59,13 @@ public class ElasticsearchUtils {
 
     private int indexMaxResultWindow = 10000;
 
-    private int retryOnConflict = 5;
+    private int bulkActions = 1000;
+
+    private int bulkSizeMB = 5;
+
+    private long flushInterval = 1000;
+
+    private int concurrentRequests = 1;
 
     public void setIndexMaxResultWindow(final int indexMaxResultWindow) {
         this.indexMaxResultWindow = indexMaxResultWindow;
@@ -63,12 +75,47 @@ public class ElasticsearchUtils {
         return indexMaxResultWindow;
     }
 
-    public void setRetryOnConflict(final int retryOnConflict) {
-        this.retryOnConflict = retryOnConflict;
+    public void setBulkActions(final int bulkActions) {
+        this.bulkActions = bulkActions;
+    }
+
+    public void setBulkSizeMB(final int bulkSizeMB) {
+        this.bulkSizeMB = bulkSizeMB;
+    }
+
+    /**
+     * @param flushInterval milliseconds after which pending actions are flushed, regardless of batch size
+     */
+    public void setFlushInterval(final long flushInterval) {
+        this.flushInterval = flushInterval;
     }
 
-    public int getRetryOnConflict() {
-        return retryOnConflict;
+    /**
+     * With values greater than 1, bulk requests could complete out of order: actions for the same document
+     * might then be applied in a different order than they were added.
+     *
+     * @param concurrentRequests number of bulk requests allowed to be executed while accumulating new actions
+     */
+    public void setConcurrentRequests(final int concurrentRequests) {
+        this.concurrentRequests = concurrentRequests;
+    }
+
+    /**
+     * Builds a new {@link BulkProcessor}, flushing when either the configured number of actions or size is
+     * reached, or the configured flush interval has elapsed.
+     *
+     * @param client Elasticsearch client
+     * @param listener bulk listener
+     * @return new bulk processor, to be closed by the caller
+     */
+    public BulkProcessor bulkProcessor(final Client client, final BulkProcessor.Listener listener) {
+        return BulkProcessor.builder(client, listener).
+                setBulkActions(bulkActions).
+                setBulkSize(new ByteSizeValue(bulkSizeMB, ByteSizeUnit.MB)).
+                setFlushInterval(TimeValue.timeValueMillis(flushInterval)).
+                setConcurrentRequests(concurrentRequests).
+                setBackoffPolicy(BackoffPolicy.exponentialBackoff()).
+                build();
     }
 
     /**
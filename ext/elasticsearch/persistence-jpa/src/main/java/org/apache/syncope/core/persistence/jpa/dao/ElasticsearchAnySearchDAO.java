@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
@@ -89,9 +90,9 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                     noRealm.getElements().add("Invalid realm specified: " + realmPath);
                     throw noRealm;
                 } else {
-                    realmDAO.findDescendants(realm).forEach(descendant -> {
-                        builder.add(QueryBuilders.termQuery("realm", descendant.getFullPath()));
-                    });
+                    builder.add(QueryBuilders.termQuery("realm", realm.getFullPath()));
+                    builder.add(QueryBuilders.prefixQuery(
+                            "realm", StringUtils.appendIfMissing(realm.getFullPath(), "/")));
                 }
             } else {
                 DynRealm dynRealm = dynRealmDAO.find(realmPath);
@@ -104,9 +105,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             }
         });
         if (!dynRealmKeys.isEmpty()) {
-            realmDAO.findAll().forEach(descendant -> {
-                builder.add(QueryBuilders.termQuery("realm", descendant.getFullPath()));
-            });
+            builder.add(QueryBuilders.prefixQuery("realm", SyncopeConstants.ROOT_REALM));
         }
 
         return Pair.of(builder, dynRealmKeys);
@@ -18,24 +18,35 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
-import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
-import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.ext.elasticsearch.client.ElasticsearchBulkListener;
+import org.apache.syncope.ext.elasticsearch.client.ElasticsearchIndexManager;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchUtils;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequestBuilder;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesResponse;
 import org.elasticsearch.action.admin.indices.create.CreateIndexRequest;
 import org.elasticsearch.action.admin.indices.create.CreateIndexResponse;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexResponse;
 import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsRequest;
-import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsResponse;
-import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.client.Client;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
@@ -43,16 +54,29 @@ import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
- * Remove and rebuild all Elasticsearch indexes with information from existing users, groups and any objects.
+ * Rebuild all Elasticsearch indexes with information from existing users, groups and any objects.
+ *
+ * A fresh index is built alongside the one currently in use; once fully populated, the alias named after the
+ * domain is atomically moved to the new index and the old one is removed, so that searches never hit a partial
+ * index.
+ *
+ * While the new index is being built, {@link ElasticsearchIndexManager} sends any change to both indexes: documents
+ * read by this job are only created if not already there, so that they never override more recent changes, and
+ * deletions are replayed before moving the alias.
  */
 public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate {
 
+    private static final long BULK_TIMEOUT_MINUTES = 10;
+
     @Autowired
     private Client client;
 
     @Autowired
     private ElasticsearchUtils elasticsearchUtils;
 
+    @Autowired
+    private ElasticsearchIndexManager indexManager;
+
     @Autowired
     private UserDAO userDAO;
 
@@ -62,103 +86,171 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate {
     @Autowired
     private AnyObjectDAO anyObjectDAO;
 
+    private void index(
+            final BulkProcessor bulkProcessor,
+            final String index,
+            final AnyDAO<?> anyDAO,
+            final AnyTypeKind kind) throws Exception {
+
+        String after = null;
+        List<? extends Any<?>> anys;
+        do {
+            anys = anyDAO.findAll(after, AnyDAO.DEFAULT_PAGE_SIZE);
+            for (Any<?> any : anys) {
+                bulkProcessor.add(client.prepareIndex(index, kind.name(), any.getKey()).
+                        setSource(elasticsearchUtils.builder(any)).
+                        setCreate(true).
+                        request());
+            }
+
+            if (!anys.isEmpty()) {
+                after = anys.get(anys.size() - 1).getKey();
+            }
+        } while (anys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+    }
+
+    private void createIndex(final String index) throws Exception {
+        XContentBuilder settings = XContentFactory.jsonBuilder().
+                startObject().
+                startObject("analysis").
+                startObject("analyzer").
+                startObject("string_lowercase").
+                field("type", "custom").
+                field("tokenizer", "standard").
+                field("filter").
+                startArray().
+                value("lowercase").
+                endArray().
+                endObject().
+                endObject().
+                endObject().
+                endObject();
+        XContentBuilder mapping = XContentFactory.jsonBuilder().
+                startObject().
+                startArray("dynamic_templates").
+                startObject().
+                startObject("strings").
+                field("match_mapping_type", "string").
+                startObject("mapping").
+                field("type", "keyword").
+                field("analyzer", "string_lowercase").
+                endObject().
+                endObject().
+                endObject().
+                endArray().
+                endObject();
+        CreateIndexResponse createIndexResponse = client.admin().indices().
+                create(new CreateIndexRequest(index).
+                        settings(settings).
+                        mapping(AnyTypeKind.USER.name(), mapping).
+                        mapping(AnyTypeKind.GROUP.name(), mapping).
+                        mapping(AnyTypeKind.ANY_OBJECT.name(), mapping)).
+                get();
+        LOG.debug("Successfully created {}: {}", index, createIndexResponse);
+    }
+
+    private void deleteIndex(final String index) throws Exception {
+        DeleteIndexResponse deleteIndexResponse = client.admin().indices().
+                delete(new DeleteIndexRequest(index)).
+                get();
+        LOG.debug("Successfully removed {}: {}", index, deleteIndexResponse);
+    }
+
+    private void replayDeleted(final String index) throws Exception {
+        Set<Pair<String, String>> deleted = indexManager.getReindexDeleted();
+        if (!deleted.isEmpty()) {
+            BulkRequestBuilder bulk = client.prepareBulk();
+            deleted.forEach(typeAndKey -> bulk.add(
+                    new DeleteRequest(index, typeAndKey.getLeft(), typeAndKey.getRight())));
+            BulkResponse response = bulk.get();
+            if (response.hasFailures()) {
+                throw new IllegalStateException("While replaying deletions: " + response.buildFailureMessage());
+            }
+            LOG.debug("{} deletions replayed on {}", deleted.size(), index);
+        }
+    }
+
+    private void swapAlias(final String alias, final String index) throws Exception {
+        List<String> previous = new ArrayList<>();
+
+        GetAliasesResponse aliases = client.admin().indices().prepareGetAliases(alias).get();
+        for (Iterator<String> itor = aliases.getAliases().keysIt(); itor.hasNext();) {
+            String aliased = itor.next();
+            if (!aliases.getAliases().get(aliased).isEmpty()) {
+                previous.add(aliased);
+            }
+        }
+
+        IndicesAliasesRequestBuilder request = client.admin().indices().prepareAliases();
+        if (previous.isEmpty()) {
+            if (client.admin().indices().exists(new IndicesExistsRequest(alias)).get().isExists()) {
+                // index created before aliases were in use: it must go away as the alias with same name is added
+                LOG.debug("Replacing concrete index {} with alias", alias);
+                request.addAliasAction(AliasActions.removeIndex().index(alias));
+            }
+        } else {
+            request.removeAlias(previous.toArray(new String[previous.size()]), alias);
+        }
+        request.addAlias(index, alias).get();
+        LOG.debug("Alias {} moved from {} to {}", alias, previous, index);
+
+        for (String old : previous) {
+            try {
+                deleteIndex(old);
+            } catch (Exception e) {
+                LOG.error("While removing previous index {}", old, e);
+            }
+        }
+    }
+
     @Override
     protected String doExecute(final boolean dryRun) throws JobExecutionException {
         if (!dryRun) {
+            String alias = AuthContextUtils.getDomain().toLowerCase();
+            String index = alias + "_" + System.currentTimeMillis();
             try {
-                LOG.debug("Start rebuild index {}", AuthContextUtils.getDomain().toLowerCase());
-
-                IndicesExistsResponse existsIndexResponse = client.admin().indices().
-                        exists(new IndicesExistsRequest(AuthContextUtils.getDomain().toLowerCase())).
-                        get();
-                if (existsIndexResponse.isExists()) {
-                    DeleteIndexResponse deleteIndexResponse = client.admin().indices().
-                            delete(new DeleteIndexRequest(AuthContextUtils.getDomain().toLowerCase())).
-                            get();
-                    LOG.debug("Successfully removed {}: {}",
-                            AuthContextUtils.getDomain().toLowerCase(), deleteIndexResponse);
-                }
+                LOG.debug("Start rebuild index {} as {}", alias, index);
 
-                XContentBuilder settings = XContentFactory.jsonBuilder().
-                        startObject().
-                        startObject("analysis").
-                        startObject("analyzer").
-                        startObject("string_lowercase").
-                        field("type", "custom").
-                        field("tokenizer", "standard").
-                        field("filter").
-                        startArray().
-                        value("lowercase").
-                        endArray().
-                        endObject().
-                        endObject().
-                        endObject().
-                        endObject();
-                XContentBuilder mapping = XContentFactory.jsonBuilder().
-                        startObject().
-                        startArray("dynamic_templates").
-                        startObject().
-                        startObject("strings").
-                        field("match_mapping_type", "string").
-                        startObject("mapping").
-                        field("type", "keyword").
-                        field("analyzer", "string_lowercase").
-                        endObject().
-                        endObject().
-                        endObject().
-                        endArray().
-                        endObject();
-                CreateIndexResponse createIndexResponse = client.admin().indices().
-                        create(new CreateIndexRequest(AuthContextUtils.getDomain().toLowerCase()).
-                                settings(settings).
-                                mapping(AnyTypeKind.USER.name(), mapping).
-                                mapping(AnyTypeKind.GROUP.name(), mapping).
-                                mapping(AnyTypeKind.ANY_OBJECT.name(), mapping)).
-                        get();
-                LOG.debug("Successfully created {}: {}",
-                        AuthContextUtils.getDomain().toLowerCase(), createIndexResponse);
-
-                LOG.debug("Indexing users...");
-                for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (User user : userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexResponse response = client.prepareIndex(
-                                AuthContextUtils.getDomain().toLowerCase(),
-                                AnyTypeKind.USER.name(),
-                                user.getKey()).
-                                setSource(elasticsearchUtils.builder(user)).
-                                get();
-                        LOG.debug("Index successfully created for {}: {}", user, response);
+                createIndex(index);
+                indexManager.startReindex(index);
+
+                ElasticsearchBulkListener listener = new ElasticsearchBulkListener();
+                BulkProcessor bulkProcessor = elasticsearchUtils.bulkProcessor(client, listener);
+                try {
+                    LOG.debug("Indexing users...");
+                    index(bulkProcessor, index, userDAO, AnyTypeKind.USER);
+                    LOG.debug("Indexing groups...");
+                    index(bulkProcessor, index, groupDAO, AnyTypeKind.GROUP);
+                    LOG.debug("Indexing any objects...");
+                    index(bulkProcessor, index, anyObjectDAO, AnyTypeKind.ANY_OBJECT);
+                } finally {
+                    if (!bulkProcessor.awaitClose(BULK_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                        throw new IllegalStateException("Pending bulk requests not completed within "
+                                + BULK_TIMEOUT_MINUTES + " minutes");
                     }
                 }
-                LOG.debug("Indexing groups...");
-                for (int page = 1; page <= (groupDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (Group group : groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexResponse response = client.prepareIndex(
-                                AuthContextUtils.getDomain().toLowerCase(),
-                                AnyTypeKind.GROUP.name(),
-                                group.getKey()).
-                                setSource(elasticsearchUtils.builder(group)).
-                                get();
-                        LOG.debug("Index successfully created for {}: {}", group, response);
-                    }
+                if (listener.getFailed() > 0) {
+                    throw new IllegalStateException(listener.getFailed() + " documents could not be indexed");
                 }
-                LOG.debug("Indexing any objects...");
-                for (int page = 1; page <= (anyObjectDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (AnyObject anyObject : anyObjectDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexResponse response = client.prepareIndex(
-                                AuthContextUtils.getDomain().toLowerCase(),
-                                AnyTypeKind.ANY_OBJECT.name(),
-                                anyObject.getKey()).
-                                setSource(elasticsearchUtils.builder(anyObject)).
-                                get();
-                        LOG.debug("Index successfully created for {}: {}", anyObject, response);
+                LOG.debug("{} documents indexed in {}, {} already there",
+                        listener.getSucceeded(), index, listener.getConflicts());
+
+                replayDeleted(index);
+                swapAlias(alias, index);
+                indexManager.stopReindex();
+
+                LOG.debug("Rebuild index {} successfully completed", alias);
+            } catch (Exception e) {
+                indexManager.stopReindex();
+                try {
+                    if (client.admin().indices().exists(new IndicesExistsRequest(index)).get().isExists()) {
+                        deleteIndex(index);
                     }
+                } catch (Exception ce) {
+                    LOG.error("While removing incomplete index {}", index, ce);
                 }
 
-                LOG.debug("Rebuild index {} successfully completed", AuthContextUtils.getDomain().toLowerCase());
-            } catch (Exception e) {
-                throw new JobExecutionException(
-                        "While rebuilding index " + AuthContextUtils.getDomain().toLowerCase(), e);
+                throw new JobExecutionException("While rebuilding index " + alias, e);
             }
         }
 
@@ -54,6 +54,9 @@ public class SAML2IdPCache {
     @Autowired
     private SAML2IdPDataBinder binder;
 
+    @Autowired
+    private SAML2ReaderWriter saml2rw;
+
     public SAML2IdPEntity get(final String entityID) {
         return cache.get(entityID);
     }
@@ -69,6 +72,7 @@ public class SAML2IdPCache {
 
         SAML2IdPEntity idp = new SAML2IdPEntity(entityDescriptor, idpTO, loader.getKeyPass());
         cache.put(entityDescriptor.getEntityID(), idp);
+        saml2rw.invalidate(entityDescriptor.getEntityID());
         return idp;
     }
 
@@ -84,6 +88,7 @@ public class SAML2IdPCache {
     }
 
     public SAML2IdPEntity remove(final String entityID) {
+        saml2rw.invalidate(entityID);
         return cache.remove(entityID);
     }
 }
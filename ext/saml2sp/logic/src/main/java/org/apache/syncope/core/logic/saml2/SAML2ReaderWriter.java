@@ -32,6 +32,8 @@ import java.util.Base64;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.SignatureException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.DataFormatException;
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLStreamException;
@@ -45,6 +47,7 @@ import org.apache.cxf.rs.security.saml.DeflateEncoderDecoder;
 import org.apache.cxf.rs.security.saml.sso.SAMLProtocolResponseValidator;
 import org.apache.cxf.rs.security.saml.sso.SAMLSSOResponseValidator;
 import org.apache.cxf.rs.security.saml.sso.SSOValidatorResponse;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.cxf.staxutils.StaxUtils;
 import org.apache.syncope.common.lib.SSOConstants;
 import org.apache.syncope.common.lib.types.SAML2BindingType;
@@ -95,6 +98,16 @@ public class SAML2ReaderWriter {
 
     private SAMLSPCallbackHandler callbackHandler;
 
+    private volatile PrivateKey privateKey;
+
+    private final SAMLProtocolResponseValidator protocolValidator = new SAMLProtocolResponseValidator();
+
+    /**
+     * Crypto instances for response validation, by IdP entity ID: each is bound to the {@link SAML2IdPEntity}
+     * instance it was built for, as such instance gets replaced whenever the IdP is updated.
+     */
+    private final Map<String, Pair<SAML2IdPEntity, Merlin>> idpCryptos = new ConcurrentHashMap<>();
+
     public void init() {
         X509KeyInfoGeneratorFactory keyInfoGeneratorFactory = new X509KeyInfoGeneratorFactory();
         keyInfoGeneratorFactory.setEmitEntityCertificate(true);
@@ -127,6 +140,47 @@ public class SAML2ReaderWriter {
         }
 
         callbackHandler = new SAMLSPCallbackHandler(loader.getKeyPass());
+
+        protocolValidator.setKeyInfoMustBeAvailable(true);
+
+        // SP keystore might have changed: drop anything built from the previous one
+        privateKey = null;
+        idpCryptos.clear();
+    }
+
+    /**
+     * Discards cached crypto material for the given IdP, to be invoked when such IdP is updated or removed.
+     *
+     * @param entityID IdP entity ID
+     */
+    public void invalidate(final String entityID) {
+        idpCryptos.remove(entityID);
+    }
+
+    private PrivateKey getPrivateKey() throws WSSecurityException {
+        if (privateKey == null) {
+            synchronized (this) {
+                if (privateKey == null) {
+                    Merlin crypto = new Merlin();
+                    crypto.setKeyStore(loader.getKeyStore());
+                    privateKey = crypto.getPrivateKey(loader.getCredential().getPublicKey(), callbackHandler);
+                }
+            }
+        }
+        return privateKey;
+    }
+
+    Merlin getCrypto(final SAML2IdPEntity idp) {
+        return idpCryptos.compute(idp.getId(), (entityID, cached) -> {
+            if (cached != null && cached.getLeft() == idp) {
+                return cached;
+            }
+
+            Merlin crypto = new Merlin();
+            crypto.setKeyStore(loader.getKeyStore());
+            crypto.setTrustStore(idp.getTrustStore());
+            return Pair.of(idp, crypto);
+        }).getRight();
     }
 
     public String getSigAlgo() {
@@ -186,12 +240,8 @@ public class SAML2ReaderWriter {
             throws NoSuchAlgorithmException, WSSecurityException, InvalidKeyException, UnsupportedEncodingException,
             SignatureException {
 
-        Merlin crypto = new Merlin();
-        crypto.setKeyStore(loader.getKeyStore());
-        PrivateKey privateKey = crypto.getPrivateKey(loader.getCredential().getPublicKey(), callbackHandler);
-
         java.security.Signature signature = java.security.Signature.getInstance(jceSigAlgo);
-        signature.initSign(privateKey);
+        signature.initSign(getPrivateKey());
 
         String requestToSign =
                 SSOConstants.SAML_REQUEST + "=" + request + "&"
@@ -230,13 +280,7 @@ public class SAML2ReaderWriter {
             throws WSSecurityException {
 
         // validate the SAML response and, if needed, decrypt the provided assertion(s)
-        Merlin crypto = new Merlin();
-        crypto.setKeyStore(loader.getKeyStore());
-        crypto.setTrustStore(idp.getTrustStore());
-
-        SAMLProtocolResponseValidator protocolValidator = new SAMLProtocolResponseValidator();
-        protocolValidator.setKeyInfoMustBeAvailable(true);
-        protocolValidator.validateSamlResponse(samlResponse, crypto, callbackHandler);
+        protocolValidator.validateSamlResponse(samlResponse, getCrypto(idp), callbackHandler);
 
         SAMLSSOResponseValidator ssoResponseValidator = new SAMLSSOResponseValidator();
         ssoResponseValidator.setAssertionConsumerURL(assertionConsumerURL);
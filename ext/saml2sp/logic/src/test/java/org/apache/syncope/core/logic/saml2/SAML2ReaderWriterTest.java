@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.saml2;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.StringReader;
+import java.security.KeyStore;
+import org.apache.syncope.common.lib.to.SAML2IdPTO;
+import org.apache.syncope.core.logic.init.SAML2SPLoader;
+import org.apache.wss4j.common.crypto.Merlin;
+import org.apache.wss4j.common.saml.OpenSAMLUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.w3c.dom.Element;
+
+public class SAML2ReaderWriterTest {
+
+    private static final String ENTITY_ID = "https://idp.example.org/saml2";
+
+    private static final String METADATA =
+            "<md:EntityDescriptor xmlns:md=\"urn:oasis:names:tc:SAML:2.0:metadata\" entityID=\"" + ENTITY_ID + "\">"
+            + "<md:IDPSSODescriptor protocolSupportEnumeration=\"urn:oasis:names:tc:SAML:2.0:protocol\">"
+            + "<md:SingleSignOnService Binding=\"urn:oasis:names:tc:SAML:2.0:bindings:HTTP-Redirect\" "
+            + "Location=\"https://idp.example.org/saml2/sso\"/>"
+            + "</md:IDPSSODescriptor>"
+            + "</md:EntityDescriptor>";
+
+    private SAML2ReaderWriter saml2rw;
+
+    private SAML2IdPCache cache;
+
+    private EntityDescriptor entityDescriptor;
+
+    @Before
+    public void before() throws Exception {
+        // class initialization takes care of initializing OpenSAML
+        SAML2SPLoader loader = new SAML2SPLoader();
+        KeyStore keystore = KeyStore.getInstance(KeyStore.getDefaultType());
+        keystore.load(null, "password".toCharArray());
+        ReflectionTestUtils.setField(loader, "keystore", keystore);
+        ReflectionTestUtils.setField(loader, "keyPass", "password");
+
+        saml2rw = new SAML2ReaderWriter();
+        ReflectionTestUtils.setField(saml2rw, "loader", loader);
+
+        cache = new SAML2IdPCache();
+        ReflectionTestUtils.setField(cache, "loader", loader);
+        ReflectionTestUtils.setField(cache, "saml2rw", saml2rw);
+
+        Element element = OpenSAMLUtil.getParserPool().parse(new StringReader(METADATA)).getDocumentElement();
+        entityDescriptor = (EntityDescriptor) OpenSAMLUtil.fromDom(element);
+    }
+
+    @Test
+    public void cryptoIsCached() throws Exception {
+        SAML2IdPEntity idp = cache.put(entityDescriptor, new SAML2IdPTO());
+
+        Merlin crypto = saml2rw.getCrypto(idp);
+        assertNotNull(crypto);
+        assertSame(crypto, saml2rw.getCrypto(idp));
+    }
+
+    @Test
+    public void putInvalidates() throws Exception {
+        SAML2IdPEntity idp = cache.put(entityDescriptor, new SAML2IdPTO());
+        Merlin crypto = saml2rw.getCrypto(idp);
+
+        SAML2IdPEntity updated = cache.put(entityDescriptor, new SAML2IdPTO());
+
+        // even when asked for the very same entity instance, a new crypto is built
+        assertNotSame(crypto, saml2rw.getCrypto(idp));
+        assertNotSame(crypto, saml2rw.getCrypto(updated));
+    }
+
+    @Test
+    public void removeInvalidates() throws Exception {
+        SAML2IdPEntity idp = cache.put(entityDescriptor, new SAML2IdPTO());
+        Merlin crypto = saml2rw.getCrypto(idp);
+
+        cache.remove(ENTITY_ID);
+
+        assertNotSame(crypto, saml2rw.getCrypto(idp));
+    }
+}
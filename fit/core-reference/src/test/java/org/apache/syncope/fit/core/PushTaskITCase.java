@@ -105,6 +105,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         task.getFilters().put(AnyTypeKind.GROUP.name(),
                 SyncopeClient.getGroupSearchConditionBuilder().isNotNull("cool").query());
         task.setMatchingRule(MatchingRule.LINK);
+        task.setParallelism(4);
 
         final Response response = taskService.create(task);
         final PushTaskTO actual = getObject(response.getLocation(), TaskService.class, PushTaskTO.class);
@@ -120,6 +121,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
                 actual.getFilters().get(AnyTypeKind.GROUP.name()));
         assertEquals(UnmatchingRule.ASSIGN, actual.getUnmatchingRule());
         assertEquals(MatchingRule.LINK, actual.getMatchingRule());
+        assertEquals(4, actual.getParallelism());
     }
 
     @Test
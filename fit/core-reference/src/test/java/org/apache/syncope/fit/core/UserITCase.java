@@ -26,6 +26,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.security.AccessControlException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -53,6 +54,7 @@ import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.policy.AccountPolicyTO;
 import org.apache.syncope.common.lib.policy.PasswordPolicyTO;
 import org.apache.syncope.common.lib.to.AttrTO;
+import org.apache.syncope.common.lib.to.BatchItemResult;
 import org.apache.syncope.common.lib.to.BulkAction;
 import org.apache.syncope.common.lib.to.BulkActionResult;
 import org.apache.syncope.common.lib.to.BulkActionResult.Status;
@@ -64,6 +66,7 @@ import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.to.ResourceTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.RealmTO;
+import org.apache.syncope.common.lib.to.UserBatchItem;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -1320,4 +1323,53 @@ public class UserITCase extends AbstractITCase {
         // verify user was removed by the backend REST service
         assertEquals(404, webClient.get().getStatus());
     }
+
+    @Test
+    public void batch() {
+        UserTO user1 = getUniqueSampleTO("batch1@syncope.apache.org");
+        UserTO user2 = getUniqueSampleTO("batch2@syncope.apache.org");
+
+        // 1. create two users, plus an invalid operation
+        List<UserBatchItem> items = new ArrayList<>();
+        items.add(new UserBatchItem.Builder().create(user1, true).build());
+        items.add(new UserBatchItem.Builder().create(user2, false).build());
+        items.add(new UserBatchItem.Builder().update(null).build());
+
+        Map<Long, BatchItemResult> results = new HashMap<>();
+        adminClient.batch(items, 2, result -> results.put(result.getIndex(), result));
+
+        assertEquals(3, results.size());
+        assertEquals(Status.SUCCESS, results.get(0L).getStatus());
+        assertEquals(Status.SUCCESS, results.get(1L).getStatus());
+        assertEquals(Status.FAILURE, results.get(2L).getStatus());
+        assertEquals(ClientExceptionType.RequiredValuesMissing, results.get(2L).getErrors().get(0).getType());
+
+        String key1 = results.get(0L).getKey();
+        String key2 = results.get(1L).getKey();
+        assertEquals(user1.getUsername(), userService.read(key1).getUsername());
+
+        // 2. update the first, delete the second
+        UserPatch patch = new UserPatch();
+        patch.setKey(key1);
+        patch.setUsername(new StringReplacePatchItem.Builder().value("batch" + getUUIDString()).build());
+
+        items.clear();
+        items.add(new UserBatchItem.Builder().update(patch).build());
+        items.add(new UserBatchItem.Builder().delete(key2).build());
+
+        results.clear();
+        adminClient.batch(items, 2, result -> results.put(result.getIndex(), result));
+
+        assertEquals(2, results.size());
+        assertTrue(results.values().stream().allMatch(result -> result.getStatus() == Status.SUCCESS));
+        assertEquals(patch.getUsername().getValue(), userService.read(key1).getUsername());
+        try {
+            userService.read(key2);
+            fail();
+        } catch (SyncopeClientException e) {
+            assertEquals(ClientExceptionType.NotFound, e.getType());
+        }
+
+        userService.delete(key1);
+    }
 }
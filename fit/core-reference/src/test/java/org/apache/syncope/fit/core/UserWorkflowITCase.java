@@ -28,7 +28,6 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.UUID;
 import javax.sql.DataSource;
 import javax.ws.rs.core.Response;
@@ -40,9 +39,11 @@ import org.apache.syncope.common.lib.patch.StringPatchItem;
 import org.apache.syncope.common.lib.patch.StringReplacePatchItem;
 import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.to.MembershipTO;
+import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.to.WorkflowFormTO;
+import org.apache.syncope.common.rest.api.beans.WorkflowFormQuery;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.rest.api.service.UserSelfService;
@@ -143,9 +144,10 @@ public class UserWorkflowITCase extends AbstractITCase {
         Assume.assumeTrue(FlowableDetector.isFlowableEnabledForUsers(syncopeService));
 
         // read forms *before* any operation
-        List<WorkflowFormTO> forms = userWorkflowService.getForms();
+        PagedResult<WorkflowFormTO> forms =
+                userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
         assertNotNull(forms);
-        int preForms = forms.size();
+        int preForms = forms.getTotalCount();
 
         UserTO userTO = UserITCase.getUniqueSampleTO("createWithApproval@syncope.apache.org");
         userTO.getResources().add(RESOURCE_NAME_TESTDB);
@@ -177,9 +179,20 @@ public class UserWorkflowITCase extends AbstractITCase {
         assertNotNull(exception);
 
         // 2. request if there is any pending form for user just created
-        forms = userWorkflowService.getForms();
+        forms = userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
         assertNotNull(forms);
-        assertEquals(preForms + 1, forms.size());
+        assertEquals(preForms + 1, forms.getTotalCount());
+
+        // 2a. the pending form can be found by form key, but not by an unknown one
+        forms = userWorkflowService.getForms(new WorkflowFormQuery.Builder().
+                page(1).size(1000).formKey("createApproval").candidateGroup("managingDirector").build());
+        assertTrue(forms.getResult().stream().anyMatch(f -> "createApproval".equals(f.getKey())));
+        assertEquals(forms.getTotalCount(), forms.getResult().size());
+
+        forms = userWorkflowService.getForms(new WorkflowFormQuery.Builder().
+                page(1).size(1000).formKey("notExistingFormKey").build());
+        assertEquals(0, forms.getTotalCount());
+        assertTrue(forms.getResult().isEmpty());
 
         // 3. as admin, request for changes: still pending approval
         String updatedUsername = "changed-" + UUID.randomUUID().toString();
@@ -229,9 +242,10 @@ public class UserWorkflowITCase extends AbstractITCase {
         Assume.assumeTrue(FlowableDetector.isFlowableEnabledForUsers(syncopeService));
 
         // read forms *before* any operation
-        List<WorkflowFormTO> forms = userWorkflowService.getForms();
+        PagedResult<WorkflowFormTO> forms =
+                userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
         assertNotNull(forms);
-        int preForms = forms.size();
+        int preForms = forms.getTotalCount();
 
         UserTO created = createUser(UserITCase.getUniqueSampleTO("updateApproval@syncope.apache.org")).getEntity();
         assertNotNull(created);
@@ -247,9 +261,9 @@ public class UserWorkflowITCase extends AbstractITCase {
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals("updateApproval", userService.read(created.getKey()).getStatus());
 
-        forms = userWorkflowService.getForms();
+        forms = userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
         assertNotNull(forms);
-        assertEquals(preForms + 1, forms.size());
+        assertEquals(preForms + 1, forms.getTotalCount());
 
         WorkflowFormTO form = userWorkflowService.getFormForUser(created.getKey());
         assertNotNull(form);
@@ -287,9 +301,10 @@ public class UserWorkflowITCase extends AbstractITCase {
         Assume.assumeTrue(FlowableDetector.isFlowableEnabledForUsers(syncopeService));
 
         // read forms *before* any operation
-        List<WorkflowFormTO> forms = userWorkflowService.getForms();
+        PagedResult<WorkflowFormTO> forms =
+                userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
         assertNotNull(forms);
-        int preForms = forms.size();
+        int preForms = forms.getTotalCount();
 
         UserTO userTO = UserITCase.getUniqueSampleTO("issueSYNCOPE15@syncope.apache.org");
         userTO.getResources().clear();
@@ -312,8 +327,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         assertEquals(userTO.getCreationDate(), userTO.getLastChangeDate());
 
         // 2. request if there is any pending form for user just created
-        forms = userWorkflowService.getForms();
-        assertEquals(preForms + 1, forms.size());
+        forms = userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
+        assertEquals(preForms + 1, forms.getTotalCount());
 
         WorkflowFormTO form = userWorkflowService.getFormForUser(userTO.getKey());
         assertNotNull(form);
@@ -336,12 +351,13 @@ public class UserWorkflowITCase extends AbstractITCase {
         // 6. submit approve
         userTO = userWorkflowService.submitForm(form);
         assertNotNull(userTO);
-        assertEquals(preForms, userWorkflowService.getForms().size());
+        assertEquals(preForms, userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1).build()).getTotalCount());
         assertNull(userWorkflowService.getFormForUser(userTO.getKey()));
 
         // 7.check that no more forms are still to be processed
-        forms = userWorkflowService.getForms();
-        assertEquals(preForms, forms.size());
+        forms = userWorkflowService.getForms(new WorkflowFormQuery.Builder().page(1).size(1).build());
+        assertEquals(preForms, forms.getTotalCount());
     }
 
 }